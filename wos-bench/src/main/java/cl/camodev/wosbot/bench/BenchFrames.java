@@ -0,0 +1,229 @@
+package cl.camodev.wosbot.bench;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import cl.camodev.wosbot.console.enumerable.EnumTemplates;
+import cl.camodev.wosbot.ot.DTORawImage;
+import nu.pattern.OpenCV;
+
+/**
+ * Frame loading helpers shared by the benchmarks.
+ * <p>
+ * Recorded screencaps are read from the directory given by the
+ * {@code wos.bench.frames} system property. Each {@code *.raw} file holds the
+ * unmodified output of {@code adb shell screencap}: a 12-byte little-endian
+ * header (width, height, format) followed by the pixel data. When no recording
+ * is available the {@link #sampleFrame() sample frame} is used instead, so the
+ * benchmarks can always run.
+ */
+public final class BenchFrames {
+
+	public static final String FRAMES_PROPERTY = "wos.bench.frames";
+	public static final int SCREEN_WIDTH = 720;
+	public static final int SCREEN_HEIGHT = 1280;
+
+	private static final int HEADER_SIZE = 12;
+
+	/**
+	 * Real templates drawn into the sample frame, with the top-left corner of each copy.
+	 * {@code ISLAND_LIKE_BUTTON} has a mask, {@code EXPLORATION_CLAIM} appears three times.
+	 */
+	public enum SampleTemplate {
+		GAME_HOME_PETS(EnumTemplates.GAME_HOME_PETS, new int[][] { { 600, 900 } }),
+		GAME_HOME_INTEL(EnumTemplates.GAME_HOME_INTEL, new int[][] { { 640, 980 } }),
+		HOME_DEALS_BUTTON(EnumTemplates.HOME_DEALS_BUTTON, new int[][] { { 40, 260 } }),
+		ISLAND_LIKE_BUTTON(EnumTemplates.ISLAND_LIKE_BUTTON, new int[][] { { 320, 1140 } }),
+		EXPLORATION_CLAIM(EnumTemplates.EXPLORATION_CLAIM, new int[][] { { 500, 400 }, { 500, 560 }, { 500, 720 } });
+
+		private final EnumTemplates template;
+		private final int[][] positions;
+
+		SampleTemplate(EnumTemplates template, int[][] positions) {
+			this.template = template;
+			this.positions = positions;
+		}
+
+		public EnumTemplates getTemplate() {
+			return template;
+		}
+
+		public int[][] getPositions() {
+			return positions;
+		}
+	}
+	private static volatile boolean openCVLoaded = false;
+
+	private BenchFrames() {
+	}
+
+	/**
+	 * Loads the OpenCV native library bundled with the openpnp artifact.
+	 */
+	public static synchronized void loadOpenCV() {
+		if (!openCVLoaded) {
+			OpenCV.loadLocally();
+			openCVLoaded = true;
+		}
+	}
+
+	/**
+	 * Loads every recorded frame, or a single synthetic frame if none are available.
+	 *
+	 * @return Frames in RGBA_8888 (32 bpp) format
+	 */
+	public static List<DTORawImage> loadFrames() throws IOException {
+		List<DTORawImage> frames = new ArrayList<>();
+		String directory = System.getProperty(FRAMES_PROPERTY);
+		if (directory != null && !directory.isBlank()) {
+			Path dir = Paths.get(directory);
+			try (Stream<Path> files = Files.list(dir)) {
+				for (Path file : files.filter(f -> f.toString().endsWith(".raw")).sorted().toList()) {
+					frames.add(parseScreencap(Files.readAllBytes(file)));
+				}
+			}
+		}
+		if (frames.isEmpty()) {
+			frames.add(sampleFrame());
+		}
+		return frames;
+	}
+
+	/**
+	 * Builds the synthetic 720x1280 background with every {@link SampleTemplate}
+	 * drawn at its positions, so template searches find real matches.
+	 *
+	 * @return Frame in RGBA_8888 (32 bpp) format
+	 */
+	public static DTORawImage sampleFrame() throws IOException {
+		DTORawImage frame = syntheticFrame(SCREEN_WIDTH, SCREEN_HEIGHT, 42L);
+		byte[] data = frame.getData();
+		for (SampleTemplate sample : SampleTemplate.values()) {
+			BufferedImage template = readTemplate(sample.getTemplate());
+			for (int[] position : sample.getPositions()) {
+				for (int y = 0; y < template.getHeight(); y++) {
+					int index = ((position[1] + y) * SCREEN_WIDTH + position[0]) * 4;
+					for (int x = 0; x < template.getWidth(); x++) {
+						int rgb = template.getRGB(x, y);
+						data[index] = (byte) (rgb >> 16);
+						data[index + 1] = (byte) (rgb >> 8);
+						data[index + 2] = (byte) rgb;
+						data[index + 3] = (byte) 0xFF;
+						index += 4;
+					}
+				}
+			}
+		}
+		return frame;
+	}
+
+	/**
+	 * Encodes a frame back into raw {@code screencap} output (header + pixels).
+	 */
+	public static byte[] toScreencap(DTORawImage frame) {
+		byte[] screencap = new byte[HEADER_SIZE + frame.getLength()];
+		writeIntLE(screencap, 0, frame.getWidth());
+		writeIntLE(screencap, 4, frame.getHeight());
+		writeIntLE(screencap, 8, frame.getBpp() == 16 ? 4 : 1);
+		System.arraycopy(frame.getData(), frame.getOffset(), screencap, HEADER_SIZE, frame.getLength());
+		return screencap;
+	}
+
+	private static BufferedImage readTemplate(EnumTemplates template) throws IOException {
+		try (InputStream in = BenchFrames.class.getResourceAsStream(template.getTemplate())) {
+			if (in == null) {
+				throw new IOException("Template resource not found: " + template.getTemplate());
+			}
+			return ImageIO.read(in);
+		}
+	}
+
+	/**
+	 * Returns the first available frame in the requested pixel format.
+	 *
+	 * @param bpp 32 for RGBA_8888, 16 for RGB_565
+	 */
+	public static DTORawImage firstFrame(int bpp) throws IOException {
+		DTORawImage frame = loadFrames().get(0);
+		if (bpp == 16 && frame.getBpp() == 32) {
+			return toRgb565(frame);
+		}
+		return frame;
+	}
+
+	/**
+	 * Parses raw {@code screencap} output (header + pixels).
+	 */
+	public static DTORawImage parseScreencap(byte[] screencap) {
+		if (screencap.length < HEADER_SIZE) {
+			throw new IllegalArgumentException("Invalid screencap data: too small");
+		}
+		int width = readIntLE(screencap, 0);
+		int height = readIntLE(screencap, 4);
+		int format = readIntLE(screencap, 8);
+		byte[] pixels = new byte[screencap.length - HEADER_SIZE];
+		System.arraycopy(screencap, HEADER_SIZE, pixels, 0, pixels.length);
+		return new DTORawImage(pixels, width, height, (format == 1) ? 32 : 16);
+	}
+
+	/**
+	 * Builds a reproducible RGBA frame with gradients and noise so that template
+	 * matching and color conversion do real work.
+	 */
+	public static DTORawImage syntheticFrame(int width, int height, long seed) {
+		Random random = new Random(seed);
+		byte[] data = new byte[width * height * 4];
+		int index = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				data[index] = (byte) ((x * 255 / width) ^ random.nextInt(16));
+				data[index + 1] = (byte) ((y * 255 / height) ^ random.nextInt(16));
+				data[index + 2] = (byte) (((x + y) & 0xFF) ^ random.nextInt(16));
+				data[index + 3] = (byte) 0xFF;
+				index += 4;
+			}
+		}
+		return new DTORawImage(data, width, height, 32);
+	}
+
+	/**
+	 * Converts an RGBA_8888 frame into RGB_565 (little-endian), the other format
+	 * screencap can produce.
+	 */
+	public static DTORawImage toRgb565(DTORawImage frame) {
+		byte[] rgba = frame.getData();
+		int pixels = frame.getWidth() * frame.getHeight();
+		byte[] data = new byte[pixels * 2];
+		for (int i = 0; i < pixels; i++) {
+			int r = rgba[i * 4] & 0xFF;
+			int g = rgba[i * 4 + 1] & 0xFF;
+			int b = rgba[i * 4 + 2] & 0xFF;
+			int pixel = ((r >> 3) << 11) | ((g >> 2) << 5) | (b >> 3);
+			data[i * 2] = (byte) (pixel & 0xFF);
+			data[i * 2 + 1] = (byte) ((pixel >> 8) & 0xFF);
+		}
+		return new DTORawImage(data, frame.getWidth(), frame.getHeight(), 16);
+	}
+
+	private static void writeIntLE(byte[] data, int offset, int value) {
+		data[offset] = (byte) value;
+		data[offset + 1] = (byte) (value >> 8);
+		data[offset + 2] = (byte) (value >> 16);
+		data[offset + 3] = (byte) (value >> 24);
+	}
+
+	private static int readIntLE(byte[] data, int offset) {
+		return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) | ((data[offset + 2] & 0xFF) << 16)
+				| ((data[offset + 3] & 0xFF) << 24);
+	}
+}
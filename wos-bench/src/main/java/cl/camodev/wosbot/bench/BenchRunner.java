@@ -0,0 +1,38 @@
+package cl.camodev.wosbot.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line, but
+ * writes machine-readable JSON results to {@code jmh-result.json} unless another
+ * result format is requested, so runs can be compared across changes.
+ */
+public final class BenchRunner {
+
+	private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+	private BenchRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmd = new CommandLineOptions(args);
+		if (cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListProfilers() || cmd.shouldListResultFormats()) {
+			// Informational flags are handled by the stock JMH main
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+		if (!cmd.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+			if (!cmd.getResult().hasValue()) {
+				options.result(DEFAULT_RESULT_FILE);
+			}
+		}
+		new Runner(options.build()).run();
+	}
+}
@@ -0,0 +1,131 @@
+package cl.camodev.wosbot.bench;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cl.camodev.utiles.UtilOCR;
+import cl.camodev.utiles.ocr.TesseractEnginePool;
+import cl.camodev.utiles.ocr.TesseractEnginePool.EngineKey;
+import cl.camodev.utiles.ocr.TesseractEnginePool.TesseractEngine;
+import cl.camodev.wosbot.ot.DTOArea;
+import cl.camodev.wosbot.ot.DTORawImage;
+import cl.camodev.wosbot.ot.DTOTesseractSettings;
+import cl.camodev.wosbot.serv.task.constants.CommonGameAreas;
+import cl.camodev.wosbot.serv.task.constants.CommonOCRSettings;
+import net.sourceforge.tess4j.Tesseract;
+import net.sourceforge.tess4j.TesseractException;
+import net.sourceforge.tess4j.util.ImageIOHelper;
+
+/**
+ * Per-OCR latency on the regions read with the {@link CommonOCRSettings}
+ * configurations, comparing a freshly initialized Tesseract per call (the
+ * previous behavior) against the pooled engines used by UtilOCR. The
+ * {@code ocrFromRegion} case adds region extraction on top of the pooled engine.
+ * <p>
+ * Must be run from the repository root so that {@code lib/tesseract} resolves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OcrEngineBenchmark {
+
+	public enum OcrRegion {
+		STAMINA(CommonGameAreas.STAMINA_OCR_AREA, CommonOCRSettings.STAMINA_FRACTION_SETTINGS),
+		SPENT_STAMINA(CommonGameAreas.SPENT_STAMINA_OCR_AREA, CommonOCRSettings.SPENT_STAMINA_SETTINGS),
+		TRAVEL_TIME(CommonGameAreas.TRAVEL_TIME_OCR_AREA, CommonOCRSettings.TRAVEL_TIME_SETTINGS);
+
+		private final DTOArea area;
+		private final DTOTesseractSettings settings;
+
+		OcrRegion(DTOArea area, DTOTesseractSettings settings) {
+			this.area = area;
+			this.settings = settings;
+		}
+	}
+
+	@Param({ "STAMINA", "SPENT_STAMINA", "TRAVEL_TIME" })
+	public OcrRegion region;
+
+	private DTORawImage frame;
+	private BufferedImage regionImage;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		frame = BenchFrames.firstFrame(32);
+
+		DTOArea area = region.area;
+		BufferedImage full = UtilOCR.convertRawImageToBufferedImage(frame);
+		regionImage = upscale(full.getSubimage(area.topLeft().getX(), area.topLeft().getY(),
+				area.bottomRight().getX() - area.topLeft().getX(),
+				area.bottomRight().getY() - area.topLeft().getY()), 4);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		TesseractEnginePool.clear();
+	}
+
+	@Benchmark
+	public String freshEngine() throws TesseractException {
+		DTOTesseractSettings settings = region.settings;
+		Tesseract tesseract = new Tesseract();
+		tesseract.setDatapath(TesseractEnginePool.DATA_PATH);
+		tesseract.setLanguage("eng");
+		if (settings.hasPageSegMode()) {
+			tesseract.setPageSegMode(settings.getPageSegMode());
+		}
+		if (settings.hasOcrEngineMode()) {
+			tesseract.setOcrEngineMode(settings.getOcrEngineMode());
+		}
+		if (settings.hasAllowedChars()) {
+			tesseract.setVariable("tessedit_char_whitelist", settings.getAllowedChars());
+		}
+		return tesseract.doOCR(regionImage);
+	}
+
+	@Benchmark
+	public String pooledEngine() throws TesseractException {
+		TesseractEngine engine = TesseractEnginePool.acquire(EngineKey.of("eng", region.settings));
+		try {
+			return engine.recognize(ImageIOHelper.getImageByteBuffer(regionImage), regionImage.getWidth(),
+					regionImage.getHeight(), 1, regionImage.getWidth());
+		} finally {
+			TesseractEnginePool.release(engine);
+		}
+	}
+
+	@Benchmark
+	public String ocrFromRegion() throws TesseractException {
+		return UtilOCR.ocrFromRegion(frame, region.area.topLeft(), region.area.bottomRight(), region.settings);
+	}
+
+	private static BufferedImage upscale(BufferedImage source, int scaleFactor) {
+		int width = source.getWidth() * scaleFactor;
+		int height = source.getHeight() * scaleFactor;
+		BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				result.setRGB(x, y, source.getRGB(x / scaleFactor, y / scaleFactor));
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,104 @@
+package cl.camodev.wosbot.bench;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.opencv.core.CvType;
+import org.opencv.core.Mat;
+import org.opencv.core.Rect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cl.camodev.utiles.ImageSearchUtil;
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * Compares the per-pixel {@code Mat.put} conversion that ImageSearchUtil used
+ * to perform against the bulk put + native cvtColor path, and against the
+ * ROI-only grayscale conversion used by the template searches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RawFrameConversionBenchmark {
+
+	// Typical button-sized search area
+	private static final Rect BUTTON_REGION = new Rect(480, 1100, 200, 120);
+
+	@Param({ "32", "16" })
+	public int bpp;
+
+	private DTORawImage frame;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		BenchFrames.loadOpenCV();
+		frame = BenchFrames.firstFrame(bpp);
+	}
+
+	@Benchmark
+	public void legacyPerPixelPut(Blackhole blackhole) {
+		Mat mat = legacyConvertRawDataToMat(frame.getData(), frame.getWidth(), frame.getHeight(), frame.getBpp());
+		blackhole.consume(mat.cols());
+		mat.release();
+	}
+
+	@Benchmark
+	public void bulkCvtColor(Blackhole blackhole) {
+		Mat mat = ImageSearchUtil.convertRawDataToMat(frame.getData(), frame.getWidth(), frame.getHeight(),
+				frame.getBpp());
+		blackhole.consume(mat.cols());
+	}
+
+	@Benchmark
+	public void regionGrayscale(Blackhole blackhole) {
+		Mat mat = ImageSearchUtil.convertRawRegionToMat(frame.getData(), frame.getWidth(), frame.getHeight(),
+				frame.getBpp(), BUTTON_REGION, true);
+		blackhole.consume(mat.cols());
+	}
+
+	/**
+	 * Previous implementation, kept here as the baseline.
+	 */
+	private static Mat legacyConvertRawDataToMat(byte[] rawData, int width, int height, int bpp) {
+		Mat mat = new Mat(height, width, CvType.CV_8UC3);
+		int index = 0;
+		if (bpp == 16) {
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					int pixel = ((rawData[index + 1] & 0xFF) << 8) | (rawData[index] & 0xFF);
+					int r = ((pixel >> 11) & 0x1F) << 3;
+					int g = ((pixel >> 5) & 0x3F) << 2;
+					int b = (pixel & 0x1F) << 3;
+					mat.put(y, x, b, g, r);
+					index += 2;
+				}
+			}
+		} else {
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					int r = rawData[index] & 0xFF;
+					int g = rawData[index + 1] & 0xFF;
+					int b = rawData[index + 2] & 0xFF;
+					mat.put(y, x, b, g, r);
+					index += 4;
+				}
+			}
+		}
+		return mat;
+	}
+}
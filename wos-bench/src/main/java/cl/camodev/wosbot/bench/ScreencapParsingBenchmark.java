@@ -0,0 +1,80 @@
+package cl.camodev.wosbot.bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cl.camodev.wosbot.emulator.FrameBufferPool;
+import cl.camodev.wosbot.emulator.ScreencapReceiver;
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * Compares reading {@code screencap} output the way the emulator used to
+ * (growing ByteArrayOutputStream, toByteArray, then a copy without the header)
+ * against the emulator's {@link ScreencapReceiver}, which streams into a pooled
+ * buffer of the expected size and wraps the pixels at the header offset. The
+ * output is delivered in 16 KB chunks like the adb shell does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScreencapParsingBenchmark {
+
+	private static final int CHUNK_SIZE = 16 * 1024;
+
+	@Param({ "32", "16" })
+	public int bpp;
+
+	private byte[] screencap;
+	private byte[] chunk;
+	private FrameBufferPool pool;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		screencap = BenchFrames.toScreencap(BenchFrames.firstFrame(bpp));
+		chunk = new byte[CHUNK_SIZE];
+		pool = new FrameBufferPool();
+	}
+
+	@Benchmark
+	public DTORawImage legacyStreamAndCopy() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (InputStream in = new ByteArrayInputStream(screencap)) {
+			int read;
+			while ((read = in.read(chunk)) != -1) {
+				out.write(chunk, 0, read);
+			}
+		}
+		return BenchFrames.parseScreencap(out.toByteArray());
+	}
+
+	@Benchmark
+	public DTORawImage pooledReceiver() {
+		ScreencapReceiver receiver = new ScreencapReceiver(pool);
+		for (int offset = 0; offset < screencap.length; offset += CHUNK_SIZE) {
+			receiver.addOutput(screencap, offset, Math.min(CHUNK_SIZE, screencap.length - offset));
+		}
+		DTORawImage frame = receiver.toFrame();
+		// Hands the buffer back for the next capture, as the bot does once a frame is read
+		frame.release();
+		return frame;
+	}
+}
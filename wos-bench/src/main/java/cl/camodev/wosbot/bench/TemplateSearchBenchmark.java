@@ -0,0 +1,145 @@
+package cl.camodev.wosbot.bench;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cl.camodev.utiles.ImageSearchUtil;
+import cl.camodev.wosbot.bench.BenchFrames.SampleTemplate;
+import cl.camodev.wosbot.ot.DTOImageSearchResult;
+import cl.camodev.wosbot.ot.DTOPoint;
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * Template search latency over the sample frame with the real template
+ * resources: single and multiple matches, color and grayscale, a masked
+ * template and a batch of templates sharing one converted ROI. Each search
+ * runs on the whole screen and on a button-sized area around the match, the
+ * two shapes the tasks use.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TemplateSearchBenchmark {
+
+	private static final double THRESHOLD = 90;
+	private static final int MAX_RESULTS = 5;
+	// Larger than every sample template, so the area around a copy contains all of it
+	private static final int AREA_MARGIN = 100;
+
+	public enum SearchArea {
+		FULL_SCREEN, AROUND_MATCH
+	}
+
+	@Param({ "FULL_SCREEN", "AROUND_MATCH" })
+	public SearchArea searchArea;
+
+	private DTORawImage frame;
+	private String singlePath;
+	private String maskedPath;
+	private String multiplePath;
+	private List<String> batchPaths;
+	private DTOPoint[] singleArea;
+	private DTOPoint[] maskedArea;
+	private DTOPoint[] multipleArea;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		BenchFrames.loadOpenCV();
+		frame = BenchFrames.firstFrame(32);
+
+		singlePath = SampleTemplate.GAME_HOME_PETS.getTemplate().getTemplate();
+		maskedPath = SampleTemplate.ISLAND_LIKE_BUTTON.getTemplate().getTemplate();
+		multiplePath = SampleTemplate.EXPLORATION_CLAIM.getTemplate().getTemplate();
+		batchPaths = Arrays.stream(SampleTemplate.values())
+				.map(sample -> sample.getTemplate().getTemplate())
+				.toList();
+
+		singleArea = areaAround(SampleTemplate.GAME_HOME_PETS);
+		maskedArea = areaAround(SampleTemplate.ISLAND_LIKE_BUTTON);
+		multipleArea = areaAround(SampleTemplate.EXPLORATION_CLAIM);
+
+		// Keep template decoding out of the measurements
+		batchPaths.forEach(ImageSearchUtil::preloadTemplate);
+	}
+
+	@Benchmark
+	public DTOImageSearchResult singleColor() {
+		return ImageSearchUtil.searchTemplate(frame, singlePath, singleArea[0], singleArea[1], THRESHOLD);
+	}
+
+	@Benchmark
+	public DTOImageSearchResult singleGrayscale() {
+		return ImageSearchUtil.searchTemplateGrayscale(frame, singlePath, singleArea[0], singleArea[1], THRESHOLD);
+	}
+
+	@Benchmark
+	public DTOImageSearchResult singleMasked() {
+		return ImageSearchUtil.searchTemplate(frame, maskedPath, maskedArea[0], maskedArea[1], THRESHOLD);
+	}
+
+	@Benchmark
+	public List<DTOImageSearchResult> multipleColor() {
+		return ImageSearchUtil.searchTemplateMultiple(frame, multiplePath, multipleArea[0], multipleArea[1],
+				THRESHOLD, MAX_RESULTS);
+	}
+
+	@Benchmark
+	public List<DTOImageSearchResult> multipleGrayscale() {
+		return ImageSearchUtil.searchTemplateGrayscaleMultiple(frame, multiplePath, multipleArea[0],
+				multipleArea[1], THRESHOLD, MAX_RESULTS);
+	}
+
+	@Benchmark
+	public List<DTOImageSearchResult> batchColor() {
+		return ImageSearchUtil.searchTemplateBatch(frame, batchPaths, new DTOPoint(0, 0),
+				new DTOPoint(BenchFrames.SCREEN_WIDTH, BenchFrames.SCREEN_HEIGHT), THRESHOLD);
+	}
+
+	@Benchmark
+	public List<DTOImageSearchResult> batchGrayscale() {
+		return ImageSearchUtil.searchTemplateGrayscaleBatch(frame, batchPaths, new DTOPoint(0, 0),
+				new DTOPoint(BenchFrames.SCREEN_WIDTH, BenchFrames.SCREEN_HEIGHT), THRESHOLD);
+	}
+
+	/**
+	 * Search corners for a sample template: the whole screen, or the bounding box
+	 * of its copies plus a margin.
+	 */
+	private DTOPoint[] areaAround(SampleTemplate sample) {
+		if (searchArea == SearchArea.FULL_SCREEN) {
+			return new DTOPoint[] { new DTOPoint(0, 0),
+					new DTOPoint(BenchFrames.SCREEN_WIDTH, BenchFrames.SCREEN_HEIGHT) };
+		}
+		int minX = Integer.MAX_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxX = 0;
+		int maxY = 0;
+		for (int[] position : sample.getPositions()) {
+			minX = Math.min(minX, position[0]);
+			minY = Math.min(minY, position[1]);
+			maxX = Math.max(maxX, position[0]);
+			maxY = Math.max(maxY, position[1]);
+		}
+		return new DTOPoint[] { new DTOPoint(Math.max(0, minX - AREA_MARGIN), Math.max(0, minY - AREA_MARGIN)),
+				new DTOPoint(Math.min(BenchFrames.SCREEN_WIDTH, maxX + AREA_MARGIN),
+						Math.min(BenchFrames.SCREEN_HEIGHT, maxY + AREA_MARGIN)) };
+	}
+}
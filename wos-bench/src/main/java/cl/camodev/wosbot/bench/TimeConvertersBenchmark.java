@@ -0,0 +1,38 @@
+package cl.camodev.wosbot.bench;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cl.camodev.utiles.time.TimeConverters;
+
+/**
+ * Parsing of the OCR'd timer strings the tasks reschedule from, one case per
+ * format {@link TimeConverters#toDuration(String)} accepts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TimeConvertersBenchmark {
+
+	@Param({ "13:45:30", "2d13:45:30", "4530", "30" })
+	public String input;
+
+	@Benchmark
+	public Duration toDuration() {
+		return TimeConverters.toDuration(input);
+	}
+}
@@ -2,7 +2,6 @@ package cl.camodev.wosbot.console.controller;
 
 import cl.camodev.wosbot.console.list.ILogListener;
 import cl.camodev.wosbot.console.view.ConsoleLogLayoutController;
-import cl.camodev.wosbot.ot.DTOLogMessage;
 import cl.camodev.wosbot.serv.impl.ServLogs;
 
 public class ConsoleLogActionController implements ILogListener {
@@ -15,8 +14,8 @@ public class ConsoleLogActionController implements ILogListener {
 	}
 
 	@Override
-	public void onLogReceived(DTOLogMessage message) {
-		layoutController.appendMessage(message);
+	public void onLogsAvailable() {
+		layoutController.scheduleLogDelivery();
 	}
 
 }
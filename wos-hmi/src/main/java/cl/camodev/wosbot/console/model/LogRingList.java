@@ -0,0 +1,85 @@
+package cl.camodev.wosbot.console.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * Observable list of the latest log messages, newest first, with a fixed capacity.
+ * <p>
+ * Messages are kept in a ring: adding one at the front overwrites the oldest once the list is
+ * full, so neither insertions nor evictions shift the other elements. A batch is published as a
+ * single change with the additions at the front and the evictions at the end.
+ */
+public class LogRingList extends ObservableListBase<LogMessageAux> {
+
+	private final LogMessageAux[] items;
+	private int newest;
+	private int size;
+
+	public LogRingList(int capacity) {
+		this.items = new LogMessageAux[capacity];
+	}
+
+	@Override
+	public LogMessageAux get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		}
+		return items[(newest + index) % items.length];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Adds messages given oldest first, so the last one ends up at index 0.
+	 */
+	public void addNewest(List<LogMessageAux> messages) {
+		int capacity = items.length;
+		List<LogMessageAux> added = messages.size() > capacity
+				? messages.subList(messages.size() - capacity, messages.size())
+				: messages;
+		if (added.isEmpty()) {
+			return;
+		}
+
+		int evictedCount = Math.max(0, size + added.size() - capacity);
+		List<LogMessageAux> evicted = new ArrayList<>(evictedCount);
+		for (int i = size - evictedCount; i < size; i++) {
+			evicted.add(get(i));
+		}
+
+		for (LogMessageAux message : added) {
+			newest = (newest - 1 + capacity) % capacity;
+			items[newest] = message;
+		}
+		size += added.size() - evictedCount;
+
+		beginChange();
+		nextAdd(0, added.size());
+		if (evictedCount > 0) {
+			nextRemove(size, evicted);
+		}
+		endChange();
+	}
+
+	@Override
+	public void clear() {
+		if (size == 0) {
+			return;
+		}
+		List<LogMessageAux> removed = new ArrayList<>(this);
+		Arrays.fill(items, null);
+		newest = 0;
+		size = 0;
+
+		beginChange();
+		nextRemove(0, removed);
+		endChange();
+	}
+}
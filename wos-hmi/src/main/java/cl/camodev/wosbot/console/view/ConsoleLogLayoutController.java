@@ -3,8 +3,8 @@ package cl.camodev.wosbot.console.view;
 import java.awt.Desktop;
 import java.io.File;
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,12 +12,15 @@ import cl.camodev.wosbot.console.controller.ConsoleLogActionController;
 import cl.camodev.wosbot.console.enumerable.EnumConfigurationKey;
 import cl.camodev.wosbot.console.enumerable.EnumTpMessageSeverity;
 import cl.camodev.wosbot.console.model.LogMessageAux;
+import cl.camodev.wosbot.console.model.LogRingList;
 import cl.camodev.wosbot.ot.DTOLogMessage;
 import cl.camodev.wosbot.ot.DTOProfiles;
 import cl.camodev.wosbot.serv.IProfileDataChangeListener;
 import cl.camodev.wosbot.serv.impl.ServConfig;
+import cl.camodev.wosbot.serv.impl.ServLogs;
 import cl.camodev.wosbot.serv.impl.ServProfiles;
 import cl.camodev.wosbot.serv.impl.ServScheduler;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -32,6 +35,7 @@ import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.text.Text;
+import javafx.util.Duration;
 
 public class ConsoleLogLayoutController implements IProfileDataChangeListener {
 
@@ -68,14 +72,25 @@ public class ConsoleLogLayoutController implements IProfileDataChangeListener {
 	@FXML
 	private TableColumn<LogMessageAux, String> columnLevel;
 
-	private ObservableList<LogMessageAux> logMessages;
+	private static final int MAX_LOG_MESSAGES = 600;
+
+	// Queued messages are moved to the table at most this often
+	private static final long LOG_DELIVERY_INTERVAL_MS = 100;
+
+	private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss");
+
+	private LogRingList logMessages;
 	private FilteredList<LogMessageAux> filteredLogMessages;
 
+	private final PauseTransition logDeliveryDelay = new PauseTransition();
+	private long lastLogDelivery;
+
 	@FXML
 	private void initialize() {
 		new ConsoleLogActionController(this);
-		logMessages = FXCollections.observableArrayList();
+		logMessages = new LogRingList(MAX_LOG_MESSAGES);
 		filteredLogMessages = new FilteredList<>(logMessages);
+		logDeliveryDelay.setOnFinished(e -> deliverQueuedLogs());
 
         checkboxDebug.setSelected(Optional
                 .ofNullable(ServConfig.getServices().getGlobalConfig())
@@ -83,7 +98,10 @@ public class ConsoleLogLayoutController implements IProfileDataChangeListener {
                 .map(Boolean::parseBoolean)
                 .orElse(Boolean.parseBoolean(EnumConfigurationKey.BOOL_DEBUG.getDefaultValue())));
 
+        ServLogs.getServices().setDebugEnabled(checkboxDebug.isSelected());
+
         checkboxDebug.setOnAction(e -> {
+            ServLogs.getServices().setDebugEnabled(checkboxDebug.isSelected());
             ServScheduler.getServices().saveEmulatorPath(EnumConfigurationKey.BOOL_DEBUG.name(), String.valueOf(checkboxDebug.isSelected()));
         });
 		
@@ -206,22 +224,44 @@ public class ConsoleLogLayoutController implements IProfileDataChangeListener {
 	}
 
 	public void appendMessage(DTOLogMessage dtoMessage) {
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss");
-		String formattedDate = LocalDateTime.now().format(formatter);
-
 		if (!checkboxDebug.isSelected() && dtoMessage.getSeverity() == EnumTpMessageSeverity.DEBUG) {
 			return;
 		}
 
-		Platform.runLater(() -> {
-			logMessages.add(0, new LogMessageAux(formattedDate, dtoMessage.getSeverity().toString(), dtoMessage.getMessage(), dtoMessage.getTask(), dtoMessage.getProfile()));
+		Platform.runLater(() -> addMessages(List.of(dtoMessage)));
+	}
 
-			if (logMessages.size() > 600) {
-				logMessages.remove(logMessages.size() - 1);
+	/**
+	 * Called from any thread when ServLogs has queued messages. Moves them to the
+	 * table on the FX thread, no more often than every {@link #LOG_DELIVERY_INTERVAL_MS}.
+	 */
+	public void scheduleLogDelivery() {
+		Platform.runLater(() -> {
+			long wait = lastLogDelivery + LOG_DELIVERY_INTERVAL_MS - System.currentTimeMillis();
+			if (wait <= 0) {
+				deliverQueuedLogs();
+			} else {
+				logDeliveryDelay.setDuration(Duration.millis(wait));
+				logDeliveryDelay.playFromStart();
 			}
 		});
 	}
 
+	private void deliverQueuedLogs() {
+		lastLogDelivery = System.currentTimeMillis();
+		addMessages(ServLogs.getServices().drainLogs());
+	}
+
+	private void addMessages(List<DTOLogMessage> dtoMessages) {
+		List<LogMessageAux> messages = new ArrayList<>(dtoMessages.size());
+		for (DTOLogMessage dtoMessage : dtoMessages) {
+			messages.add(new LogMessageAux(TIMESTAMP_FORMAT.format(dtoMessage.getTimestamp()),
+					dtoMessage.getSeverity().toString(), dtoMessage.getMessage(), dtoMessage.getTask(),
+					dtoMessage.getProfile()));
+		}
+		logMessages.addNewest(messages);
+	}
+
 	@Override
 	public void onProfileDataChanged(DTOProfiles profile) {
 		Platform.runLater(() -> {
@@ -3,7 +3,9 @@ package cl.camodev.wosbot.main;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import cl.camodev.wosbot.emulator.EmulatorManager;
 import cl.camodev.wosbot.logging.ProfileLogger;
+import cl.camodev.wosbot.serv.impl.ServScheduler;
 
 public class Main {
 	private static final Logger logger = LoggerFactory.getLogger(Main.class);
@@ -19,9 +21,11 @@ public class Main {
 			logger.info("Logging configured. Check target/log/bot.log for detailed logs.");
 			logger.info("Profile-specific logs will be created in target/log/profile_*.log files");
 
-			// Add shutdown hook to close log files
+			// Add shutdown hook to write pending task statuses and close session recordings and log files
 			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
 				logger.info("Application shutting down, closing log files...");
+				ServScheduler.getServices().closeDailyTaskWriter();
+				EmulatorManager.getInstance().shutdown();
 				ProfileLogger.closeAllLogWriters();
 			}));
 
@@ -14,12 +14,22 @@ import cl.camodev.wosbot.taskmanager.controller.TaskManagerActionController;
 import cl.camodev.wosbot.taskmanager.ITaskStatusChangeListener;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.geometry.Point2D;
+import javafx.geometry.VPos;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.ToggleButton;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.control.Label;
-import javafx.scene.shape.Rectangle;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -50,7 +60,6 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
     private javafx.animation.Timeline autoRefreshTimeline;
     private String taskFilter = "";
     private List<DTOProfiles> lastLoadedProfiles = new ArrayList<>();
-    private final Map<Long, Label> profileStaminaLabels = new HashMap<>();
 
     private enum ViewMode {
         TWO_HOURS("2 Hours", 120, 5),
@@ -220,11 +229,67 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
         }
     }
 
+    /**
+     * A task bar painted on a row canvas, kept for hit-testing mouse events.
+     */
+    private record TaskBar(TaskManagerAux task, double x, double y, double width, double height, String tooltipText) {
+        boolean contains(double px, double py) {
+            return px >= x && px <= x + width && py >= y && py <= y + height;
+        }
+    }
+
+    /**
+     * The nodes of one account row. Rows are reused across refreshes and their task bars are
+     * painted on a single canvas, so a refresh redraws pixels instead of replacing nodes.
+     */
+    private static final class AccountRow {
+        private final HBox node;
+        private final Label nameLabel;
+        private final Label staminaLabel;
+        private final Canvas canvas;
+        private final List<TaskBar> bars = new ArrayList<>();
+        private TaskBar hoveredBar;
+        private double mouseX = -1;
+        private double mouseY = -1;
+
+        private AccountRow(HBox node, Label nameLabel, Label staminaLabel, Canvas canvas) {
+            this.node = node;
+            this.nameLabel = nameLabel;
+            this.staminaLabel = staminaLabel;
+            this.canvas = canvas;
+        }
+
+        private TaskBar findBar(double x, double y) {
+            // Later bars are painted on top, so they win
+            for (int i = bars.size() - 1; i >= 0; i--) {
+                if (bars.get(i).contains(x, y)) {
+                    return bars.get(i);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * What the time axis header shows. The header is rebuilt only when this changes: the view,
+     * the width or the time window (the current minute in the 2h view, whose ticks follow now).
+     */
+    private record TimeAxisKey(ViewMode mode, double width, LocalDateTime windowTime) {
+    }
+
+    private static final Font TASK_BAR_FONT = Font.font(Font.getDefault().getFamily(), FontWeight.BOLD, 8);
+
     private ViewMode viewMode = ViewMode.TWO_HOURS;
-    
-    // Stores tasks per profile for stable ordering
-    private Map<Long, List<TaskManagerAux>> profileTasksMap = new LinkedHashMap<>();
-    
+
+    // Stores tasks per profile keyed by task id, seeded from the database once and then kept
+    // up to date from the in-memory task states
+    private final Map<Long, Map<Integer, TaskManagerAux>> profileTasksMap = new HashMap<>();
+    private final Set<Long> loadingProfiles = new HashSet<>();
+    private final Map<Long, AccountRow> accountRows = new HashMap<>();
+    private final Set<Long> changedProfiles = new HashSet<>();
+    private final Tooltip taskBarTooltip = new Tooltip();
+    private TimeAxisKey timeAxisKey;
+
     // Dynamic width calculation based on window size
     private double availableWidth = 720; // Default
     private static final double ACCOUNT_LABEL_WIDTH = 128;
@@ -253,29 +318,31 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
             toggleInactiveTasksButton.setSelected(true);
             toggleInactiveTasksButton.setText("Show inactive");
         }
-        
+
+        taskBarTooltip.setAutoHide(false);
+
         // Listener for window size changes
         if (scrollPane != null) {
             scrollPane.widthProperty().addListener((obs, oldWidth, newWidth) -> {
                 updateAvailableWidth(newWidth.doubleValue());
                 Platform.runLater(() -> {
                     buildTimeAxis();
-                    loadAccounts();
+                    renderAccounts();
                 });
             });
         }
-        
+
         Platform.runLater(() -> {
             updateAvailableWidth(scrollPane != null ? scrollPane.getWidth() : 800);
             buildTimeAxis();
             loadAccounts();
         });
-        
-        // Real-time refresh every 5 seconds - update both time axis and tasks
+
+        // Real-time refresh every 5 seconds - moves the time axis and redraws the rows from memory
         autoRefreshTimeline = new javafx.animation.Timeline(
             new javafx.animation.KeyFrame(javafx.util.Duration.seconds(5), e -> {
-                buildTimeAxis(); // Update time axis (important for 2h view)
-                loadAccounts();  // Reload tasks
+                buildTimeAxis(); // Rebuilt only when the time window moved (every minute in the 2h view)
+                loadAccounts();  // Sync tasks and redraw
             })
         );
         autoRefreshTimeline.setCycleCount(javafx.animation.Animation.INDEFINITE);
@@ -292,11 +359,7 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
         }
 
         taskFilter = normalized;
-
-        if (!profileTasksMap.isEmpty() && !lastLoadedProfiles.isEmpty()) {
-            List<DTOProfiles> snapshot = new ArrayList<>(lastLoadedProfiles);
-            Platform.runLater(() -> rebuildUI(snapshot));
-        }
+        Platform.runLater(this::renderAccounts);
     }
     
     /**
@@ -313,28 +376,18 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
     public void onTaskStatusChange(Long profileId, int taskNameId, DTOTaskState taskState) {
         // Update task status in real-time when a task is executed
         Platform.runLater(() -> {
-            List<TaskManagerAux> tasks = profileTasksMap.get(profileId);
-            if (tasks != null) {
-                for (TaskManagerAux task : tasks) {
-                    if (task.getTaskEnum().getId() == taskNameId) {
-                        task.setExecuting(taskState.isExecuting());
-                        task.setLastExecution(taskState.getLastExecutionTime());
-                        task.setNextExecution(taskState.getNextExecutionTime());
-                        task.setScheduled(taskState.isScheduled());
-                        
-                        // Trigger UI refresh for ALL enabled profiles (not just the affected one)
-                        List<DTOProfiles> allEnabledProfiles = ServProfiles.getServices().getProfiles().stream()
-                            .filter(p -> p.getEnabled() != null && p.getEnabled())
-                            .sorted(Comparator.comparing(DTOProfiles::getName))
-                            .collect(Collectors.toList());
-                        
-                        if (!allEnabledProfiles.isEmpty()) {
-                            rebuildUI(allEnabledProfiles);
-                        }
-                        break;
-                    }
-                }
+            Map<Integer, TaskManagerAux> tasks = profileTasksMap.get(profileId);
+            TaskManagerAux task = tasks != null ? tasks.get(taskNameId) : null;
+            if (task == null) {
+                return;
+            }
+            applyTaskState(task, taskState, LocalDateTime.now());
+
+            // Bursts of changes are redrawn once, and only for the affected rows
+            if (changedProfiles.isEmpty()) {
+                Platform.runLater(this::redrawChangedAccounts);
             }
+            changedProfiles.add(profileId);
         });
     }
 
@@ -345,7 +398,7 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
             toggleViewButton.setText(viewMode.getLabel());
         }
         buildTimeAxis();
-        loadAccounts();
+        renderAccounts();
     }
 
     @FXML
@@ -356,18 +409,25 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
             toggleInactiveTasksButton.setText(hideInactive ? "Show inactive" : "Hide inactive");
         }
 
-        if (!lastLoadedProfiles.isEmpty()) {
-            rebuildUI(new ArrayList<>(lastLoadedProfiles));
-        } else {
-            loadAccounts();
-        }
+        renderAccounts();
     }
 
     private void buildTimeAxis() {
         if (timeAxisHeader == null) return;
 
-        timeAxisHeader.getChildren().clear();
         LocalDateTime now = LocalDateTime.now();
+        if (viewMode == ViewMode.TWO_HOURS) {
+            // Labels show minutes, so the 2h axis only changes once a minute
+            now = now.withSecond(0).withNano(0);
+        }
+        TimeAxisKey key = new TimeAxisKey(viewMode, availableWidth,
+            viewMode == ViewMode.TWO_HOURS ? now : resolveViewStart(viewMode, now));
+        if (key.equals(timeAxisKey)) {
+            return;
+        }
+        timeAxisKey = key;
+
+        timeAxisHeader.getChildren().clear();
 
         timeAxisHeader.getChildren().add(buildTimeZoneHeader());
 
@@ -640,61 +700,46 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
         return new ArrayList<>(ticks);
     }
 
-    private TimelineMetrics drawTimelineBackground(javafx.scene.layout.Pane timelinePane, ViewMode mode, double width, int rowHeight, LocalDateTime now) {
+    private TimelineMetrics drawTimelineBackground(GraphicsContext gc, ViewMode mode, double width, int rowHeight, LocalDateTime now) {
+        gc.setFill(Color.web("#2a2a2a"));
+        gc.fillRect(0, 0, width, rowHeight);
+        gc.setStroke(Color.web("#3a3a3a"));
+        gc.setLineWidth(1);
+        gc.strokeRect(0.5, 0.5, width - 1, rowHeight - 1);
+
         switch (mode) {
             case TWENTY_FOUR_HOURS -> {
                 double hourWidth = width / 25.0;
                 for (int h = 0; h < 25; h++) {
                     double x = h * hourWidth;
-                    javafx.scene.shape.Line line = new javafx.scene.shape.Line(x, 0, x, 36);
                     if (h % 6 == 0) {
-                        line.setStroke(javafx.scene.paint.Color.web("#555555"));
-                        line.setStrokeWidth(1.5);
+                        strokeGridLine(gc, x, 36, "#555555", 1.5);
                     } else {
-                        line.setStroke(javafx.scene.paint.Color.web("#3a3a3a"));
-                        line.setStrokeWidth(0.5);
+                        strokeGridLine(gc, x, 36, "#3a3a3a", 0.5);
                     }
-                    timelinePane.getChildren().add(line);
                 }
 
                 LocalDateTime viewStart = resolveViewStart(ViewMode.TWENTY_FOUR_HOURS, now);
                 TimelineMetrics metrics = TimelineMetrics.linear(viewStart, width, mode.getWindowMinutes());
-                double nowX = metrics.toX(now);
-
-                javafx.scene.shape.Line nowLine = new javafx.scene.shape.Line(nowX, 0, nowX, rowHeight);
-                nowLine.setStroke(javafx.scene.paint.Color.web("#ff4444"));
-                nowLine.setStrokeWidth(2);
-                nowLine.getStrokeDashArray().addAll(5.0, 3.0);
-                timelinePane.getChildren().add(nowLine);
+                strokeNowLine(gc, metrics.toX(now), rowHeight);
                 return metrics;
             }
             case WEEK -> {
                 double dayWidth = width / 8.0;
                 for (int d = 0; d < 8; d++) {
                     double x = d * dayWidth;
-                    javafx.scene.shape.Line line = new javafx.scene.shape.Line(x, 0, x, rowHeight);
                     if (d == 0) {
-                        line.setStroke(javafx.scene.paint.Color.web("#666666"));
-                        line.setStrokeWidth(2.0);
+                        strokeGridLine(gc, x, rowHeight, "#666666", 2.0);
                     } else if (d % 2 == 0) {
-                        line.setStroke(javafx.scene.paint.Color.web("#555555"));
-                        line.setStrokeWidth(1.0);
+                        strokeGridLine(gc, x, rowHeight, "#555555", 1.0);
                     } else {
-                        line.setStroke(javafx.scene.paint.Color.web("#3a3a3a"));
-                        line.setStrokeWidth(0.5);
+                        strokeGridLine(gc, x, rowHeight, "#3a3a3a", 0.5);
                     }
-                    timelinePane.getChildren().add(line);
                 }
 
                 LocalDateTime viewStart = resolveViewStart(ViewMode.WEEK, now);
                 TimelineMetrics metrics = TimelineMetrics.linear(viewStart, width, mode.getWindowMinutes());
-                double nowX = metrics.toX(now);
-
-                javafx.scene.shape.Line nowLine = new javafx.scene.shape.Line(nowX, 0, nowX, rowHeight);
-                nowLine.setStroke(javafx.scene.paint.Color.web("#ff4444"));
-                nowLine.setStrokeWidth(2);
-                nowLine.getStrokeDashArray().addAll(5.0, 3.0);
-                timelinePane.getChildren().add(nowLine);
+                strokeNowLine(gc, metrics.toX(now), rowHeight);
                 return metrics;
             }
             case TWO_HOURS -> {
@@ -706,8 +751,6 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
                     if (tickTime.isEqual(now)) {
                         continue; // Dedicated red line handles the current time marker.
                     }
-                    double x = metrics.toX(tickTime);
-                    javafx.scene.shape.Line line = new javafx.scene.shape.Line(x, 0, x, rowHeight);
                     boolean major;
                     if (tickTime.isBefore(now)) {
                         long hoursFromStart = Math.max(0, ChronoUnit.HOURS.between(viewStart, tickTime));
@@ -716,23 +759,29 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
                         long minutesFromNow = ChronoUnit.MINUTES.between(now, tickTime);
                         major = minutesFromNow % 60 == 0;
                     }
-                    line.setStroke(javafx.scene.paint.Color.web(major ? "#555555" : "#3a3a3a"));
-                    line.setStrokeWidth(major ? 1.5 : 0.5);
-                    timelinePane.getChildren().add(line);
+                    strokeGridLine(gc, metrics.toX(tickTime), rowHeight, major ? "#555555" : "#3a3a3a", major ? 1.5 : 0.5);
                 }
-                double nowX = metrics.toX(now);
-
-                javafx.scene.shape.Line nowLine = new javafx.scene.shape.Line(nowX, 0, nowX, rowHeight);
-                nowLine.setStroke(javafx.scene.paint.Color.web("#ff4444"));
-                nowLine.setStrokeWidth(2);
-                nowLine.getStrokeDashArray().addAll(5.0, 3.0);
-                timelinePane.getChildren().add(nowLine);
+                strokeNowLine(gc, metrics.toX(now), rowHeight);
                 return metrics;
             }
             default -> throw new IllegalStateException("Unsupported view mode: " + mode);
         }
     }
 
+    private void strokeGridLine(GraphicsContext gc, double x, double height, String color, double lineWidth) {
+        gc.setStroke(Color.web(color));
+        gc.setLineWidth(lineWidth);
+        gc.strokeLine(x, 0, x, height);
+    }
+
+    private void strokeNowLine(GraphicsContext gc, double x, double height) {
+        gc.setStroke(Color.web("#ff4444"));
+        gc.setLineWidth(2);
+        gc.setLineDashes(5.0, 3.0);
+        gc.strokeLine(x, 0, x, height);
+        gc.setLineDashes();
+    }
+
     private LocalDateTime resolveDisplayTime(TaskManagerAux task, LocalDateTime now) {
         if (task.isExecuting()) {
             return now;
@@ -769,58 +818,94 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
             .filter(p -> p.getEnabled() != null && p.getEnabled()) // Only enabled accounts
             .sorted(Comparator.comparing(DTOProfiles::getName))
             .collect(Collectors.toList());
-        
-        profileTasksMap.clear();
-        
-        // Counter for completed loading operations
-        final int[] loadedCount = {0};
-        final int totalProfiles = sortedProfiles.size();
-        
-        // Load tasks for all profiles asynchronously
+
+        Set<Long> profileIds = sortedProfiles.stream().map(DTOProfiles::getId).collect(Collectors.toSet());
+        profileTasksMap.keySet().retainAll(profileIds);
+        accountRows.keySet().retainAll(profileIds);
+        lastLoadedProfiles = sortedProfiles;
+
+        // Known profiles are synced from memory, new ones are loaded from the database once
+        LocalDateTime now = LocalDateTime.now();
         for (DTOProfiles profile : sortedProfiles) {
-            loadAccountTasks(profile, () -> {
-                loadedCount[0]++;
-                // When all profiles are loaded, build UI in sorted order
-                if (loadedCount[0] == totalProfiles) {
-                    Platform.runLater(() -> {
-                        lastLoadedProfiles = new ArrayList<>(sortedProfiles);
-                        rebuildUI(sortedProfiles);
-                    });
-                }
-            });
+            Map<Integer, TaskManagerAux> tasks = profileTasksMap.get(profile.getId());
+            if (tasks != null) {
+                syncTaskStates(profile.getId(), tasks, now);
+            } else if (loadingProfiles.add(profile.getId())) {
+                loadAccountTasks(profile);
+            }
         }
+
+        renderAccounts();
     }
-    
-    private void rebuildUI(List<DTOProfiles> sortedProfiles) {
-        vboxAccounts.getChildren().clear();
-        profileStaminaLabels.clear();
-        lastLoadedProfiles = new ArrayList<>(sortedProfiles);
-        
-        // Use the dynamically calculated available width
-        double uniformWidth = availableWidth;
-        
-        // Build UI in alphabetical order with uniform width
-        for (DTOProfiles profile : sortedProfiles) {
-            List<TaskManagerAux> tasks = profileTasksMap.get(profile.getId());
-            if (tasks != null) {
-                List<TaskManagerAux> visibleTasks = tasks.stream()
-                    .filter(this::matchesTaskFilter)
-                    .filter(task -> showInactiveTasks || !isInactiveTask(task))
-                    .collect(Collectors.toList());
 
-                if (!taskFilter.isEmpty() && visibleTasks.isEmpty()) {
-                    continue;
-                }
+    /**
+     * Redraws every account row and puts the visible ones in order. Rows are only added to or
+     * removed from the scene graph when the set of visible accounts changes.
+     */
+    private void renderAccounts() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Node> visibleRows = new ArrayList<>();
+        for (DTOProfiles profile : lastLoadedProfiles) {
+            AccountRow row = renderAccount(profile, now);
+            if (row != null) {
+                visibleRows.add(row.node);
+            }
+        }
+        if (!vboxAccounts.getChildren().equals(visibleRows)) {
+            vboxAccounts.getChildren().setAll(visibleRows);
+        }
+        changedProfiles.clear();
+    }
 
-                createAccountRow(profile, visibleTasks, uniformWidth);
+    private void redrawChangedAccounts() {
+        if (!taskFilter.isEmpty()) {
+            // A change can make a filtered account appear or disappear
+            renderAccounts();
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (DTOProfiles profile : lastLoadedProfiles) {
+            if (changedProfiles.contains(profile.getId())) {
+                renderAccount(profile, now);
             }
         }
+        changedProfiles.clear();
+    }
+
+    /**
+     * Redraws the row of an account, creating it on first use.
+     *
+     * @return the row, or null if the account is not shown
+     */
+    private AccountRow renderAccount(DTOProfiles profile, LocalDateTime now) {
+        Map<Integer, TaskManagerAux> tasks = profileTasksMap.get(profile.getId());
+        if (tasks == null) {
+            return null; // Still loading
+        }
+
+        List<TaskManagerAux> visibleTasks = tasks.values().stream()
+            .filter(this::matchesTaskFilter)
+            .filter(task -> showInactiveTasks || !isInactiveTask(task))
+            .collect(Collectors.toList());
+
+        if (!taskFilter.isEmpty() && visibleTasks.isEmpty()) {
+            return null;
+        }
+
+        AccountRow row = accountRows.computeIfAbsent(profile.getId(), id -> createAccountRow(profile));
+        if (!Objects.equals(row.nameLabel.getText(), profile.getName())) {
+            row.nameLabel.setText(profile.getName());
+        }
+        drawAccountRow(row, visibleTasks, now);
+        return row;
     }
+
     // Optional: Stop the timer when closing
     public void stopAutoRefresh() {
         if (autoRefreshTimeline != null) {
             autoRefreshTimeline.stop();
         }
+        taskBarTooltip.hide();
         StaminaService.getServices().removeStaminaChangeListener(this);
     }
     
@@ -887,204 +972,195 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
         return tracks;
     }
 
-    private void loadAccountTasks(DTOProfiles profile, Runnable onComplete) {
-        taskManagerActionController.loadDailyTaskStatus(profile.getId(), (List<DTODailyTaskStatus> statuses) -> {
-            // Get existing tasks for this profile (if available)
-            List<TaskManagerAux> existingTasks = profileTasksMap.get(profile.getId());
-            Map<Integer, TaskManagerAux> existingTaskMap = new HashMap<>();
-            if (existingTasks != null) {
-                existingTasks.forEach(t -> existingTaskMap.put(t.getTaskEnum().getId(), t));
+    private void loadAccountTasks(DTOProfiles profile) {
+        Long profileId = profile.getId();
+        taskManagerActionController.loadDailyTaskStatus(profileId, (List<DTODailyTaskStatus> statuses) -> {
+            Map<Integer, DTODailyTaskStatus> statusByTask = new HashMap<>();
+            if (statuses != null) {
+                statuses.forEach(s -> statusByTask.put(s.getIdTpDailyTask(), s));
             }
-            
-            List<TaskManagerAux> tasks = Arrays.stream(TpDailyTaskEnum.values()).map(task -> {
-                DTODailyTaskStatus s = statuses.stream()
-                    .filter(st -> st.getIdTpDailyTask() == task.getId())
-                    .findFirst().orElse(null);
-
-                if (s == null) {
-                    // Check if existing TaskManagerAux object is available
-                    TaskManagerAux existing = existingTaskMap.get(task.getId());
-                    if (existing != null) {
-                        return existing; // Reuse
-                    }
-                    return new TaskManagerAux(task.getName(), null, null, task, profile.getId(), Long.MAX_VALUE, false, false, false);
-                }
-
-                long diffInSeconds = Long.MAX_VALUE;
-                boolean ready = false;
-                if (s.getNextSchedule() != null) {
-                    diffInSeconds = ChronoUnit.SECONDS.between(LocalDateTime.now(), s.getNextSchedule());
-                    if (diffInSeconds <= 0) {
-                        ready = true;
-                        diffInSeconds = 0;
-                    }
-                }
 
-                boolean scheduled = Optional.ofNullable(ServScheduler.getServices().getQueueManager().getQueue(profile.getId()))
+            Map<Integer, TaskManagerAux> tasks = new LinkedHashMap<>();
+            for (TpDailyTaskEnum task : TpDailyTaskEnum.values()) {
+                DTODailyTaskStatus s = statusByTask.get(task.getId());
+                boolean scheduled = Optional.ofNullable(ServScheduler.getServices().getQueueManager().getQueue(profileId))
                     .map(q -> q.isTaskScheduled(task)).orElse(false);
+                tasks.put(task.getId(), new TaskManagerAux(task.getName(),
+                    s != null ? s.getLastExecution() : null,
+                    s != null ? s.getNextSchedule() : null,
+                    task, profileId, Long.MAX_VALUE, false, scheduled, false));
+            }
 
-                // Check if task is currently executing via ServTaskManager
-                boolean isExecuting = false;
-                cl.camodev.wosbot.ot.DTOTaskState taskState = cl.camodev.wosbot.serv.impl.ServTaskManager.getInstance()
-                    .getTaskState(profile.getId(), task.getId());
-                if (taskState != null) {
-                    isExecuting = taskState.isExecuting();
+            Platform.runLater(() -> {
+                loadingProfiles.remove(profileId);
+                if (lastLoadedProfiles.stream().noneMatch(p -> p.getId().equals(profileId))) {
+                    return; // Disabled while loading
                 }
+                // Live task states take precedence over the stored ones
+                syncTaskStates(profileId, tasks, LocalDateTime.now());
+                profileTasksMap.put(profileId, tasks);
+                renderAccounts();
+            });
+        });
+    }
 
-                // Try to reuse and update existing TaskManagerAux object
-                TaskManagerAux existingTask = existingTaskMap.get(task.getId());
-                if (existingTask != null) {
-                    // Update only the values, but keep the object (important for live updates!)
-                    existingTask.setLastExecution(s.getLastExecution());
-                    existingTask.setNextExecution(s.getNextSchedule());
-                    existingTask.setNearestMinutesUntilExecution(diffInSeconds);
-                    existingTask.setHasReadyTask(ready);
-                    existingTask.setScheduled(scheduled);
-                    // Only update isExecuting if it has changed (listener has priority!)
-                    if (existingTask.isExecuting() != isExecuting) {
-                        existingTask.setExecuting(isExecuting);
-                    }
-                    return existingTask;
-                }
+    private void syncTaskStates(Long profileId, Map<Integer, TaskManagerAux> tasks, LocalDateTime now) {
+        for (TaskManagerAux task : tasks.values()) {
+            DTOTaskState taskState = ServTaskManager.getInstance().getTaskState(profileId, task.getTaskEnum().getId());
+            if (taskState != null) {
+                applyTaskState(task, taskState, now);
+            } else {
+                updateReadiness(task, now);
+            }
+        }
+    }
 
-                // Create new only if no existing object available
-                return new TaskManagerAux(task.getName(), s.getLastExecution(), s.getNextSchedule(), task, profile.getId(), diffInSeconds, ready, scheduled, isExecuting);
-            })
-            .filter(this::shouldDisplayInTimeline)
-            .collect(Collectors.toList());
+    private void applyTaskState(TaskManagerAux task, DTOTaskState taskState, LocalDateTime now) {
+        task.setExecuting(taskState.isExecuting());
+        task.setLastExecution(taskState.getLastExecutionTime());
+        task.setNextExecution(taskState.getNextExecutionTime());
+        task.setScheduled(taskState.isScheduled());
+        updateReadiness(task, now);
+    }
 
-            // Store tasks for this profile
-            profileTasksMap.put(profile.getId(), tasks);
-            
-            // Call callback when done
-            if (onComplete != null) {
-                onComplete.run();
+    private void updateReadiness(TaskManagerAux task, LocalDateTime now) {
+        long diffInSeconds = Long.MAX_VALUE;
+        boolean ready = false;
+        if (task.getNextExecution() != null) {
+            diffInSeconds = ChronoUnit.SECONDS.between(now, task.getNextExecution());
+            if (diffInSeconds <= 0) {
+                ready = true;
+                diffInSeconds = 0;
             }
-        });
+        }
+        task.setNearestMinutesUntilExecution(diffInSeconds);
+        task.setHasReadyTask(ready);
     }
 
-    private void createAccountRow(DTOProfiles profile, List<TaskManagerAux> tasks, double uniformWidth) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Calculate required tracks (lanes) for overlapping tasks
-        List<List<TaskManagerAux>> tracks = calculateTracks(tasks, now);
-        
-        // If no tasks present, show minimal height (32px)
-        // Otherwise calculate height based on number of tracks
-        int trackCount = tracks.isEmpty() ? 0 : tracks.size();
-    int calculatedHeight = trackCount == 0 ? 48 : (24 * trackCount + 12);
-    int rowHeight = Math.max(48, calculatedHeight); // Maintain minimum height so labels never get clipped
-        
+    private AccountRow createAccountRow(DTOProfiles profile) {
         // HBox for Account row with fixed height
         HBox accountRow = new HBox(8);
-    accountRow.setAlignment(javafx.geometry.Pos.TOP_LEFT);
-        accountRow.setPrefHeight(rowHeight);
-        accountRow.setMinHeight(rowHeight);
-        accountRow.setMaxHeight(rowHeight);
+        accountRow.setAlignment(javafx.geometry.Pos.TOP_LEFT);
         accountRow.setStyle("-fx-padding: 0; -fx-spacing: 8;"); // No padding, only spacing between elements
 
-    Label lblAccount = new Label(profile.getName());
-    lblAccount.setStyle("-fx-text-fill: #ffffff; -fx-font-size: 12; -fx-font-weight: bold;");
-    lblAccount.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
-
-    int currentStamina = StaminaService.getServices().getCurrentStamina(profile.getId());
-    Label staminaLabel = new Label(formatStaminaValue(currentStamina));
-    staminaLabel.setStyle("-fx-text-fill: #cccccc; -fx-font-size: 10;");
-    staminaLabel.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
-
-    VBox accountInfo = new VBox(0);
-    accountInfo.setAlignment(javafx.geometry.Pos.TOP_LEFT);
-    accountInfo.setPrefWidth(ACCOUNT_LABEL_WIDTH);
-    accountInfo.setMinWidth(ACCOUNT_LABEL_WIDTH);
-    accountInfo.setMaxWidth(ACCOUNT_LABEL_WIDTH);
-    accountInfo.getChildren().addAll(lblAccount, staminaLabel);
-    accountInfo.setSpacing(0);
-
-    profileStaminaLabels.put(profile.getId(), staminaLabel);
-    accountRow.getChildren().add(accountInfo);
-        
+        Label lblAccount = new Label(profile.getName());
+        lblAccount.setStyle("-fx-text-fill: #ffffff; -fx-font-size: 12; -fx-font-weight: bold;");
+        lblAccount.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
+
+        int currentStamina = StaminaService.getServices().getCurrentStamina(profile.getId());
+        Label staminaLabel = new Label(formatStaminaValue(currentStamina));
+        staminaLabel.setStyle("-fx-text-fill: #cccccc; -fx-font-size: 10;");
+        staminaLabel.setAlignment(javafx.geometry.Pos.CENTER_LEFT);
+
+        VBox accountInfo = new VBox(0);
+        accountInfo.setAlignment(javafx.geometry.Pos.TOP_LEFT);
+        accountInfo.setPrefWidth(ACCOUNT_LABEL_WIDTH);
+        accountInfo.setMinWidth(ACCOUNT_LABEL_WIDTH);
+        accountInfo.setMaxWidth(ACCOUNT_LABEL_WIDTH);
+        accountInfo.getChildren().addAll(lblAccount, staminaLabel);
+        accountInfo.setSpacing(0);
+
         // Add spacer to align with time axis header (Local/UTC label column)
         javafx.scene.layout.Region spacer = new javafx.scene.layout.Region();
         spacer.setPrefWidth(TIME_AXIS_LABEL_WIDTH);
         spacer.setMinWidth(TIME_AXIS_LABEL_WIDTH);
         spacer.setMaxWidth(TIME_AXIS_LABEL_WIDTH);
-        accountRow.getChildren().add(spacer);
-        
+
+        // Timeline area, the background and the task bars are painted on it
+        Canvas timelineCanvas = new Canvas(availableWidth, 48);
+        AccountRow row = new AccountRow(accountRow, lblAccount, staminaLabel, timelineCanvas);
+
+        timelineCanvas.setOnMouseMoved(event -> {
+            row.mouseX = event.getX();
+            row.mouseY = event.getY();
+            updateHoveredBar(row);
+        });
+        timelineCanvas.setOnMouseExited(event -> {
+            row.mouseX = -1;
+            row.mouseY = -1;
+            updateHoveredBar(row);
+        });
+        // Click handler: Execute task immediately on click
+        timelineCanvas.setOnMouseClicked(event -> {
+            TaskBar bar = row.findBar(event.getX(), event.getY());
+            if (bar != null && !bar.task().isExecuting()) {
+                taskManagerActionController.executeTaskDirectly(bar.task());
+            }
+        });
+
+        accountRow.getChildren().addAll(accountInfo, spacer, timelineCanvas);
+        return row;
+    }
+
+    private void drawAccountRow(AccountRow row, List<TaskManagerAux> tasks, LocalDateTime now) {
+        // Calculate required tracks (lanes) for overlapping tasks
+        List<List<TaskManagerAux>> tracks = calculateTracks(tasks, now);
+
+        // If no tasks present, show minimal height
+        // Otherwise calculate height based on number of tracks
+        int trackCount = tracks.size();
+        int calculatedHeight = trackCount == 0 ? 48 : (24 * trackCount + 12);
+        int rowHeight = Math.max(48, calculatedHeight); // Maintain minimum height so labels never get clipped
+
+        if (row.node.getPrefHeight() != rowHeight) {
+            row.node.setPrefHeight(rowHeight);
+            row.node.setMinHeight(rowHeight);
+            row.node.setMaxHeight(rowHeight);
+        }
+
         // Use uniform width for all accounts
-        double timelinePaneWidth = uniformWidth;
-        
-        // Timeline area as Pane for precise positioning
-        javafx.scene.layout.Pane timelinePane = new javafx.scene.layout.Pane();
-        timelinePane.setPrefWidth(timelinePaneWidth);
-        timelinePane.setMinWidth(timelinePaneWidth);
-        timelinePane.setMaxWidth(timelinePaneWidth);
-        timelinePane.setPrefHeight(rowHeight);
-        timelinePane.setMinHeight(rowHeight);
-        timelinePane.setMaxHeight(rowHeight);
-        timelinePane.setStyle("-fx-background-color: #2a2a2a; -fx-border-color: #3a3a3a; -fx-border-width: 1;");
-
-        TimelineMetrics metrics = drawTimelineBackground(timelinePane, viewMode, uniformWidth, rowHeight, now);
+        double timelineWidth = availableWidth;
+        Canvas canvas = row.canvas;
+        if (canvas.getWidth() != timelineWidth) {
+            canvas.setWidth(timelineWidth);
+        }
+        if (canvas.getHeight() != rowHeight) {
+            canvas.setHeight(rowHeight);
+        }
+
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        TimelineMetrics metrics = drawTimelineBackground(gc, viewMode, timelineWidth, rowHeight, now);
+
+        gc.setFont(TASK_BAR_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        row.bars.clear();
 
         // Position task bars absolutely with track support
         for (int trackIndex = 0; trackIndex < tracks.size(); trackIndex++) {
-            List<TaskManagerAux> trackTasks = tracks.get(trackIndex);
-            
-            for (TaskManagerAux task : trackTasks) {
+            for (TaskManagerAux task : tracks.get(trackIndex)) {
                 LocalDateTime scheduledTime = task.getNextExecution();
                 boolean isCurrentlyExecuting = task.isExecuting();
                 boolean isScheduled = task.isScheduled();
                 boolean isReady = task.hasReadyTask();
                 boolean inactive = isInactiveTask(task);
-                
+
                 // Determine the timestamp used for positioning within the timeline.
-                LocalDateTime displayTime;
-                if (isCurrentlyExecuting) {
-                    displayTime = now;
-                } else if (scheduledTime != null) {
-                    displayTime = scheduledTime;
-                } else if (task.getLastExecution() != null) {
-                    displayTime = task.getLastExecution();
-                } else {
-                    continue; // No usable timestamp
+                LocalDateTime displayTime = resolveDisplayTime(task, now);
+                if (displayTime == null || !isWithinViewWindow(displayTime, now)) {
+                    continue;
                 }
+                LocalDateTime alignedTime = snapToAxis(viewMode, displayTime);
 
                 // Calculate abbreviation and required text width
                 String taskAbbreviation = getTaskAbbreviation(task.getTaskName());
                 double textWidth = taskAbbreviation.length() * 9 + 12;
 
-                if (!isWithinViewWindow(displayTime, now)) {
-                    continue;
-                }
-
-                LocalDateTime alignedTime = snapToAxis(viewMode, displayTime);
-                if (alignedTime == null) {
-                    continue;
-                }
                 double minWidth = Math.max(0d, metrics.widthBetween(alignedTime, viewMode.getMinBarWidthMinutes()));
                 double barWidth = Math.max(textWidth, Math.max(12, minWidth));
                 double xPosition = metrics.toX(alignedTime);
-                double maxX = timelinePaneWidth - barWidth;
-                if (maxX < 0) {
-                    maxX = 0;
-                }
+                double maxX = Math.max(0, timelineWidth - barWidth);
                 xPosition = Math.max(0, Math.min(xPosition, maxX));
-
-                // StackPane for bar + label
-                javafx.scene.layout.StackPane taskStack = new javafx.scene.layout.StackPane();
-                taskStack.setLayoutX(xPosition);
                 // Y-position based on track: Track 0 = Y:4, Track 1 = Y:28, Track 2 = Y:52, etc.
-                taskStack.setLayoutY(4 + (trackIndex * 24));
-                
-                Rectangle rect = new Rectangle(barWidth, 18); // Reduce height to 18px
-                rect.setArcWidth(4);
-                rect.setArcHeight(4);
+                double yPosition = 4 + (trackIndex * 24);
+                double barHeight = 18;
 
                 // Color and highlighting - use task status directly
                 String fillColor;
                 String strokeColor;
                 double strokeWidth;
                 String status;
-                
+
                 // Use current task status (updated live via listener)
                 if (isCurrentlyExecuting) {
                     fillColor = "#FF9800";
@@ -1107,15 +1183,16 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
                     strokeWidth = 1;
                     status = "SCHEDULED";
                 }
-                
-                rect.setFill(javafx.scene.paint.Color.web(fillColor));
-                rect.setStroke(javafx.scene.paint.Color.web(strokeColor));
-                rect.setStrokeWidth(strokeWidth);
 
-                // Task name as abbreviation on bar (dynamically adjusted width)
-                Label taskLabel = new Label(taskAbbreviation);
-                taskLabel.setStyle("-fx-text-fill: #ffffff; -fx-font-size: 8; -fx-font-weight: bold;");
-                taskLabel.setMaxWidth(barWidth - 4);
+                gc.setFill(Color.web(fillColor));
+                gc.fillRoundRect(xPosition, yPosition, barWidth, barHeight, 4, 4);
+                gc.setStroke(Color.web(strokeColor));
+                gc.setLineWidth(strokeWidth);
+                gc.strokeRoundRect(xPosition, yPosition, barWidth, barHeight, 4, 4);
+
+                // Task name as abbreviation on bar
+                gc.setFill(Color.WHITE);
+                gc.fillText(taskAbbreviation, xPosition + barWidth / 2, yPosition + barHeight / 2, Math.max(1, barWidth - 4));
 
                 // Tooltip with complete information and click hint
                 LocalDateTime tooltipTime = scheduledTime != null
@@ -1132,48 +1209,40 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
                     timeDisplay,
                     status,
                     actionHint);
-                javafx.scene.control.Tooltip tooltip = new javafx.scene.control.Tooltip(tooltipText);
-                // Configure tooltip to show faster and stay visible
-                tooltip.setShowDelay(javafx.util.Duration.millis(200)); // Show after 200ms
-                tooltip.setHideDelay(javafx.util.Duration.INDEFINITE); // Never auto-hide
-                tooltip.setShowDuration(javafx.util.Duration.INDEFINITE); // Keep showing while mouse is over
-                tooltip.setAutoHide(false); // Don't auto-hide on mouse movement
-                javafx.scene.control.Tooltip.install(taskStack, tooltip);
-                
-                // Mouse handlers for manual tooltip control
-                final javafx.scene.control.Tooltip tooltipRef = tooltip;
-                taskStack.setOnMouseEntered(event -> {
-                    // Show tooltip when mouse enters
-                    javafx.geometry.Bounds bounds = taskStack.localToScreen(taskStack.getBoundsInLocal());
-                    if (bounds != null) {
-                        tooltipRef.show(taskStack, bounds.getMinX(), bounds.getMaxY() + 5);
-                    }
-                });
-                
-                taskStack.setOnMouseExited(event -> {
-                    // Hide tooltip only when mouse completely leaves the element
-                    tooltipRef.hide();
-                });
-                
-                // Click handler: Execute task immediately on click
-                taskStack.setOnMouseClicked(event -> {
-                    if (!task.isExecuting()) {
-                        taskManagerActionController.executeTaskDirectly(task);
-                    }
-                });
-                
-                // Change cursor to indicate clickability (only if not already executing)
-                if (!task.isExecuting()) {
-                    taskStack.setStyle("-fx-cursor: hand;");
-                }
 
-                taskStack.getChildren().addAll(rect, taskLabel);
-                timelinePane.getChildren().add(taskStack);
+                row.bars.add(new TaskBar(task, xPosition, yPosition, barWidth, barHeight, tooltipText));
             } // End for TaskManagerAux
         } // End for trackIndex
 
-        accountRow.getChildren().add(timelinePane);
-        vboxAccounts.getChildren().add(accountRow);
+        // Bars may have moved under the mouse
+        if (row.hoveredBar != null || row.mouseX >= 0) {
+            updateHoveredBar(row);
+        }
+    }
+
+    /**
+     * Shows the tooltip and hand cursor for the bar under the mouse, if any.
+     */
+    private void updateHoveredBar(AccountRow row) {
+        TaskBar bar = row.findBar(row.mouseX, row.mouseY);
+        row.canvas.setCursor(bar != null && !bar.task().isExecuting() ? Cursor.HAND : Cursor.DEFAULT);
+
+        if (bar == null) {
+            if (row.hoveredBar != null) {
+                row.hoveredBar = null;
+                taskBarTooltip.hide();
+            }
+            return;
+        }
+
+        if (!bar.equals(row.hoveredBar) || !taskBarTooltip.isShowing()) {
+            row.hoveredBar = bar;
+            taskBarTooltip.setText(bar.tooltipText());
+            Point2D anchor = row.canvas.localToScreen(bar.x(), bar.y() + bar.height());
+            if (anchor != null) {
+                taskBarTooltip.show(row.canvas, anchor.getX(), anchor.getY() + 5);
+            }
+        }
     }
 
     @Override
@@ -1183,9 +1252,9 @@ public class TaskGanttOverviewController implements ITaskStatusChangeListener, I
         }
 
         Platform.runLater(() -> {
-            Label staminaLabel = profileStaminaLabels.get(profileId);
-            if (staminaLabel != null) {
-                staminaLabel.setText(formatStaminaValue(newStamina));
+            AccountRow row = accountRows.get(profileId);
+            if (row != null) {
+                row.staminaLabel.setText(formatStaminaValue(newStamina));
             }
         });
     }
@@ -19,10 +19,14 @@ public enum EnumConfigurationKey {
 	GAME_VERSION_STRING("GLOBAL", String.class),
 	MAX_RUNNING_EMULATORS_INT("1", Integer.class),
 	MAX_IDLE_TIME_INT("1", Integer.class),
+	FRAME_CACHE_WINDOW_MS_INT("250", Integer.class),
+	FRAME_STREAMING_BOOL("false", Boolean.class),
 	IDLE_BEHAVIOR_SEND_TO_BACKGROUND_BOOL("false", Boolean.class),
 	MUMU_PATH_STRING("", String.class),
 	MEMU_PATH_STRING("", String.class),
 	LDPLAYER_PATH_STRING("", String.class),
+	REPLAY_SESSION_PATH_STRING("", String.class),
+	SESSION_RECORDING_PATH_STRING("", String.class),
 	CURRENT_EMULATOR_STRING("", String.class),
 	DISCORD_TOKEN_STRING("", String.class),
 	
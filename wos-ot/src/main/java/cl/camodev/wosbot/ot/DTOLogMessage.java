@@ -1,5 +1,7 @@
 package cl.camodev.wosbot.ot;
 
+import java.time.LocalDateTime;
+
 import cl.camodev.wosbot.console.enumerable.EnumTpMessageSeverity;
 
 public class DTOLogMessage {
@@ -8,12 +10,14 @@ public class DTOLogMessage {
 	private String message;
 	private String task;
 	private String profile;
+	private LocalDateTime timestamp;
 
 	public DTOLogMessage(EnumTpMessageSeverity severity, String message, String task, String profile) {
 		this.severity = severity;
 		this.message = message;
 		this.task = task;
 		this.profile = profile;
+		this.timestamp = LocalDateTime.now();
 	}
 
 	public EnumTpMessageSeverity getSeverity() {
@@ -48,4 +52,12 @@ public class DTOLogMessage {
 		this.profile = profile;
 	}
 
+	public LocalDateTime getTimestamp() {
+		return timestamp;
+	}
+
+	public void setTimestamp(LocalDateTime timestamp) {
+		this.timestamp = timestamp;
+	}
+
 }
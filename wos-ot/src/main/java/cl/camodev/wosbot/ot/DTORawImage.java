@@ -1,21 +1,69 @@
 package cl.camodev.wosbot.ot;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Raw screencap pixels (RGBA_8888 or RGB_565).
+ * <p>
+ * The pixels start at {@link #getOffset()} in {@link #getData()}, so a capture
+ * buffer can be wrapped without copying out its header. Images created with a
+ * recycler are reference counted: the buffer is handed back to the recycler
+ * once every holder has called {@link #release()}. Holders that never release
+ * simply keep the buffer out of the pool.
+ */
 public class DTORawImage {
     private final byte[] data;
+    private final int offset;
     private final int width;
     private final int height;
     private final int bpp;
+    private final Consumer<byte[]> recycler;
+    private final AtomicInteger references = new AtomicInteger(1);
 
     public DTORawImage(byte[] data, int width, int height, int bpp) {
+        this(data, 0, width, height, bpp, null);
+    }
+
+    public DTORawImage(byte[] data, int offset, int width, int height, int bpp, Consumer<byte[]> recycler) {
         this.data = data;
+        this.offset = offset;
         this.width = width;
         this.height = height;
         this.bpp = bpp;
+        this.recycler = recycler;
+    }
+
+    /**
+     * Takes an additional reference to the image.
+     *
+     * @return false if the image has already been recycled and must not be used
+     */
+    public boolean retain() {
+        int current;
+        do {
+            current = references.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Drops a reference. The buffer is recycled when the last one is dropped.
+     */
+    public void release() {
+        if (references.decrementAndGet() == 0 && recycler != null) {
+            recycler.accept(data);
+        }
     }
 
     // Getters
     public byte[] getData() { return data; }
+    public int getOffset() { return offset; }
+    public int getLength() { return width * height * (bpp / 8); }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
     public int getBpp() { return bpp; }
-}
\ No newline at end of file
+}
@@ -10,8 +10,8 @@ public class DTOTaskQueueStatus {
     private volatile boolean readyToReconnect;
     private volatile boolean idleTimeExceeded;
     private Integer idleTimeLimit;
-    private int backgroundChecks = 0;
-    private int backgroundChecksInterval = 60; // every 60 loops
+    private int backgroundChecksInterval = 60; // seconds between checks
+    private volatile LocalDateTime nextBackgroundChecks = LocalDateTime.now().plusSeconds(60);
 
     private volatile LocalDateTime pausedAt;
     private volatile LocalDateTime delayUntil;
@@ -53,19 +53,23 @@ public class DTOTaskQueueStatus {
     }
 
     /**
-     * Determines if background checks should be run based on a counter.
-     * Uses a default interval of 60 loops between checks.
-     * Increments internal counter and resets it when the interval is reached.
+     * Determines if background checks are due.
+     * Uses a default interval of 60 seconds between checks and schedules the
+     * next check whenever it returns true.
      *
      * @return true if background checks should run, false otherwise
      */
     public boolean shouldRunBackgroundChecks() {
-        this.backgroundChecks++;
-        if (this.backgroundChecks >= this.backgroundChecksInterval) {
-            this.backgroundChecks = 0;
-            return true;
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(this.nextBackgroundChecks)) {
+            return false;
         }
-        return false;
+        this.nextBackgroundChecks = now.plusSeconds(this.backgroundChecksInterval);
+        return true;
+    }
+
+    public LocalDateTime getNextBackgroundChecks() {
+        return this.nextBackgroundChecks;
     }
 
     public void setBackgroundChecksInterval(Integer backgroundChecksInterval) {
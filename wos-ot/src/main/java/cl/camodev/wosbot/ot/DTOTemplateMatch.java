@@ -0,0 +1,7 @@
+package cl.camodev.wosbot.ot;
+
+import cl.camodev.wosbot.console.enumerable.EnumTemplates;
+
+public record DTOTemplateMatch(EnumTemplates template, DTOImageSearchResult result) {
+
+}
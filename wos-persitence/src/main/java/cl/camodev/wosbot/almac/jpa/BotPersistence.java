@@ -2,6 +2,7 @@ package cl.camodev.wosbot.almac.jpa;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -93,6 +94,27 @@ public final class BotPersistence {
 		}
 	}
 
+	/**
+	 * Runs the given work in a single transaction, rolling it back if anything fails.
+	 */
+	public boolean runInTransaction(Consumer<EntityManager> work) {
+		EntityManager entityManager = getEntityManager();
+		try {
+			entityManager.getTransaction().begin();
+			work.accept(entityManager);
+			entityManager.getTransaction().commit();
+			return true;
+		} catch (Exception e) {
+			e.printStackTrace();
+			if (entityManager.getTransaction().isActive()) {
+				entityManager.getTransaction().rollback();
+			}
+			return false;
+		} finally {
+			entityManager.close();
+		}
+	}
+
 	public <T> T findEntityById(Class<T> entityClass, Object id) {
 		EntityManager entityManager = getEntityManager();
 		try {
@@ -1,11 +1,13 @@
 package cl.camodev.wosbot.almac.repo;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import cl.camodev.wosbot.almac.entity.DailyTask;
+import cl.camodev.wosbot.almac.entity.Profile;
 import cl.camodev.wosbot.almac.entity.TpDailyTask;
 import cl.camodev.wosbot.almac.jpa.BotPersistence;
 import cl.camodev.wosbot.console.enumerable.TpDailyTaskEnum;
@@ -94,4 +96,38 @@ public class DailyTaskRepository implements IDailyTaskRepository {
 	public TpDailyTask findTpDailyTaskById(Integer id) {
 		return persistence.findEntityById(TpDailyTask.class, id);
 	}
+
+	@Override
+	public boolean saveDailyTaskStatuses(Collection<DTODailyTaskStatus> statuses) {
+		Map<Long, List<DTODailyTaskStatus>> statusesByProfile = statuses.stream()
+				.collect(Collectors.groupingBy(DTODailyTaskStatus::getIdProfile));
+
+		return persistence.runInTransaction(entityManager -> statusesByProfile.forEach((profileId, profileStatuses) -> {
+			Profile profile = entityManager.find(Profile.class, profileId);
+			if (profile == null) {
+				// The profile was deleted in the meantime
+				return;
+			}
+
+			Map<Integer, DailyTask> existing = entityManager
+					.createQuery("SELECT d FROM DailyTask d WHERE d.profile.id = :profileId", DailyTask.class)
+					.setParameter("profileId", profileId)
+					.getResultList().stream()
+					.collect(Collectors.toMap(d -> d.getTask().getId(), d -> d, (a, b) -> a));
+
+			for (DTODailyTaskStatus status : profileStatuses) {
+				DailyTask dailyTask = existing.get(status.getIdTpDailyTask());
+				if (dailyTask == null) {
+					dailyTask = new DailyTask(profile, entityManager.getReference(TpDailyTask.class, status.getIdTpDailyTask()),
+							status.getLastExecution(), status.getNextSchedule());
+					entityManager.persist(dailyTask);
+					existing.put(status.getIdTpDailyTask(), dailyTask);
+				} else {
+					// Managed entity, written when the transaction commits
+					dailyTask.setLastExecution(status.getLastExecution());
+					dailyTask.setNextSchedule(status.getNextSchedule());
+				}
+			}
+		}));
+	}
 }
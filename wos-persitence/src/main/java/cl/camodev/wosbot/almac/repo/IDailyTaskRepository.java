@@ -1,5 +1,6 @@
 package cl.camodev.wosbot.almac.repo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -25,4 +26,6 @@ public interface IDailyTaskRepository {
 	Map<Integer, DTODailyTaskStatus> findDailyTasksStatusByProfile(Long profileId);
 
 	TpDailyTask findTpDailyTaskById(Integer id);
+
+	boolean saveDailyTaskStatuses(Collection<DTODailyTaskStatus> statuses);
 }
@@ -4,6 +4,7 @@ import java.util.List;
 
 import cl.camodev.wosbot.almac.entity.Config;
 import cl.camodev.wosbot.almac.entity.Profile;
+import cl.camodev.wosbot.console.enumerable.TpConfigEnum;
 import cl.camodev.wosbot.ot.DTOProfiles;
 
 public interface IProfileRepository {
@@ -30,4 +31,13 @@ public interface IProfileRepository {
 	boolean deleteConfigs(List<Config> configs);
 
 	boolean saveConfigs(List<Config> configs);
+
+	/**
+	 * Saves the fields and configuration of a profile in a single transaction. Only the
+	 * configuration entries that were added, changed or removed are written.
+	 * @param profile profile with the new values
+	 * @param tpConfig type of the configuration entries
+	 * @return false if the profile does not exist or could not be saved
+	 */
+	boolean saveProfileWithConfigs(DTOProfiles profile, TpConfigEnum tpConfig);
 }
@@ -3,13 +3,17 @@ package cl.camodev.wosbot.almac.repo;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import cl.camodev.wosbot.almac.entity.Config;
 import cl.camodev.wosbot.almac.entity.Profile;
+import cl.camodev.wosbot.almac.entity.TpConfig;
 import cl.camodev.wosbot.almac.jpa.BotPersistence;
+import cl.camodev.wosbot.console.enumerable.TpConfigEnum;
 import cl.camodev.wosbot.ot.DTOConfig;
 import cl.camodev.wosbot.ot.DTOProfiles;
 
@@ -167,4 +171,59 @@ public class ProfileRepository implements IProfileRepository {
 		}
 	}
 
+	@Override
+	public boolean saveProfileWithConfigs(DTOProfiles profileDTO, TpConfigEnum tpConfigEnum) {
+		if (profileDTO == null || profileDTO.getId() == null) {
+			return false;
+		}
+
+		// Later entries win, like they did when every entry was inserted again
+		Map<String, String> newValues = new LinkedHashMap<>();
+		for (DTOConfig dtoConfig : profileDTO.getConfigs()) {
+			newValues.put(dtoConfig.getConfigurationName(), dtoConfig.getValue());
+		}
+
+		boolean[] found = { false };
+		boolean saved = persistence.runInTransaction(entityManager -> {
+			Profile profile = entityManager.find(Profile.class, profileDTO.getId());
+			if (profile == null) {
+				return;
+			}
+			found[0] = true;
+
+			profile.setName(profileDTO.getName());
+			profile.setEmulatorNumber(profileDTO.getEmulatorNumber());
+			profile.setEnabled(profileDTO.getEnabled());
+			profile.setPriority(profileDTO.getPriority());
+			profile.setReconnectionTime(profileDTO.getReconnectionTime());
+
+			List<Config> existingConfigs = entityManager
+					.createQuery("SELECT c FROM Config c WHERE c.profile.id = :profileId", Config.class)
+					.setParameter("profileId", profile.getId())
+					.getResultList();
+
+			Map<String, String> missing = new LinkedHashMap<>(newValues);
+			for (Config config : existingConfigs) {
+				if (!missing.containsKey(config.getKey())) {
+					// Removed, or a duplicate of an entry already kept
+					entityManager.remove(config);
+					continue;
+				}
+				String value = missing.remove(config.getKey());
+				if (!Objects.equals(config.getValue(), value)) {
+					config.setValue(value);
+				}
+			}
+
+			if (!missing.isEmpty()) {
+				TpConfig tpConfig = entityManager.find(TpConfig.class, tpConfigEnum.getId());
+				if (tpConfig == null) {
+					throw new IllegalStateException("Config type not found: " + tpConfigEnum);
+				}
+				missing.forEach((key, value) -> entityManager.persist(new Config(profile, tpConfig, key, value)));
+			}
+		});
+		return saved && found[0];
+	}
+
 }
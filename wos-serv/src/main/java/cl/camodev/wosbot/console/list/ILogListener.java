@@ -1,9 +1,12 @@
 package cl.camodev.wosbot.console.list;
 
-import cl.camodev.wosbot.ot.DTOLogMessage;
-
 public interface ILogListener {
 
-	void onLogReceived(DTOLogMessage message);
+	/**
+	 * Called once when messages become available after the last
+	 * {@link cl.camodev.wosbot.serv.impl.ServLogs#drainLogs()}, from the logging thread.
+	 * The listener is expected to drain them later on its own thread.
+	 */
+	void onLogsAvailable();
 
 }
@@ -0,0 +1,154 @@
+package cl.camodev.wosbot.emulator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Long-lived {@code adb shell} for a single device.
+ * <p>
+ * Opening a shell service costs an adb round trip per command, so input commands are written to
+ * one shell that stays open instead. Each batch is followed by an {@code echo} of a unique marker
+ * and the call returns once the marker is read back, which means every command of the batch has
+ * finished on the device. A session that fails or times out is closed and must be replaced.
+ * <p>
+ * Only a batch that fails with {@link NotSentException} is known not to have reached the device.
+ * After any other failure its commands may already have run, so they must not be sent again.
+ */
+final class AdbShellSession implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdbShellSession.class);
+
+	private static final String MARKER_PREFIX = "__wosbot_done_";
+
+	/**
+	 * The batch was not written to the shell, so none of its commands reached the device.
+	 */
+	static final class NotSentException extends IOException {
+		NotSentException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+
+	private final String serial;
+	private final Process process;
+	private final OutputStream stdin;
+	private final BlockingQueue<String> outputLines = new LinkedBlockingQueue<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private long sequence;
+	private volatile boolean broken;
+
+	/**
+	 * Starts {@code adb -s <serial> shell} with piped stdin, so no prompt or echo is produced.
+	 *
+	 * @throws IOException if the adb process cannot be started
+	 */
+	AdbShellSession(String adbPath, String serial) throws IOException {
+		this.serial = serial;
+		ProcessBuilder pb = new ProcessBuilder(adbPath, "-s", serial, "shell");
+		pb.directory(new File(adbPath).getParentFile());
+		pb.redirectErrorStream(true);
+		this.process = pb.start();
+		this.stdin = process.getOutputStream();
+
+		Thread reader = new Thread(this::readOutput, "adb-shell-" + serial);
+		reader.setDaemon(true);
+		reader.start();
+		logger.debug("Opened persistent ADB shell for {}", serial);
+	}
+
+	/**
+	 * Runs the commands in order as one batch and waits until all of them have finished.
+	 *
+	 * @param commands  shell commands, one per line
+	 * @param timeoutMs maximum time to wait for the batch
+	 * @throws NotSentException if the session is broken or the batch could not be written
+	 * @throws IOException if the batch was written but did not finish in time
+	 */
+	void run(List<String> commands, long timeoutMs) throws IOException {
+		lock.lock();
+		try {
+			if (!isAlive()) {
+				throw new NotSentException("ADB shell for " + serial + " is closed", null);
+			}
+
+			String marker = MARKER_PREFIX + (++sequence);
+			StringBuilder script = new StringBuilder();
+			for (String command : commands) {
+				script.append(command).append('\n');
+			}
+			script.append("echo ").append(marker).append('\n');
+
+			try {
+				// Written in one call, a failed write means the adb process is gone before taking the batch
+				stdin.write(script.toString().getBytes(StandardCharsets.UTF_8));
+				stdin.flush();
+			} catch (IOException e) {
+				broken = true;
+				throw new NotSentException("Could not write to ADB shell for " + serial, e);
+			}
+
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+			while (true) {
+				long remaining = deadline - System.nanoTime();
+				String line = remaining > 0 ? outputLines.poll(remaining, TimeUnit.NANOSECONDS) : null;
+				if (line == null) {
+					// Output of this batch may still arrive later and would be mistaken for the next one
+					broken = true;
+					throw new IOException("ADB shell for " + serial + " did not answer within " + timeoutMs + " ms");
+				}
+				if (line.trim().equals(marker)) {
+					return;
+				}
+				logger.debug("ADB shell {}: {}", serial, line);
+			}
+		} catch (InterruptedException e) {
+			broken = true;
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for ADB shell " + serial, e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	boolean isAlive() {
+		return !broken && process.isAlive();
+	}
+
+	@Override
+	public void close() {
+		broken = true;
+		try {
+			stdin.close();
+		} catch (IOException e) {
+			// The process is destroyed anyway
+		}
+		process.destroy();
+		logger.debug("Closed persistent ADB shell for {}", serial);
+	}
+
+	private void readOutput() {
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				outputLines.offer(line);
+			}
+		} catch (IOException e) {
+			// Stream closed together with the process
+		} finally {
+			broken = true;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package cl.camodev.wosbot.emulator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.android.ddmlib.AndroidDebugBridge;
+import com.android.ddmlib.IDevice;
+
+/**
+ * Devices known to the ddmlib bridge, keyed by serial.
+ * <p>
+ * The registry is kept up to date by the bridge's connect, disconnect and state change events,
+ * so lookups never scan the bridge and callers waiting for a device are woken as soon as it
+ * shows up or comes online, instead of polling.
+ */
+final class DeviceRegistry implements AndroidDebugBridge.IDeviceChangeListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(DeviceRegistry.class);
+
+	private final ConcurrentHashMap<String, IDevice> devices = new ConcurrentHashMap<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition changed = lock.newCondition();
+
+	/**
+	 * Subscribes to the events of the current bridge and loads the devices it already knows.
+	 * Must be called again after the bridge was recreated.
+	 */
+	void attach(AndroidDebugBridge bridge) {
+		AndroidDebugBridge.removeDeviceChangeListener(this);
+		devices.clear();
+		AndroidDebugBridge.addDeviceChangeListener(this);
+		if (bridge != null && bridge.hasInitialDeviceList()) {
+			for (IDevice device : bridge.getDevices()) {
+				devices.put(device.getSerialNumber(), device);
+			}
+		}
+		signalChange();
+	}
+
+	/**
+	 * Returns the device with the given serial, in whatever state it is, or null if unknown.
+	 */
+	IDevice get(String serial) {
+		return devices.get(serial);
+	}
+
+	/**
+	 * Waits until a device with the given serial is known to the bridge.
+	 *
+	 * @return the device, or null if it did not show up in time
+	 */
+	IDevice awaitDevice(String serial, long timeoutMs) throws InterruptedException {
+		return await(serial, timeoutMs, false);
+	}
+
+	/**
+	 * Waits until the device with the given serial is online.
+	 *
+	 * @return the device, or null if it was not online in time
+	 */
+	IDevice awaitOnline(String serial, long timeoutMs) throws InterruptedException {
+		return await(serial, timeoutMs, true);
+	}
+
+	@Override
+	public void deviceConnected(IDevice device) {
+		devices.put(device.getSerialNumber(), device);
+		logger.debug("Device connected: {} ({})", device.getSerialNumber(), device.getState());
+		signalChange();
+	}
+
+	@Override
+	public void deviceDisconnected(IDevice device) {
+		devices.remove(device.getSerialNumber(), device);
+		logger.debug("Device disconnected: {}", device.getSerialNumber());
+		signalChange();
+	}
+
+	@Override
+	public void deviceChanged(IDevice device, int changeMask) {
+		if ((changeMask & IDevice.CHANGE_STATE) != 0) {
+			devices.put(device.getSerialNumber(), device);
+			logger.debug("Device {} is now {}", device.getSerialNumber(), device.getState());
+			signalChange();
+		}
+	}
+
+	private IDevice await(String serial, long timeoutMs, boolean online) throws InterruptedException {
+		long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+		lock.lock();
+		try {
+			while (true) {
+				IDevice device = devices.get(serial);
+				if (device != null && (!online || device.isOnline())) {
+					return device;
+				}
+				if (remaining <= 0) {
+					return null;
+				}
+				remaining = changed.awaitNanos(remaining);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void signalChange() {
+		lock.lock();
+		try {
+			changed.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -1,16 +1,22 @@
 package cl.camodev.wosbot.emulator;
 
 import java.io.*;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import cl.camodev.utiles.UtilOCR;
 import cl.camodev.wosbot.console.enumerable.GameVersion;
 import cl.camodev.wosbot.ex.ADBConnectionException;
+import cl.camodev.wosbot.ot.DTOArea;
 import cl.camodev.wosbot.ot.DTORawImage;
 import com.android.ddmlib.*;
 
@@ -43,18 +49,52 @@ public abstract class Emulator {
 	protected String consolePath;
 	protected AndroidDebugBridge bridge = null;
 
-	// Cache for devices to avoid repeated lookups
-	private final ConcurrentHashMap<String, IDevice> deviceCache = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, Long> deviceCacheTimestamp = new ConcurrentHashMap<>();
-	private static final long DEVICE_CACHE_TTL = 30000; // 30 seconds cache TTL
+	// Devices of the bridge by serial, kept up to date by its device change events
+	private static final DeviceRegistry deviceRegistry = new DeviceRegistry();
+	private static final long DEVICE_CONNECT_TIMEOUT_MS = 5000;
+	private static final long DEVICE_ONLINE_TIMEOUT_MS = 2000;
 
-	// Cache for isRunning status to avoid repeated external process calls
-	private final ConcurrentHashMap<String, Boolean> runningStatusCache = new ConcurrentHashMap<>();
-	private final ConcurrentHashMap<String, Long> runningStatusTimestamp = new ConcurrentHashMap<>();
-	private static final long RUNNING_STATUS_CACHE_TTL = 5000; // 5 seconds cache TTL (shorter than device cache)
+	// Running status of all instances, listed by one console call per interval instead of one per check
+	private final InstanceStatusPoller statusPoller = new InstanceStatusPoller(getClass().getSimpleName(),
+			this::listInstanceStatuses);
+	private static final long CONSOLE_COMMAND_TIMEOUT_MS = 10000;
 
-	// Cache for last captured screenshot per emulator
-	private final ConcurrentHashMap<String, DTORawImage> lastScreenshotCache = new ConcurrentHashMap<>();
+	// Cache for last captured frame per emulator. A frame is shared by consecutive searches while it is
+	// younger than the freshness window and no input has been sent since it was captured
+	private final ConcurrentHashMap<String, CachedFrame> frameCache = new ConcurrentHashMap<>();
+	public static final long DEFAULT_FRAME_CACHE_WINDOW_MS = 250;
+	private volatile long frameCacheWindowMs = DEFAULT_FRAME_CACHE_WINDOW_MS;
+
+	private record CachedFrame(DTORawImage image, long capturedAt) {
+	}
+
+	// Time of the last input per emulator (System.nanoTime), frames captured before it are outdated
+	private final ConcurrentHashMap<String, Long> lastInputTimes = new ConcurrentHashMap<>();
+	private final long createdAt = System.nanoTime();
+
+	// Where frames come from, per emulator: on-demand screencap or background streaming
+	private final ConcurrentHashMap<String, FrameSource> frameSources = new ConcurrentHashMap<>();
+	private volatile boolean frameStreaming = false;
+
+	// Session recording of frames and inputs, per emulator. Disabled while the directory is null
+	private final ConcurrentHashMap<String, SessionRecorder> sessionRecorders = new ConcurrentHashMap<>();
+	private volatile Path recordingDirectory;
+
+	// Screencap buffers per emulator, sized from the last capture and recycled once a frame is released
+	private final ConcurrentHashMap<String, FrameBufferPool> frameBufferPools = new ConcurrentHashMap<>();
+
+	// Persistent shell per device serial that input commands are written to
+	private final ConcurrentHashMap<String, AdbShellSession> shellSessions = new ConcurrentHashMap<>();
+	private static final long INPUT_SCRIPT_TIMEOUT_MS = 5000;
+	private static final int KEY_EVENTS_PER_COMMAND = 20;
+
+	/**
+	 * Outcome of an input batch on the persistent shell. Only a batch that was not
+	 * sent may be sent again; an unconfirmed one may already have run on the device.
+	 */
+	private enum ShellBatchResult {
+		COMPLETED, NOT_SENT, UNCONFIRMED
+	}
 
 	public Emulator(String consolePath) {
 		this.consolePath = consolePath;
@@ -98,6 +138,7 @@ public abstract class Emulator {
 			String adbPath = getProjectAdbPath();
 			logger.info("Initializing ADB bridge with path: {}", adbPath);
 			bridge = AndroidDebugBridge.createBridge(adbPath, true, 5000, TimeUnit.MILLISECONDS);
+			deviceRegistry.attach(bridge);
 		}
 	}
 
@@ -153,29 +194,20 @@ public abstract class Emulator {
 		waitForBridge();
 		String serial = getDeviceSerial(emulatorNumber);
 
-		// 1. First search in already connected devices (quick search)
-		for (IDevice device : bridge.getDevices()) {
-			if (serial.equals(device.getSerialNumber())) {
-				logger.debug("Device found in cache: {}", serial);
-				return device;
-			}
+		// 1. First look up the devices the bridge already knows
+		IDevice known = deviceRegistry.get(serial);
+		if (known != null) {
+			logger.debug("Device found in registry: {}", serial);
+			return known;
 		}
 
-		// 2. If not found, try direct connection
-		logger.info("Device not found in cache, connecting directly: " + serial);
+		// 2. If not found, try direct connection and wait for the bridge to report the device
+		logger.info("Device not found in registry, connecting directly: " + serial);
 		if (connectToDeviceBySerial(serial)) {
-			// 3. Force bridge update and search again
-			//forceDeviceDiscovery();
-
-			// 4. Search for the newly connected device
-			for (int i = 0; i < 5; i++) {
-				for (IDevice device : bridge.getDevices()) {
-					if (serial.equals(device.getSerialNumber())) {
-                        logger.info("Device connected and found: {}", serial);
-						return device;
-					}
-				}
-				Thread.sleep(1000); // Wait 1 second between attempts
+			IDevice device = deviceRegistry.awaitDevice(serial, DEVICE_CONNECT_TIMEOUT_MS);
+			if (device != null) {
+				logger.info("Device connected and found: {}", serial);
+				return device;
 			}
 		}
 
@@ -249,8 +281,10 @@ public abstract class Emulator {
 
 				if (!device.isOnline()) {
 					logger.warn("Device found but not online, waiting... (attempt {})", attempt);
-					Thread.sleep(2000);
-					continue;
+					device = deviceRegistry.awaitOnline(device.getSerialNumber(), DEVICE_ONLINE_TIMEOUT_MS);
+					if (device == null) {
+						continue;
+					}
 				}
 				return action.apply(device);
 			} catch (Exception e) {
@@ -305,8 +339,10 @@ public abstract class Emulator {
 
 				if (!device.isOnline()) {
 					logger.warn("Device found but not online after emulator restart, waiting... (attempt {})", attempt);
-					Thread.sleep(2000);
-					continue;
+					device = deviceRegistry.awaitOnline(device.getSerialNumber(), DEVICE_ONLINE_TIMEOUT_MS);
+					if (device == null) {
+						continue;
+					}
 				}
 				return action.apply(device);
 			} catch (Exception e) {
@@ -352,11 +388,56 @@ public abstract class Emulator {
 	}
 
 	/**
-	 * Captures a screenshot from the emulator.
+	 * Captures a screenshot from the emulator and makes it the cached frame.
 	 * @param emulatorNumber Emulator identifier
 	 * @return DTORawImage with raw screenshot data
 	 */
-    public DTORawImage captureScreenshot(String emulatorNumber)  {
+	public DTORawImage captureScreenshot(String emulatorNumber) {
+		return recordRead(emulatorNumber, captureAndCache(emulatorNumber));
+	}
+
+	/**
+	 * Captures a new frame and makes it the cached frame, without counting it as
+	 * a read of the session recording. Used by the frame sources.
+	 * @param emulatorNumber Emulator identifier
+	 * @return DTORawImage with raw screenshot data
+	 */
+	DTORawImage captureAndCache(String emulatorNumber) {
+		long capturedAt = System.nanoTime();
+		DTORawImage result = captureFrame(emulatorNumber);
+
+		// Update cache, tagged with the time the capture started. The cache holds
+		// its own reference and drops the one of the frame it replaces
+		result.retain();
+		CachedFrame previous = frameCache.put(emulatorNumber, new CachedFrame(result, capturedAt));
+		if (previous != null) {
+			previous.image().release();
+		}
+		return result;
+	}
+
+	/**
+	 * Adds a frame handed to the bot to the session recording, if one is running.
+	 * Every read is recorded, also the ones served from the cache, so a replay
+	 * serving one frame per read shows the bot the same frames.
+	 * @param emulatorNumber Emulator identifier
+	 * @param frame Frame being handed out
+	 * @return The same frame
+	 */
+	private DTORawImage recordRead(String emulatorNumber, DTORawImage frame) {
+		SessionRecorder recorder = getSessionRecorder(emulatorNumber);
+		if (recorder != null) {
+			recorder.recordFrame(frame);
+		}
+		return frame;
+	}
+
+	/**
+	 * Captures a new frame from the device with {@code screencap}.
+	 * @param emulatorNumber Emulator identifier
+	 * @return DTORawImage with raw screenshot data
+	 */
+    protected DTORawImage captureFrame(String emulatorNumber)  {
         long startTime = System.currentTimeMillis();
         logger.debug("=== Screenshot Capture Started === Emulator: {}", emulatorNumber);
 
@@ -383,72 +464,187 @@ public abstract class Emulator {
             throw new ADBConnectionException("Device " + serial + " is not online");
         }
 
+        FrameBufferPool pool = frameBufferPools.computeIfAbsent(emulatorNumber, k -> new FrameBufferPool());
+        ScreencapReceiver receiver = new ScreencapReceiver(pool);
         try {
             long captureStartTime = System.currentTimeMillis();
 
-            // Use native screencap command for maximum speed
-            ByteArrayOutputStream imageData = new ByteArrayOutputStream();
-            CollectingOutputReceiver receiver = new CollectingOutputReceiver() {
-                @Override
-                public void addOutput(byte[] data, int offset, int length) {
-                    imageData.write(data, offset, length);
-                }
-            };
-
-            // Execute screencap command (raw format is fastest)
+            // Execute screencap command (raw format is fastest), streaming into a pooled buffer
             device.executeShellCommand("screencap", receiver, 2000, TimeUnit.MILLISECONDS);
 
-            byte[] rawData = imageData.toByteArray();
             long captureEndTime = System.currentTimeMillis();
             logger.debug("Screencap command executed: {} ms", (captureEndTime - captureStartTime));
 
-            if (rawData.length < 12) {
-                throw new RuntimeException("Invalid screencap data: too small");
-            }
-
-            // Parse raw screencap header (first 12 bytes)
-            // Format: width(4) height(4) format(4) [pixel data...]
-            int width = (rawData[0] & 0xFF) | ((rawData[1] & 0xFF) << 8) |
-                    ((rawData[2] & 0xFF) << 16) | ((rawData[3] & 0xFF) << 24);
-            int height = (rawData[4] & 0xFF) | ((rawData[5] & 0xFF) << 8) |
-                    ((rawData[6] & 0xFF) << 16) | ((rawData[7] & 0xFF) << 24);
-            int format = (rawData[8] & 0xFF) | ((rawData[9] & 0xFF) << 8) |
-                    ((rawData[10] & 0xFF) << 16) | ((rawData[11] & 0xFF) << 24);
-
-            logger.debug("Screencap header: {}x{}, format: {}", width, height, format);
-
-            // Extract pixel data (skip 12-byte header)
-            byte[] pixelData = new byte[rawData.length - 12];
-            System.arraycopy(rawData, 12, pixelData, 0, pixelData.length);
-
-            // Determine bpp based on format (usually RGBA_8888 = 1)
-            int bpp = (format == 1) ? 32 : 16; // RGBA_8888 or RGB_565
-
-            DTORawImage result = new DTORawImage(
-                    pixelData,
-                    width,
-                    height,
-                    bpp
-            );
+            // Wrap the pixels behind the 12-byte header without copying them
+            DTORawImage result = receiver.toFrame();
+            int pixelBytes = result.getLength();
+            logger.debug("Screencap header: {}x{}, bpp: {}", result.getWidth(), result.getHeight(), result.getBpp());
 
             long totalTime = System.currentTimeMillis() - startTime;
             logger.debug("=== Screenshot Completed === Total: {} ms, {} bytes",
-                    totalTime, pixelData.length);
-
-            // Update cache
-            lastScreenshotCache.put(emulatorNumber, result);
+                    totalTime, pixelBytes);
 
             return result;
 
         } catch (TimeoutException e) {
+            receiver.discard();
             logger.error("Screencap timeout for {}", emulatorNumber);
             throw new RuntimeException("Screencap timeout", e);
         } catch (Exception e) {
+            receiver.discard();
             logger.error("Failed to capture screenshot for {}: {}", emulatorNumber, e.getMessage());
             throw new RuntimeException("Error capturing screenshot", e);
         }
     }
 
+	/**
+	 * Returns the current frame of the emulator from its frame source: a frame
+	 * captured after the last input sent to it.
+	 * <p>
+	 * The caller owns a reference to the returned frame and should call
+	 * {@link DTORawImage#release()} when done so its buffer can be reused by a
+	 * later capture. A frame that is never released is simply left to the GC.
+	 * @param emulatorNumber Emulator identifier
+	 * @return DTORawImage with raw screenshot data
+	 */
+	public DTORawImage getFrame(String emulatorNumber) {
+		return recordRead(emulatorNumber,
+				getFrameSource(emulatorNumber).awaitFrameAfter(getLastInputTime(emulatorNumber)));
+	}
+
+	/**
+	 * Returns the last capture if it is still fresh: captured at or after the
+	 * given time and less than the freshness window ago. Otherwise a new
+	 * screenshot is captured. The caller owns a reference to the returned frame.
+	 * <p>
+	 * Callers pass the time of their last input, so a frame taken before that
+	 * input was sent is never reused however recent it is.
+	 * @param emulatorNumber Emulator identifier
+	 * @param timestamp {@link System#nanoTime()} value the frame must not be older than
+	 * @return DTORawImage with raw screenshot data
+	 */
+	DTORawImage getFrameCapturedAfter(String emulatorNumber, long timestamp) {
+		CachedFrame cached = frameCache.get(emulatorNumber);
+		if (cached != null && frameCacheWindowMs > 0 && cached.capturedAt() - timestamp >= 0) {
+			long age = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cached.capturedAt());
+			// retain() fails if the frame was replaced and recycled in the meantime
+			if (age <= frameCacheWindowMs && cached.image().retain()) {
+				logger.debug("Reusing frame captured {} ms ago for emulator {}", age, emulatorNumber);
+				return cached.image();
+			}
+		}
+		return captureAndCache(emulatorNumber);
+	}
+
+	/**
+	 * Gets the frame source of the emulator, creating it on first use.
+	 * @param emulatorNumber Emulator identifier
+	 * @return Streaming source if frame streaming is enabled, on-demand screencap otherwise
+	 */
+	public FrameSource getFrameSource(String emulatorNumber) {
+		return frameSources.computeIfAbsent(emulatorNumber, k -> frameStreaming
+				? new StreamingFrameSource(this, k)
+				: new ScreencapFrameSource(this, k));
+	}
+
+	/**
+	 * Switches between on-demand and streaming frame sources. Existing sources
+	 * are closed and recreated on the next read.
+	 * @param enabled true to keep capturing frames in the background
+	 */
+	public void setFrameStreaming(boolean enabled) {
+		this.frameStreaming = enabled;
+		frameSources.values().forEach(FrameSource::close);
+		frameSources.clear();
+	}
+
+	/**
+	 * Closes the frame source of an emulator, stopping its background capture if any.
+	 * @param emulatorNumber Emulator identifier
+	 */
+	public void closeFrameSource(String emulatorNumber) {
+		FrameSource source = frameSources.remove(emulatorNumber);
+		if (source != null) {
+			source.close();
+		}
+	}
+
+	/**
+	 * Gets the time the last input was sent to the emulator.
+	 * @param emulatorNumber Emulator identifier
+	 * @return {@link System#nanoTime()} value of the last input
+	 */
+	public long getLastInputTime(String emulatorNumber) {
+		return lastInputTimes.getOrDefault(emulatorNumber, createdAt);
+	}
+
+	/**
+	 * Starts or stops recording sessions that {@code ReplayEmulator} can play back.
+	 * Each emulator is recorded in its own subdirectory; recorders already open are closed.
+	 * @param directory Root directory of the recording, or null to stop recording
+	 */
+	public void setRecordingDirectory(Path directory) {
+		this.recordingDirectory = directory;
+		sessionRecorders.values().forEach(SessionRecorder::close);
+		sessionRecorders.clear();
+		if (directory != null) {
+			logger.info("Recording emulator sessions to {}", directory.toAbsolutePath());
+		}
+	}
+
+	private SessionRecorder getSessionRecorder(String emulatorNumber) {
+		Path directory = recordingDirectory;
+		if (directory == null) {
+			return null;
+		}
+		return sessionRecorders.computeIfAbsent(emulatorNumber, k -> {
+			try {
+				return new SessionRecorder(directory.resolve(k));
+			} catch (IOException e) {
+				logger.error("Could not start session recording for emulator {}: {}", k, e.getMessage());
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Adds an input to the session recording of the emulator, if one is running.
+	 * @param emulatorNumber Emulator identifier
+	 * @param input Input in the replay script syntax, e.g. {@code tap 120 640}
+	 */
+	protected void recordInput(String emulatorNumber, String input) {
+		SessionRecorder recorder = getSessionRecorder(emulatorNumber);
+		if (recorder != null) {
+			recorder.recordInput(input);
+		}
+	}
+
+	/**
+	 * Invalidates the cached frame by recording the input time. Frames captured
+	 * before it are no longer reused. Called after every input sent to the emulator.
+	 * @param emulatorNumber Emulator identifier
+	 */
+	public void invalidateFrameCache(String emulatorNumber) {
+		lastInputTimes.put(emulatorNumber, System.nanoTime());
+	}
+
+	/**
+	 * Records that an input is about to be sent. Frames captured before it are no
+	 * longer reused, even if sending fails halfway and the input is retried.
+	 * @param emulatorNumber Emulator identifier
+	 */
+	private void markInputStart(String emulatorNumber) {
+		lastInputTimes.put(emulatorNumber, System.nanoTime());
+	}
+
+	/**
+	 * Sets how long a captured frame may be reused by consecutive searches.
+	 * @param windowMs Freshness window in milliseconds, 0 disables frame reuse
+	 */
+	public void setFrameCacheWindowMs(long windowMs) {
+		this.frameCacheWindowMs = Math.max(0, windowMs);
+	}
+
 	/**
 	 * Simulates a tap event at a random point within the given area.
 	 * @param emulatorNumber Emulator identifier
@@ -460,18 +656,43 @@ public abstract class Emulator {
 	 */
 	protected boolean tapWithDdmlib(String emulatorNumber, DTOPoint point1, DTOPoint point2, int tapCount, int delayMs) {
 		return withRetries(emulatorNumber, device -> {
+			markInputStart(emulatorNumber);
 			Random random = new Random();
 			int minX = Math.min(point1.getX(), point2.getX());
 			int maxX = Math.max(point1.getX(), point2.getX());
 			int minY = Math.min(point1.getY(), point2.getY());
 			int maxY = Math.max(point1.getY(), point2.getY());
 
+			int[][] taps = new int[tapCount][];
+			for (int i = 0; i < tapCount; i++) {
+				taps[i] = new int[] { minX + random.nextInt(maxX - minX + 1), minY + random.nextInt(maxY - minY + 1) };
+			}
+
+			// All taps go out as one script, with the delays slept on the device
+			List<String> script = new ArrayList<>();
+			for (int[] tap : taps) {
+				script.add("input tap " + tap[0] + " " + tap[1]);
+				if (delayMs > 0) {
+					script.add(formatShellSleep(delayMs));
+				}
+			}
+			for (int[] tap : taps) {
+				recordInput(emulatorNumber, "tap " + tap[0] + " " + tap[1]);
+			}
+			ShellBatchResult result = runOnShellSession(device, script, INPUT_SCRIPT_TIMEOUT_MS + (long) tapCount * delayMs);
+			if (result != ShellBatchResult.NOT_SENT) {
+				invalidateFrameCache(emulatorNumber);
+				logger.debug("{} tap(s) sent in one batch on emulator {}: {}", tapCount, emulatorNumber, script);
+				return result == ShellBatchResult.COMPLETED;
+			}
+
 			for (int i = 1; i <= tapCount; i++) {
-				int x = minX + random.nextInt(maxX - minX + 1);
-				int y = minY + random.nextInt(maxY - minY + 1);
+				int x = taps[i - 1][0];
+				int y = taps[i - 1][1];
 
 				try {
 					device.executeShellCommand("input tap " + x + " " + y, new NullOutputReceiver());
+					invalidateFrameCache(emulatorNumber);
                     // Detailed log with coordinates and tap count
                     logger.debug("Tap {}/{} executed at ({},{}) on emulator {}", i, tapCount, x, y, emulatorNumber);
 					Thread.sleep(delayMs);
@@ -494,9 +715,98 @@ public abstract class Emulator {
 		String adbPath = getProjectAdbPath();
 		logger.info("Restarting ADB bridge with path: {}", adbPath);
 		bridge = AndroidDebugBridge.createBridge(adbPath, true, 5000, TimeUnit.MILLISECONDS);
+		deviceRegistry.attach(bridge);
+		closeShellSessions();
 		logger.info("ADB restarted successfully");
 	}
 
+	/**
+	 * Runs input commands as one batch on the persistent shell of the device.
+	 * A broken shell is closed so the next batch opens a new one.
+	 * @param device Target device
+	 * @param commands Shell commands, run in order
+	 * @param timeoutMs Maximum time to wait for the whole batch
+	 * @return NOT_SENT if the caller must fall back to single shell commands, UNCONFIRMED if the
+	 *         batch was sent but did not finish in time and must not be sent again
+	 */
+	private ShellBatchResult runOnShellSession(IDevice device, List<String> commands, long timeoutMs) {
+		String serial = device.getSerialNumber();
+		AdbShellSession session = getShellSession(serial);
+		if (session == null) {
+			return ShellBatchResult.NOT_SENT;
+		}
+		try {
+			session.run(commands, timeoutMs);
+			return ShellBatchResult.COMPLETED;
+		} catch (AdbShellSession.NotSentException e) {
+			logger.warn("Persistent ADB shell for {} failed, falling back to single commands: {}", serial, e.getMessage());
+			return ShellBatchResult.NOT_SENT;
+		} catch (IOException e) {
+			logger.warn("Persistent ADB shell for {} failed after sending {}, not sending it again: {}", serial,
+					commands, e.getMessage());
+			return ShellBatchResult.UNCONFIRMED;
+		} finally {
+			if (!session.isAlive()) {
+				shellSessions.remove(serial, session);
+				session.close();
+			}
+		}
+	}
+
+	/**
+	 * Gets the persistent shell of a device, opening a new one if there is none or it broke.
+	 * @param serial Device serial
+	 * @return Open session, or null if the shell could not be started
+	 */
+	private AdbShellSession getShellSession(String serial) {
+		AdbShellSession session = shellSessions.get(serial);
+		if (session != null) {
+			if (session.isAlive()) {
+				return session;
+			}
+			shellSessions.remove(serial, session);
+			session.close();
+		}
+
+		try {
+			AdbShellSession created = new AdbShellSession(getProjectAdbPath(), serial);
+			AdbShellSession existing = shellSessions.putIfAbsent(serial, created);
+			if (existing != null) {
+				created.close();
+				return existing;
+			}
+			return created;
+		} catch (IOException e) {
+			logger.warn("Could not open persistent ADB shell for {}: {}", serial, e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Stops the background work of the emulator: status polling, frame streaming,
+	 * session recording and persistent shells. Called when the emulator is replaced
+	 * or the application shuts down.
+	 */
+	public void close() {
+		statusPoller.stop();
+		frameSources.values().forEach(FrameSource::close);
+		frameSources.clear();
+		setRecordingDirectory(null);
+		closeShellSessions();
+	}
+
+	/**
+	 * Closes every persistent shell. They are reopened on the next input command.
+	 */
+	public void closeShellSessions() {
+		shellSessions.values().forEach(AdbShellSession::close);
+		shellSessions.clear();
+	}
+
+	private static String formatShellSleep(int delayMs) {
+		return String.format(Locale.ROOT, "sleep %.3f", delayMs / 1000.0);
+	}
+
 	/**
 	 * Executes a swipe gesture from the start point to the end point on the emulator.
 	 * @param emulatorNumber Emulator identifier
@@ -506,8 +816,13 @@ public abstract class Emulator {
 	public void swipe(String emulatorNumber, DTOPoint point, DTOPoint point2) {
 		withRetries(emulatorNumber, device -> {
 			try {
+				markInputStart(emulatorNumber);
 				String command = String.format("input swipe %d %d %d %d", point.getX(), point.getY(), point2.getX(), point2.getY());
-				device.executeShellCommand(command, new NullOutputReceiver());
+				if (runOnShellSession(device, List.of(command), INPUT_SCRIPT_TIMEOUT_MS) == ShellBatchResult.NOT_SENT) {
+					device.executeShellCommand(command, new NullOutputReceiver());
+				}
+				recordInput(emulatorNumber, String.format("swipe %d %d %d %d", point.getX(), point.getY(), point2.getX(), point2.getY()));
+				invalidateFrameCache(emulatorNumber);
 				logger.debug("Swipe executed from ({},{}) to ({},{}) on emulator {}",
 						point.getX(), point.getY(), point2.getX(), point2.getY(), emulatorNumber);
 				return null;
@@ -524,7 +839,13 @@ public abstract class Emulator {
 	public void pressBackButton(String emulatorNumber) {
 		withRetries(emulatorNumber, device -> {
 			try {
-				device.executeShellCommand("input keyevent KEYCODE_BACK", new NullOutputReceiver());
+				markInputStart(emulatorNumber);
+				String command = "input keyevent KEYCODE_BACK";
+				if (runOnShellSession(device, List.of(command), INPUT_SCRIPT_TIMEOUT_MS) == ShellBatchResult.NOT_SENT) {
+					device.executeShellCommand(command, new NullOutputReceiver());
+				}
+				recordInput(emulatorNumber, "back");
+				invalidateFrameCache(emulatorNumber);
                 logger.debug("Back button pressed on emulator {}", emulatorNumber);
 				return null;
 			} catch (Exception e) {
@@ -543,12 +864,17 @@ public abstract class Emulator {
 	public void writeText(String emulatorNumber, String text) {
 		withRetries(emulatorNumber, device -> {
 			try {
+				markInputStart(emulatorNumber);
 				// Escape special characters for shell input
 				String escapedText = escapeTextForShell(text);
 
 				// Use input text command
 				String command = "input text \"" + escapedText + "\"";
-				device.executeShellCommand(command, new NullOutputReceiver());
+				if (runOnShellSession(device, List.of(command), INPUT_SCRIPT_TIMEOUT_MS) == ShellBatchResult.NOT_SENT) {
+					device.executeShellCommand(command, new NullOutputReceiver());
+				}
+				recordInput(emulatorNumber, "text " + text);
+				invalidateFrameCache(emulatorNumber);
 				logger.debug("Text written on emulator {}: {}", emulatorNumber, text);
 				return null;
 			} catch (Exception e) {
@@ -559,7 +885,8 @@ public abstract class Emulator {
 
 	/**
 	 * Clears text from the currently focused input field.
-	 * Simulates pressing backspace multiple times.
+	 * Simulates pressing backspace multiple times. The key presses are sent as
+	 * a few multi-key {@code input keyevent} commands in a single batch.
 	 *
 	 * @param emulatorNumber Emulator identifier
 	 * @param count Number of backspace key presses
@@ -567,8 +894,23 @@ public abstract class Emulator {
 	public void clearText(String emulatorNumber, int count) {
 		withRetries(emulatorNumber, device -> {
 			try {
+				markInputStart(emulatorNumber);
+				List<String> script = new ArrayList<>();
+				for (int remaining = count; remaining > 0; remaining -= KEY_EVENTS_PER_COMMAND) {
+					int keys = Math.min(remaining, KEY_EVENTS_PER_COMMAND);
+					script.add("input keyevent" + " KEYCODE_DEL".repeat(keys));
+				}
+				recordInput(emulatorNumber, "clear " + count);
+				if (script.isEmpty() || runOnShellSession(device, script,
+						INPUT_SCRIPT_TIMEOUT_MS * script.size()) != ShellBatchResult.NOT_SENT) {
+					invalidateFrameCache(emulatorNumber);
+					logger.debug("Cleared {} characters on emulator {}", count, emulatorNumber);
+					return null;
+				}
+
 				for (int i = 0; i < count; i++) {
 					device.executeShellCommand("input keyevent KEYCODE_DEL", new NullOutputReceiver());
+					invalidateFrameCache(emulatorNumber);
 					Thread.sleep(50); // Small delay between key presses
 				}
 				logger.debug("Cleared {} characters on emulator {}", count, emulatorNumber);
@@ -702,7 +1044,9 @@ public abstract class Emulator {
 	public void launchApp(String emulatorNumber, String packageName) {
 		withRetries(emulatorNumber, device -> {
 			try {
+				markInputStart(emulatorNumber);
 				device.executeShellCommand("monkey -p " + packageName + " -c android.intent.category.LAUNCHER 1", new NullOutputReceiver());
+				invalidateFrameCache(emulatorNumber);
                 logger.info("Application {} launched on emulator {}", packageName, emulatorNumber);
 				return null;
 			} catch (Exception e) {
@@ -719,7 +1063,9 @@ public abstract class Emulator {
 	public void sendGameToBackground(String emulatorNumber) {
 		withRetries(emulatorNumber, device -> {
 			try {
+				markInputStart(emulatorNumber);
 				device.executeShellCommand("input keyevent KEYCODE_HOME", new NullOutputReceiver());
+				invalidateFrameCache(emulatorNumber);
                 logger.info("Game sent to background on emulator {}", emulatorNumber);
 				return null;
 			} catch (Exception e) {
@@ -762,12 +1108,16 @@ public abstract class Emulator {
 	 * @throws TesseractException if OCR fails
 	 */
 	public String ocrRegionText(String emulatorNumber, DTOPoint p1, DTOPoint p2) throws IOException, TesseractException {
-		DTORawImage rawImage = captureScreenshot(emulatorNumber);
+		DTORawImage rawImage = getFrame(emulatorNumber);
 		if (rawImage == null)
 			throw new IOException("Could not capture image.");
 
         String language = (EmulatorManager.GAME == GameVersion.CHINA) ? "eng+chi_sim" : "eng";
-		return UtilOCR.ocrFromRegion(rawImage, p1, p2, language);
+		try {
+			return UtilOCR.ocrFromRegion(rawImage, p1, p2, language);
+		} finally {
+			rawImage.release();
+		}
 	}
 
 	/**
@@ -781,120 +1131,184 @@ public abstract class Emulator {
 	 * @throws TesseractException if OCR fails
 	 */
 	public String ocrRegionText(String emulatorNumber, DTOPoint p1, DTOPoint p2, DTOTesseractSettings settings) throws IOException, TesseractException {
-		DTORawImage rawImage;
-
-		// Check if we should reuse the last image
-		if (settings != null && settings.isReuseLastImage()) {
-			rawImage = lastScreenshotCache.get(emulatorNumber);
-			if (rawImage != null) {
-				logger.debug("Reusing cached screenshot for OCR on emulator {}", emulatorNumber);
-			} else {
-				logger.debug("No cached screenshot available, capturing new one for emulator {}", emulatorNumber);
-				rawImage = captureScreenshot(emulatorNumber);
-			}
-		} else {
-			// Normal behavior: capture new screenshot
-			rawImage = captureScreenshot(emulatorNumber);
-		}
-
+		DTORawImage rawImage = getOcrFrame(emulatorNumber, settings != null && settings.isReuseLastImage());
 		if (rawImage == null)
 			throw new IOException("Could not capture image.");
 
-		return UtilOCR.ocrFromRegion(rawImage, p1, p2, settings);
+		try {
+			return UtilOCR.ocrFromRegion(rawImage, p1, p2, settings);
+		} finally {
+			rawImage.release();
+		}
 	}
 
 	/**
-	 * Gets a cached device or finds it if not in cache or expired.
-	 * This significantly improves performance by avoiding repeated device lookups.
+	 * Performs OCR on several regions of the same emulator frame. The frame is
+	 * captured once and the regions are read in parallel.
 	 * @param emulatorNumber Emulator identifier
-	 * @return IDevice instance or null if not found
-	 * @throws InterruptedException if interrupted while waiting
+	 * @param regions Regions to read, with the Tesseract settings for each one (may be null)
+	 * @return Recognized text for each region; regions that could not be read map to null
+	 * @throws IOException if image capture fails
 	 */
-	protected IDevice getCachedDevice(String emulatorNumber) throws InterruptedException {
-		long currentTime = System.currentTimeMillis();
-
-		// Check if we have a cached device and it's still valid
-		IDevice cachedDevice = deviceCache.get(emulatorNumber);
-		Long cacheTime = deviceCacheTimestamp.get(emulatorNumber);
-
-		if (cachedDevice != null && cacheTime != null) {
-			// Check if cache is still valid (TTL not expired)
-			if ((currentTime - cacheTime) < DEVICE_CACHE_TTL) {
-				// Verify device is still online
-				if (cachedDevice.isOnline()) {
-					logger.trace("Using cached device for emulator {}", emulatorNumber);
-					return cachedDevice;
-				} else {
-					logger.debug("Cached device is offline, refreshing cache for emulator {}", emulatorNumber);
-				}
-			} else {
-				logger.trace("Device cache expired for emulator {}, refreshing", emulatorNumber);
-			}
+	public Map<DTOArea, String> ocrRegionsText(String emulatorNumber, Map<DTOArea, DTOTesseractSettings> regions) throws IOException {
+		boolean reuseLastImage = regions.values().stream()
+				.anyMatch(settings -> settings != null && settings.isReuseLastImage());
+		DTORawImage rawImage = getOcrFrame(emulatorNumber, reuseLastImage);
+		if (rawImage == null)
+			throw new IOException("Could not capture image.");
+
+		String language = (EmulatorManager.GAME == GameVersion.CHINA) ? "eng+chi_sim" : "eng";
+		try {
+			return UtilOCR.ocrFromRegions(rawImage, regions, language);
+		} finally {
+			rawImage.release();
 		}
+	}
 
-		// Cache miss or expired, find device and update cache
-		IDevice device = findDevice(emulatorNumber);
-		if (device != null) {
-			deviceCache.put(emulatorNumber, device);
-			deviceCacheTimestamp.put(emulatorNumber, currentTime);
-			logger.debug("Device cached for emulator {}", emulatorNumber);
+	private DTORawImage getOcrFrame(String emulatorNumber, boolean reuseLastImage) {
+		// Check if we should reuse the last image
+		if (reuseLastImage) {
+			// Reuse the last frame regardless of its age or later inputs. Not a new read for the
+			// session recording, a replay reuses its last frame here as well
+			CachedFrame cached = frameCache.get(emulatorNumber);
+			if (cached != null && cached.image().retain()) {
+				logger.debug("Reusing cached screenshot for OCR on emulator {}", emulatorNumber);
+				return cached.image();
+			}
+			logger.debug("No cached screenshot available, capturing new one for emulator {}", emulatorNumber);
+			return captureScreenshot(emulatorNumber);
 		}
 
-		return device;
+		// Normal behavior: current frame, shared with other reads while still fresh
+		return getFrame(emulatorNumber);
 	}
 
 	/**
-	 * Invalidates the device cache for a specific emulator.
-	 * Useful when a device disconnects or needs to be refreshed.
+	 * Gets the online device from the registry, or finds it if the bridge does not know it yet.
 	 * @param emulatorNumber Emulator identifier
+	 * @return IDevice instance or null if not found
+	 * @throws InterruptedException if interrupted while waiting
 	 */
-	protected void invalidateDeviceCache(String emulatorNumber) {
-		deviceCache.remove(emulatorNumber);
-		deviceCacheTimestamp.remove(emulatorNumber);
-		logger.debug("Device cache invalidated for emulator {}", emulatorNumber);
+	protected IDevice getCachedDevice(String emulatorNumber) throws InterruptedException {
+		IDevice device = deviceRegistry.get(getDeviceSerial(emulatorNumber));
+		if (device != null && device.isOnline()) {
+			logger.trace("Using registered device for emulator {}", emulatorNumber);
+			return device;
+		}
+		return findDevice(emulatorNumber);
 	}
 
 	/**
-	 * Checks if the emulator is running with caching to avoid repeated external process calls.
-	 * This wrapper method provides significant performance improvement for MEmu emulator.
+	 * Waits until the device of the emulator is online, e.g. after launching it.
+	 * Network devices only appear once connected, so the connection is retried while waiting.
 	 * @param emulatorNumber Emulator identifier
-	 * @return true if running, false otherwise
+	 * @param timeoutMs Maximum time to wait
+	 * @return true if the device is online
+	 * @throws InterruptedException if interrupted while waiting
 	 */
-	protected boolean isRunningCached(String emulatorNumber) {
-		long currentTime = System.currentTimeMillis();
-
-		// Check if we have a cached status and it's still valid
-		Boolean cachedStatus = runningStatusCache.get(emulatorNumber);
-		Long statusTime = runningStatusTimestamp.get(emulatorNumber);
-
-		if (cachedStatus != null && statusTime != null) {
-			// Check if cache is still valid (TTL not expired)
-			if ((currentTime - statusTime) < RUNNING_STATUS_CACHE_TTL) {
-				logger.trace("Using cached running status for emulator {}: {}", emulatorNumber, cachedStatus);
-				return cachedStatus;
+	public boolean awaitDeviceOnline(String emulatorNumber, long timeoutMs) throws InterruptedException {
+		waitForBridge();
+		String serial = getDeviceSerial(emulatorNumber);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+		while (true) {
+			IDevice device = deviceRegistry.get(serial);
+			if (device != null && device.isOnline()) {
+				return true;
+			}
+			if (device == null && !serial.startsWith("emulator-")) {
+				connectToDeviceBySerial(serial);
+			}
+			long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			if (remainingMs <= 0) {
+				return false;
+			}
+			if (deviceRegistry.awaitOnline(serial, Math.min(remainingMs, DEVICE_CONNECT_TIMEOUT_MS)) != null) {
+				return true;
 			}
 		}
+	}
 
-		// Cache miss or expired, call actual isRunning and update cache
-		boolean status = isRunning(emulatorNumber);
-		runningStatusCache.put(emulatorNumber, status);
-		runningStatusTimestamp.put(emulatorNumber, currentTime);
-		logger.trace("Running status cached for emulator {}: {}", emulatorNumber, status);
+	/**
+	 * Lists the running status of every instance with a single console call.
+	 * Emulator types whose console can do this override it; the default returns null,
+	 * in which case only the per-instance check of {@link #isRunning(String)} is used.
+	 * @return Running status keyed by emulator number, or null if not supported
+	 */
+	protected Map<String, Boolean> listInstanceStatuses() throws IOException, InterruptedException {
+		return null;
+	}
 
-		return status;
+	/**
+	 * Gets the running status of an instance from the latest bulk poll.
+	 * Subclasses call this first in {@link #isRunning(String)} and query the instance
+	 * themselves only when it returns null.
+	 * @param emulatorNumber Emulator identifier
+	 * @return Polled status, or null if unknown
+	 */
+	protected Boolean getPolledRunningStatus(String emulatorNumber) {
+		return statusPoller.getStatus(emulatorNumber);
 	}
 
 	/**
-	 * Invalidates the running status cache for a specific emulator.
+	 * Invalidates the polled running status for a specific emulator.
 	 * Should be called when launching or closing an emulator.
 	 * @param emulatorNumber Emulator identifier
 	 */
 	protected void invalidateRunningStatusCache(String emulatorNumber) {
-		runningStatusCache.remove(emulatorNumber);
-		runningStatusTimestamp.remove(emulatorNumber);
+		statusPoller.invalidate(emulatorNumber);
 		logger.debug("Running status cache invalidated for emulator {}", emulatorNumber);
 	}
 
+	/**
+	 * Runs a console command of the emulator and returns its output lines.
+	 * @param command Command and arguments
+	 * @return Output lines
+	 * @throws IOException if the command cannot be started, fails or does not finish in time
+	 */
+	protected List<String> readConsoleOutput(String[] command) throws IOException, InterruptedException {
+		return readConsoleOutput(command, CONSOLE_COMMAND_TIMEOUT_MS);
+	}
+
+	/**
+	 * Runs a console command of the emulator and returns its output lines. The output is read
+	 * on a separate thread, so a console that hangs is killed once the timeout expires.
+	 * @param command Command and arguments
+	 * @param timeoutMs Maximum time for the command to finish
+	 * @return Output lines
+	 * @throws IOException if the command cannot be started, fails or does not finish in time
+	 */
+	protected List<String> readConsoleOutput(String[] command, long timeoutMs) throws IOException, InterruptedException {
+		ProcessBuilder pb = new ProcessBuilder(command);
+		pb.directory(new File(consolePath).getParentFile());
+		pb.redirectErrorStream(true);
+		Process process = pb.start();
+
+		List<String> lines = new CopyOnWriteArrayList<>();
+		Thread reader = new Thread(() -> {
+			try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+				String line;
+				while ((line = output.readLine()) != null) {
+					lines.add(line);
+				}
+			} catch (IOException e) {
+				// Stream closed when the process is destroyed
+			}
+		}, "console-output");
+		reader.setDaemon(true);
+		reader.start();
+
+		if (!process.waitFor(timeoutMs, TimeUnit.MILLISECONDS)) {
+			process.destroyForcibly();
+			throw new IOException(command[0] + " did not finish in time");
+		}
+		// Child processes of the console may keep the output open after it exits
+		reader.join(timeoutMs);
+		if (process.exitValue() != 0) {
+			throw new IOException(command[0] + " exited with code " + process.exitValue());
+		}
+		return new ArrayList<>(lines);
+	}
+
 	/**
 	 * Extracts the IP:port address from a device serial string.
 	 * @param serial Device serial string
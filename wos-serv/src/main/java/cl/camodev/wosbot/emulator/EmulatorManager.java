@@ -2,15 +2,18 @@ package cl.camodev.wosbot.emulator;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.PriorityQueue;
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
 
 import cl.camodev.utiles.ImageSearchUtil;
 import cl.camodev.utiles.UtilOCR;
@@ -20,10 +23,10 @@ import cl.camodev.wosbot.console.enumerable.GameVersion;
 import cl.camodev.wosbot.emulator.impl.LDPlayerEmulator;
 import cl.camodev.wosbot.emulator.impl.MEmuEmulator;
 import cl.camodev.wosbot.emulator.impl.MuMuEmulator;
+import cl.camodev.wosbot.emulator.impl.ReplayEmulator;
 import cl.camodev.wosbot.ot.*;
 import cl.camodev.wosbot.serv.impl.ServConfig;
 import cl.camodev.wosbot.serv.impl.ServProfiles;
-import cl.camodev.wosbot.serv.task.WaitingThread;
 import net.sourceforge.tess4j.TesseractException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,16 +36,20 @@ public class EmulatorManager {
     private static final Logger logger = LoggerFactory.getLogger(EmulatorManager.class);
 
     public static GameVersion GAME = GameVersion.GLOBAL;
+    private static volatile Map<EnumTemplates, ResolvedTemplate> resolvedTemplates;
     private static EmulatorManager instance;
-    private final ReentrantLock lock = new ReentrantLock();
-    private final Condition permitsAvailable = lock.newCondition();
-    private final PriorityQueue<WaitingThread> waitingQueue = new PriorityQueue<>();
     private Emulator emulator;
     private int MAX_RUNNING_EMULATORS = 3;
-    private final Set<Thread> activeSlots = new HashSet<>();
+    private final EmulatorSlotScheduler slotScheduler = new EmulatorSlotScheduler(MAX_RUNNING_EMULATORS);
 
-    private EmulatorManager() {
+    /**
+     * Profiles with a task queue, keyed by emulator number. Used to resolve
+     * profile names for logging without going through persistence.
+     */
+    private final Map<String, DTOProfiles> profilesByEmulator = new ConcurrentHashMap<>();
 
+    private EmulatorManager() {
+        ServProfiles.getServices().addProfileDataChangeListener(this::onProfileDataChanged);
     }
 
     public static EmulatorManager getInstance() {
@@ -63,11 +70,11 @@ public class EmulatorManager {
         String gameVersionName = globalConfig.getOrDefault(EnumConfigurationKey.GAME_VERSION_STRING.name(),
                 GameVersion.GLOBAL.name());
         try {
-            GAME = GameVersion.valueOf(gameVersionName);
+            setGameVersion(GameVersion.valueOf(gameVersionName));
             logger.info("Game version set to {}", GAME.name());
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid game version '{}' found in configuration, using default GLOBAL", gameVersionName);
-            GAME = GameVersion.GLOBAL;
+            setGameVersion(GameVersion.GLOBAL);
         }
 
         String savedActiveEmulator = globalConfig.get(EnumConfigurationKey.CURRENT_EMULATOR_STRING.name());
@@ -78,6 +85,7 @@ public class EmulatorManager {
                 .ofNullable(globalConfig.get(EnumConfigurationKey.MAX_RUNNING_EMULATORS_INT.name()))
                 .map(Integer::parseInt)
                 .orElse(Integer.parseInt(EnumConfigurationKey.MAX_RUNNING_EMULATORS_INT.getDefaultValue()));
+        slotScheduler.setMaxSlots(MAX_RUNNING_EMULATORS);
         try {
             EmulatorType emulatorType = EmulatorType.valueOf(savedActiveEmulator);
             String consolePath = globalConfig.get(emulatorType.getConfigKey());
@@ -87,6 +95,8 @@ public class EmulatorManager {
                         "No path found for the selected emulator: " + emulatorType.getDisplayName());
             }
 
+            // The previous emulator keeps polling and streaming until it is closed
+            shutdown();
             switch (emulatorType) {
                 case MUMU:
                     this.emulator = new MuMuEmulator(consolePath);
@@ -97,10 +107,31 @@ public class EmulatorManager {
                 case LDPLAYER:
                     this.emulator = new LDPlayerEmulator(consolePath);
                     break;
+                case REPLAY:
+                    this.emulator = new ReplayEmulator(consolePath);
+                    break;
                 default:
                     throw new IllegalArgumentException("Unsupported emulator type: " + emulatorType);
             }
 
+            long frameCacheWindowMs = Optional
+                    .ofNullable(globalConfig.get(EnumConfigurationKey.FRAME_CACHE_WINDOW_MS_INT.name()))
+                    .map(Long::parseLong)
+                    .orElse(Long.parseLong(EnumConfigurationKey.FRAME_CACHE_WINDOW_MS_INT.getDefaultValue()));
+            this.emulator.setFrameCacheWindowMs(frameCacheWindowMs);
+
+            boolean frameStreaming = Optional
+                    .ofNullable(globalConfig.get(EnumConfigurationKey.FRAME_STREAMING_BOOL.name()))
+                    .map(Boolean::parseBoolean)
+                    .orElse(Boolean.parseBoolean(EnumConfigurationKey.FRAME_STREAMING_BOOL.getDefaultValue()));
+            this.emulator.setFrameStreaming(frameStreaming);
+
+            String recordingPath = globalConfig.get(EnumConfigurationKey.SESSION_RECORDING_PATH_STRING.name());
+            if (recordingPath != null && !recordingPath.isBlank()) {
+                String sessionName = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+                this.emulator.setRecordingDirectory(Paths.get(recordingPath, sessionName));
+            }
+
             logger.info("Emulator initialized: {}", emulatorType.getDisplayName());
             // restartAdbServer();
 
@@ -109,6 +140,15 @@ public class EmulatorManager {
         }
     }
 
+    /**
+     * Stops the background work of the emulator, writing the pending session recording if any.
+     */
+    public void shutdown() {
+        if (emulator != null) {
+            emulator.close();
+        }
+    }
+
     /**
      * Checks if the emulator has been configured before executing any action.
      */
@@ -121,13 +161,33 @@ public class EmulatorManager {
     /**
      * Captures a screenshot of the emulator as DTORawImage.
      * The conversion to BufferedImage is done only when needed by specific
-     * operations.
+     * operations. Calling {@link DTORawImage#release()} when done lets the
+     * frame buffer be reused by the next capture.
      */
     public DTORawImage captureScreenshotViaADB(String emulatorNumber) {
         checkEmulatorInitialized();
         return emulator.captureScreenshot(emulatorNumber);
     }
 
+    /**
+     * Gets the current frame of the emulator from its frame source: the first
+     * frame captured after the last input. With the on-demand source, consecutive
+     * searches share the same capture while it is younger than the configured
+     * freshness window; use {@link #captureScreenshotViaADB} to force a new one.
+     */
+    public DTORawImage getFrame(String emulatorNumber) {
+        checkEmulatorInitialized();
+        return emulator.getFrame(emulatorNumber);
+    }
+
+    /**
+     * Forces the next search to capture a new frame.
+     */
+    public void invalidateFrame(String emulatorNumber) {
+        checkEmulatorInitialized();
+        emulator.invalidateFrameCache(emulatorNumber);
+    }
+
     /**
      * Taps at a specific coordinate.
      */
@@ -235,62 +295,142 @@ public class EmulatorManager {
     }
 
     /**
-     * Helper method to get profile name from emulator number
+     * Executes OCR on several screen regions using one screenshot. The regions are
+     * read in parallel, each with its own Tesseract settings.
+     *
+     * @param emulatorNumber Emulator identifier
+     * @param regions        Regions to read, with the settings for each one
+     * @return Recognized text keyed by region, in the same order as the given map;
+     *         regions that could not be read map to null
+     * @throws IOException if image capture fails
      */
-    private String getProfileNameForEmulator(String emulatorNumber) {
-        try {
-            // Use ServProfiles to find profile with this emulator number
-            List<DTOProfiles> profiles = ServProfiles.getServices().getProfiles();
+    public Map<DTOArea, String> ocrRegions(String emulatorNumber, Map<DTOArea, DTOTesseractSettings> regions)
+            throws IOException {
+        checkEmulatorInitialized();
+        return emulator.ocrRegionsText(emulatorNumber, regions);
+    }
 
-            if (profiles != null) {
-                for (DTOProfiles profile : profiles) {
-                    if (emulatorNumber.equals(profile.getEmulatorNumber())) {
-                        return profile.getName();
-                    }
-                }
-            }
-        } catch (Exception e) {
-            logger.warn("Could not get profile name for emulator {}: {}",
-                    emulatorNumber, e.getMessage());
+    /**
+     * Executes OCR on several screen regions using one screenshot and the same
+     * Tesseract settings for all of them.
+     */
+    public Map<DTOArea, String> ocrRegions(String emulatorNumber, List<DTOArea> areas, DTOTesseractSettings settings)
+            throws IOException {
+        Map<DTOArea, DTOTesseractSettings> regions = new LinkedHashMap<>();
+        areas.forEach(area -> regions.put(area, settings));
+        return ocrRegions(emulatorNumber, regions);
+    }
+
+    /**
+     * Registers the profile that runs on its emulator.
+     * Any previous registration of the same profile is replaced.
+     */
+    public void registerProfile(DTOProfiles profile) {
+        if (profile == null || profile.getEmulatorNumber() == null) {
+            return;
         }
+        profilesByEmulator.values().removeIf(p -> p.getId().equals(profile.getId()));
+        profilesByEmulator.put(profile.getEmulatorNumber(), profile);
+    }
 
-        return "Unknown";
+    /**
+     * Removes every registered profile, typically when the queues are stopped.
+     */
+    public void clearProfiles() {
+        profilesByEmulator.clear();
     }
 
     /**
-     * Generates the region-specific template path based on the configured game
-     * version
+     * Keeps the registry in sync when a registered profile is edited or deleted.
      */
-    private String getRegionSpecificTemplatePath(String originalPath) {
-        try {
-            String regionSuffix = "";
+    private void onProfileDataChanged(DTOProfiles profile) {
+        if (profile == null || profile.getId() == null) {
+            return;
+        }
+        boolean registered = profilesByEmulator.values().stream().anyMatch(p -> p.getId().equals(profile.getId()));
+        if (!registered) {
+            return;
+        }
 
-            if (GAME == GameVersion.CHINA) {
-                regionSuffix = "_CH";
-            }
-            if (regionSuffix.isEmpty()) {
-                return originalPath;
-            }
+        DTOProfiles updated = ServProfiles.getServices().getProfile(profile.getId());
+        if (updated != null) {
+            registerProfile(updated);
+        } else {
+            profilesByEmulator.values().removeIf(p -> p.getId().equals(profile.getId()));
+        }
+    }
+
+    /**
+     * Helper method to get profile name from emulator number
+     */
+    private String getProfileNameForEmulator(String emulatorNumber) {
+        DTOProfiles profile = profilesByEmulator.get(emulatorNumber);
+        return profile != null ? profile.getName() : "Unknown";
+    }
 
-            // Insert the suffix before the extension
-            int lastDotIndex = originalPath.lastIndexOf('.');
-            if (lastDotIndex != -1) {
-                String pathWithoutExtension = originalPath.substring(0, lastDotIndex);
-                String extension = originalPath.substring(lastDotIndex);
-                return pathWithoutExtension + regionSuffix + extension;
+    /**
+     * Sets the game version and resolves every template for it, so searches
+     * never have to look up region-specific variants.
+     */
+    private static void setGameVersion(GameVersion gameVersion) {
+        GAME = gameVersion;
+        resolvedTemplates = resolveTemplates(gameVersion);
+    }
+
+    /**
+     * Resolves the path of every template for the given game version. Missing
+     * templates are reported once here.
+     */
+    private static Map<EnumTemplates, ResolvedTemplate> resolveTemplates(GameVersion gameVersion) {
+        Map<EnumTemplates, ResolvedTemplate> resolved = new EnumMap<>(EnumTemplates.class);
+        List<EnumTemplates> missing = new ArrayList<>();
+
+        for (EnumTemplates template : EnumTemplates.values()) {
+            String originalPath = template.getTemplate();
+            String regionSpecificPath = getRegionSpecificTemplatePath(originalPath, gameVersion);
+
+            String path = originalPath;
+            boolean available;
+            if (!regionSpecificPath.equals(originalPath) && templateResourceExists(regionSpecificPath)) {
+                path = regionSpecificPath;
+                available = true;
             } else {
-                return originalPath + regionSuffix;
+                available = templateResourceExists(originalPath);
             }
-        } catch (Exception e) {
-            logger.warn("Error generating region-specific template path for {}: {}", originalPath, e.getMessage());
+
+            if (!available) {
+                missing.add(template);
+            }
+            resolved.put(template, new ResolvedTemplate(path, available));
+        }
+
+        if (!missing.isEmpty()) {
+            logger.error("{} templates could not be found and will never match: {}", missing.size(), missing);
+        }
+        logger.debug("Resolved {} templates for game version {}", resolved.size(), gameVersion);
+        return Collections.unmodifiableMap(resolved);
+    }
+
+    /**
+     * Generates the region-specific template path for the given game version
+     */
+    private static String getRegionSpecificTemplatePath(String originalPath, GameVersion gameVersion) {
+        if (gameVersion != GameVersion.CHINA) {
             return originalPath;
         }
+
+        // Insert the suffix before the extension
+        int lastDotIndex = originalPath.lastIndexOf('.');
+        if (lastDotIndex != -1) {
+            return originalPath.substring(0, lastDotIndex) + "_CH" + originalPath.substring(lastDotIndex);
+        }
+        return originalPath + "_CH";
     }
 
     /**
      * Checks if a template resource exists
      */
-    private boolean templateResourceExists(String templatePath) {
+    private static boolean templateResourceExists(String templatePath) {
         try (var is = ImageSearchUtil.class.getResourceAsStream(templatePath)) {
             return is != null;
         } catch (Exception e) {
@@ -299,22 +439,17 @@ public class EmulatorManager {
     }
 
     /**
-     * Gets the most appropriate template path according to the configured region
+     * Gets the template resolved for the configured game version. Searches for a
+     * template that is not available return not found without capturing a frame.
      */
-    private String getBestTemplatePath(String originalPath) {
-        // Generate region-specific path
-        String regionSpecificPath = getRegionSpecificTemplatePath(originalPath);
-
-        // If it's different from the original, check if it exists
-        if (!regionSpecificPath.equals(originalPath) && templateResourceExists(regionSpecificPath)) {
-            logger.debug("Using region-specific template: {}", regionSpecificPath);
-            return regionSpecificPath;
+    public static ResolvedTemplate resolveTemplate(EnumTemplates template) {
+        Map<EnumTemplates, ResolvedTemplate> templates = resolvedTemplates;
+        if (templates == null) {
+            // Searches before initialization use the default game version
+            templates = resolveTemplates(GAME);
+            resolvedTemplates = templates;
         }
-
-        // If the specific version doesn't exist or it's the global version, use the
-        // original
-        logger.debug("Using base template: {}", originalPath);
-        return originalPath;
+        return templates.get(template);
     }
 
     /**
@@ -323,8 +458,12 @@ public class EmulatorManager {
     public DTOImageSearchResult searchTemplate(String emulatorNumber, EnumTemplates templatePath,
             DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double threshold) {
         checkEmulatorInitialized();
-        DTORawImage rawImage = captureScreenshotViaADB(emulatorNumber);
-        String bestTemplatePath = getBestTemplatePath(templatePath.getTemplate());
+        ResolvedTemplate resolved = resolveTemplate(templatePath);
+        if (!resolved.available()) {
+            return templateNotFound();
+        }
+        DTORawImage rawImage = getFrame(emulatorNumber);
+        String bestTemplatePath = resolved.path();
 
         try {
             // Set profile name in ImageSearchUtil for logging
@@ -337,6 +476,7 @@ public class EmulatorManager {
         } finally {
             // Clear profile name after the search is done
             ImageSearchUtil.clearProfileName();
+            rawImage.release();
         }
     }
 
@@ -345,8 +485,12 @@ public class EmulatorManager {
      */
     public DTOImageSearchResult searchTemplate(String emulatorNumber, EnumTemplates templatePath, double threshold) {
         checkEmulatorInitialized();
-        DTORawImage rawImage = captureScreenshotViaADB(emulatorNumber);
-        String bestTemplatePath = getBestTemplatePath(templatePath.getTemplate());
+        ResolvedTemplate resolved = resolveTemplate(templatePath);
+        if (!resolved.available()) {
+            return templateNotFound();
+        }
+        DTORawImage rawImage = getFrame(emulatorNumber);
+        String bestTemplatePath = resolved.path();
 
         try {
             // Set profile name in ImageSearchUtil for logging
@@ -359,6 +503,7 @@ public class EmulatorManager {
         } finally {
             // Clear profile name after the search is done
             ImageSearchUtil.clearProfileName();
+            rawImage.release();
         }
     }
 
@@ -369,8 +514,12 @@ public class EmulatorManager {
     public DTOImageSearchResult searchTemplateGrayscale(String emulatorNumber, EnumTemplates templatePath,
             DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double threshold) {
         checkEmulatorInitialized();
-        DTORawImage rawImage = captureScreenshotViaADB(emulatorNumber);
-        String bestTemplatePath = getBestTemplatePath(templatePath.getTemplate());
+        ResolvedTemplate resolved = resolveTemplate(templatePath);
+        if (!resolved.available()) {
+            return templateNotFound();
+        }
+        DTORawImage rawImage = getFrame(emulatorNumber);
+        String bestTemplatePath = resolved.path();
 
         try {
             // Set profile name in ImageSearchUtil for logging
@@ -383,6 +532,7 @@ public class EmulatorManager {
         } finally {
             // Clear profile name after the search is done
             ImageSearchUtil.clearProfileName();
+            rawImage.release();
         }
     }
 
@@ -392,8 +542,12 @@ public class EmulatorManager {
     public DTOImageSearchResult searchTemplateGrayscale(String emulatorNumber, EnumTemplates templatePath,
             double threshold) {
         checkEmulatorInitialized();
-        DTORawImage rawImage = captureScreenshotViaADB(emulatorNumber);
-        String bestTemplatePath = getBestTemplatePath(templatePath.getTemplate());
+        ResolvedTemplate resolved = resolveTemplate(templatePath);
+        if (!resolved.available()) {
+            return templateNotFound();
+        }
+        DTORawImage rawImage = getFrame(emulatorNumber);
+        String bestTemplatePath = resolved.path();
 
         try {
             // Set profile name in ImageSearchUtil for logging
@@ -405,6 +559,7 @@ public class EmulatorManager {
         } finally {
             // Clear profile name after the search is done
             ImageSearchUtil.clearProfileName();
+            rawImage.release();
         }
     }
 
@@ -415,8 +570,12 @@ public class EmulatorManager {
     public List<DTOImageSearchResult> searchTemplatesGrayscale(String emulatorNumber, EnumTemplates templatePath,
             DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double threshold, int maxResults) {
         checkEmulatorInitialized();
-        DTORawImage rawImage = captureScreenshotViaADB(emulatorNumber);
-        String bestTemplatePath = getBestTemplatePath(templatePath.getTemplate());
+        ResolvedTemplate resolved = resolveTemplate(templatePath);
+        if (!resolved.available()) {
+            return List.of();
+        }
+        DTORawImage rawImage = getFrame(emulatorNumber);
+        String bestTemplatePath = resolved.path();
 
         try {
             // Set profile name in ImageSearchUtil for logging
@@ -428,6 +587,7 @@ public class EmulatorManager {
         } finally {
             // Clear profile name after the search is done
             ImageSearchUtil.clearProfileName();
+            rawImage.release();
         }
     }
 
@@ -438,8 +598,12 @@ public class EmulatorManager {
     public List<DTOImageSearchResult> searchTemplatesGrayscale(String emulatorNumber, EnumTemplates templatePath,
             double threshold, int maxResults) {
         checkEmulatorInitialized();
-        DTORawImage rawImage = captureScreenshotViaADB(emulatorNumber);
-        String bestTemplatePath = getBestTemplatePath(templatePath.getTemplate());
+        ResolvedTemplate resolved = resolveTemplate(templatePath);
+        if (!resolved.available()) {
+            return List.of();
+        }
+        DTORawImage rawImage = getFrame(emulatorNumber);
+        String bestTemplatePath = resolved.path();
 
         try {
             // Set profile name in ImageSearchUtil for logging
@@ -451,14 +615,19 @@ public class EmulatorManager {
         } finally {
             // Clear profile name after the search is done
             ImageSearchUtil.clearProfileName();
+            rawImage.release();
         }
     }
 
     public List<DTOImageSearchResult> searchTemplates(String emulatorNumber, EnumTemplates templatePath,
             DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double threshold, int maxResults) {
         checkEmulatorInitialized();
-        DTORawImage rawImage = captureScreenshotViaADB(emulatorNumber);
-        String bestTemplatePath = getBestTemplatePath(templatePath.getTemplate());
+        ResolvedTemplate resolved = resolveTemplate(templatePath);
+        if (!resolved.available()) {
+            return List.of();
+        }
+        DTORawImage rawImage = getFrame(emulatorNumber);
+        String bestTemplatePath = resolved.path();
 
         try {
             // Set profile name in ImageSearchUtil for logging
@@ -470,14 +639,19 @@ public class EmulatorManager {
         } finally {
             // Clear profile name after the search is done
             ImageSearchUtil.clearProfileName();
+            rawImage.release();
         }
     }
 
     public List<DTOImageSearchResult> searchTemplates(String emulatorNumber, EnumTemplates templatePath,
             double threshold, int maxResults) {
         checkEmulatorInitialized();
-        DTORawImage rawImage = captureScreenshotViaADB(emulatorNumber);
-        String bestTemplatePath = getBestTemplatePath(templatePath.getTemplate());
+        ResolvedTemplate resolved = resolveTemplate(templatePath);
+        if (!resolved.available()) {
+            return List.of();
+        }
+        DTORawImage rawImage = getFrame(emulatorNumber);
+        String bestTemplatePath = resolved.path();
 
         try {
             // Set profile name in ImageSearchUtil for logging
@@ -489,9 +663,133 @@ public class EmulatorManager {
         } finally {
             // Clear profile name after the search is done
             ImageSearchUtil.clearProfileName();
+            rawImage.release();
         }
     }
 
+    /**
+     * Searches for several templates on the specified region of one screenshot.
+     * The frame is captured and converted once and the matches run in parallel.
+     *
+     * @return Results keyed by template, in the same order as the given list
+     */
+    public Map<EnumTemplates, DTOImageSearchResult> searchAll(String emulatorNumber, List<EnumTemplates> templates,
+            DTOArea area, double threshold) {
+        return searchBatch(emulatorNumber, templates, area.topLeft(), area.bottomRight(), threshold, false);
+    }
+
+    /**
+     * Searches for several templates on the entire screen of one screenshot.
+     */
+    public Map<EnumTemplates, DTOImageSearchResult> searchAll(String emulatorNumber, List<EnumTemplates> templates,
+            double threshold) {
+        return searchBatch(emulatorNumber, templates, new DTOPoint(0, 0), new DTOPoint(720, 1280), threshold, false);
+    }
+
+    /**
+     * Grayscale version of {@link #searchAll(String, List, DTOArea, double)}.
+     */
+    public Map<EnumTemplates, DTOImageSearchResult> searchAllGrayscale(String emulatorNumber,
+            List<EnumTemplates> templates, DTOArea area, double threshold) {
+        return searchBatch(emulatorNumber, templates, area.topLeft(), area.bottomRight(), threshold, true);
+    }
+
+    /**
+     * Grayscale version of {@link #searchAll(String, List, double)}.
+     */
+    public Map<EnumTemplates, DTOImageSearchResult> searchAllGrayscale(String emulatorNumber,
+            List<EnumTemplates> templates, double threshold) {
+        return searchBatch(emulatorNumber, templates, new DTOPoint(0, 0), new DTOPoint(720, 1280), threshold, true);
+    }
+
+    /**
+     * Searches for several templates on the specified region of one screenshot and
+     * returns the first one found, following the order of the given list.
+     */
+    public Optional<DTOTemplateMatch> searchAny(String emulatorNumber, List<EnumTemplates> templates, DTOArea area,
+            double threshold) {
+        return firstFound(searchAll(emulatorNumber, templates, area, threshold));
+    }
+
+    /**
+     * Searches for several templates on the entire screen of one screenshot and
+     * returns the first one found, following the order of the given list.
+     */
+    public Optional<DTOTemplateMatch> searchAny(String emulatorNumber, List<EnumTemplates> templates,
+            double threshold) {
+        return firstFound(searchAll(emulatorNumber, templates, threshold));
+    }
+
+    /**
+     * Grayscale version of {@link #searchAny(String, List, DTOArea, double)}.
+     */
+    public Optional<DTOTemplateMatch> searchAnyGrayscale(String emulatorNumber, List<EnumTemplates> templates,
+            DTOArea area, double threshold) {
+        return firstFound(searchAllGrayscale(emulatorNumber, templates, area, threshold));
+    }
+
+    /**
+     * Grayscale version of {@link #searchAny(String, List, double)}.
+     */
+    public Optional<DTOTemplateMatch> searchAnyGrayscale(String emulatorNumber, List<EnumTemplates> templates,
+            double threshold) {
+        return firstFound(searchAllGrayscale(emulatorNumber, templates, threshold));
+    }
+
+    private Map<EnumTemplates, DTOImageSearchResult> searchBatch(String emulatorNumber, List<EnumTemplates> templates,
+            DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double threshold, boolean grayscale) {
+        checkEmulatorInitialized();
+        Map<EnumTemplates, DTOImageSearchResult> resultsByTemplate = new LinkedHashMap<>();
+        List<EnumTemplates> searched = new ArrayList<>();
+        for (EnumTemplates template : templates) {
+            // Missing templates keep their place in the order but are never matched
+            resultsByTemplate.put(template, templateNotFound());
+            if (resolveTemplate(template).available()) {
+                searched.add(template);
+            }
+        }
+        if (searched.isEmpty()) {
+            return resultsByTemplate;
+        }
+
+        DTORawImage rawImage = getFrame(emulatorNumber);
+        List<String> bestTemplatePaths = searched.stream()
+                .map(template -> resolveTemplate(template).path())
+                .toList();
+
+        try {
+            // Set profile name in ImageSearchUtil for logging
+            String profileName = getProfileNameForEmulator(emulatorNumber);
+            ImageSearchUtil.setProfileName(profileName);
+
+            List<DTOImageSearchResult> results = grayscale
+                    ? ImageSearchUtil.searchTemplateGrayscaleBatch(rawImage, bestTemplatePaths, topLeftCorner,
+                            bottomRightCorner, threshold)
+                    : ImageSearchUtil.searchTemplateBatch(rawImage, bestTemplatePaths, topLeftCorner,
+                            bottomRightCorner, threshold);
+
+            for (int i = 0; i < searched.size(); i++) {
+                resultsByTemplate.put(searched.get(i), results.get(i));
+            }
+            return resultsByTemplate;
+        } finally {
+            // Clear profile name after the search is done
+            ImageSearchUtil.clearProfileName();
+            rawImage.release();
+        }
+    }
+
+    private static DTOImageSearchResult templateNotFound() {
+        return new DTOImageSearchResult(false, null, 0.0);
+    }
+
+    private Optional<DTOTemplateMatch> firstFound(Map<EnumTemplates, DTOImageSearchResult> results) {
+        return results.entrySet().stream()
+                .filter(entry -> entry.getValue().isFound())
+                .map(entry -> new DTOTemplateMatch(entry.getKey(), entry.getValue()))
+                .findFirst();
+    }
+
     /**
      * Analyzes the colors in a region of the screen, counting pixels that match
      * certain criteria
@@ -506,8 +804,13 @@ public class EmulatorManager {
     public int[] analyzeRegionColors(String emulatorNumber, DTOPoint topLeft, DTOPoint bottomRight, int stepSize) {
         try {
             // Take a single screenshot as DTORawImage, then convert only when needed
-            DTORawImage rawImage = emulator.captureScreenshot(emulatorNumber);
-            BufferedImage image = UtilOCR.convertRawImageToBufferedImage(rawImage);
+            DTORawImage rawImage = getFrame(emulatorNumber);
+            BufferedImage image;
+            try {
+                image = UtilOCR.convertRawImageToBufferedImage(rawImage);
+            } finally {
+                rawImage.release();
+            }
 
             int[] counts = new int[3]; // [background, green, red]
 
@@ -544,6 +847,7 @@ public class EmulatorManager {
     public void launchEmulator(String emulatorNumber) {
         checkEmulatorInitialized();
         emulator.launchEmulator(emulatorNumber);
+        emulator.invalidateFrameCache(emulatorNumber);
     }
 
     /**
@@ -551,7 +855,9 @@ public class EmulatorManager {
      */
     public void closeEmulator(String emulatorNumber) {
         checkEmulatorInitialized();
+        emulator.closeFrameSource(emulatorNumber);
         emulator.closeEmulator(emulatorNumber);
+        emulator.invalidateFrameCache(emulatorNumber);
     }
 
     public void launchApp(String emulatorNumber, String packageName) {
@@ -605,6 +911,21 @@ public class EmulatorManager {
         return emulator.isRunning(emulatorNumber);
     }
 
+    /**
+     * Waits until the emulator's device is online in ADB, returning as soon as it is.
+     *
+     * @return true if the device came online within the timeout
+     */
+    public boolean awaitDeviceOnline(String emulatorNumber, long timeoutMs) {
+        checkEmulatorInitialized();
+        try {
+            return emulator.awaitDeviceOnline(emulatorNumber, timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     public boolean isPackageRunning(String emulatorNumber, String packageName) {
         checkEmulatorInitialized();
         return emulator.isPackageRunning(emulatorNumber, packageName);
@@ -616,119 +937,15 @@ public class EmulatorManager {
     }
 
     public void adquireEmulatorSlot(DTOProfiles profile, PositionCallback callback) throws InterruptedException {
-        Thread currentThread = Thread.currentThread();
-        lock.lock();
-        try {
-            // Check if this thread already has an active slot
-            if (activeSlots.contains(currentThread)) {
-                if (emulator.isRunning(profile.getEmulatorNumber())) {
-                    logger.info("Profile {} already has an active slot, continuing without acquiring a new one.",
-                            profile.getName());
-                    logSlotHolders();
-                    profile.setQueuePosition(0);
-                    return;
-                } else {
-                    activeSlots.remove(currentThread);
-                    // MAX_RUNNING_EMULATORS++;
-                    logger.info(
-                            "Profile {} had a slot, but emulator was not running, removing from slot holders and placing in queue. ",
-                            profile.getName());
-                    logSlotHolders();
-                }
-            }
-
-            // If a slot is available and no one is waiting, it is acquired immediately.
-            logger.info("Profile " + profile.getName() + " is requesting queue slot.");
-            if (activeSlots.size() < MAX_RUNNING_EMULATORS && waitingQueue.isEmpty()) {
-                logger.info("Profile " + profile.getName() + " acquired slot immediately.");
-                logger.debug("Current slot holders: " + activeSlots);
-                profile.setQueuePosition(0);
-                // MAX_RUNNING_EMULATORS--;
-                activeSlots.add(currentThread); // Track this thread as having a slot
-                logSlotHolders();
-                return;
-            }
-
-            // Create the object representing the current thread with its priority
-            WaitingThread currentWaiting = new WaitingThread(currentThread, profile);
-            waitingQueue.add(currentWaiting);
-
-            // Wait with a timeout to be able to notify the position periodically.
-            while (waitingQueue.peek() != currentWaiting || activeSlots.size() >= MAX_RUNNING_EMULATORS) {
-                // Wait for up to 1 second.
-                permitsAvailable.await(1, TimeUnit.SECONDS);
-
-                // Query and notify the current position of the thread in the queue.
-                int position = getPosition(currentWaiting);
-                profile.setQueuePosition(position);
-                callback.onPositionUpdate(currentThread, position);
-            }
-            logger.info("Profile {} acquired slot", profile.getName());
-            logger.debug("Current slot holders: " + activeSlots);
-            // It's the turn and a slot is available.
-            waitingQueue.poll(); // Remove the thread from the queue.
-            profile.setQueuePosition(0);
-            // MAX_RUNNING_EMULATORS--; // Acquire the slot.
-            activeSlots.add(currentThread); // Track this thread as having a slot
-            logSlotHolders();
-            // Notify other threads to re-evaluate the condition.
-            permitsAvailable.signalAll();
-        } finally {
-            lock.unlock();
-        }
-    }
-
-    private void logSlotHolders() {
-        String listOfProfiles = activeSlots.stream()
-                .map(Thread::getName)
-                .map(name -> name.contains("-") ? name.substring(name.indexOf('-') + 1) : name)
-                .toList().toString();
-        logger.info("Current slot holders: {}/{}. {}", activeSlots.size(), MAX_RUNNING_EMULATORS, listOfProfiles);
-
+        slotScheduler.acquire(profile, callback, () -> emulator.isRunning(profile.getEmulatorNumber()));
     }
 
     public void releaseEmulatorSlot(DTOProfiles profile) {
-        Thread currentThread = Thread.currentThread();
-        lock.lock();
-        try {
-            logger.info("Profile {} is releasing queue slot.", profile.getName());
-            profile.setQueuePosition(Integer.MAX_VALUE);
-
-            // Only increment MAX_RUNNING_EMULATORS if this thread actually had a slot
-            if (activeSlots.remove(currentThread)) {
-                // MAX_RUNNING_EMULATORS++;
-                logger.info("Thread {} released its slot, slots available: {}", currentThread.getName(),
-                        MAX_RUNNING_EMULATORS);
-            } else {
-                logger.warn("Thread {} tried to release a slot it didn't have", currentThread.getName());
-            }
-            logSlotHolders();
-            permitsAvailable.signalAll();
-        } finally {
-            lock.unlock();
-        }
-    }
-
-    private int getPosition(WaitingThread waitingThread) {
-        int position = 1;
-        for (WaitingThread wt : waitingQueue) {
-            if (wt.equals(waitingThread)) {
-                return position;
-            }
-            position++;
-        }
-        return 0;
+        slotScheduler.release(profile);
     }
 
     public void resetQueueState() {
-        lock.lock();
-        try {
-            waitingQueue.clear();
-            activeSlots.clear(); // Clear the set of active slots
-            permitsAvailable.signalAll();
-        } finally {
-            lock.unlock();
-        }
+        slotScheduler.reset();
     }
 
 }
@@ -0,0 +1,271 @@
+package cl.camodev.wosbot.emulator;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cl.camodev.wosbot.ot.DTOProfiles;
+import cl.camodev.wosbot.serv.task.WaitingThread;
+
+/**
+ * Hands out the limited emulator slots to the profile threads.
+ * <p>
+ * Waiting threads are kept in priority order and each one sleeps on its own condition. A freed
+ * slot is handed directly to the head of the queue, so only that thread is woken to take it.
+ * The other waiters are only woken when their position in the queue actually changed, and they
+ * report the new position through their callback outside the lock. Nothing that can block, such
+ * as checking whether an emulator is running, is done while holding the lock.
+ */
+final class EmulatorSlotScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(EmulatorSlotScheduler.class);
+
+	private static final class Waiter implements Comparable<Waiter> {
+		private final WaitingThread waitingThread;
+		private final long sequence;
+		private final Condition wakeup;
+		private int position;
+		private int reportedPosition;
+		private boolean granted;
+		private boolean dropped;
+
+		private Waiter(WaitingThread waitingThread, long sequence, Condition wakeup) {
+			this.waitingThread = waitingThread;
+			this.sequence = sequence;
+			this.wakeup = wakeup;
+		}
+
+		@Override
+		public int compareTo(Waiter other) {
+			int cmp = waitingThread.compareTo(other.waitingThread);
+			return cmp != 0 ? cmp : Long.compare(sequence, other.sequence);
+		}
+	}
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final TreeSet<Waiter> waitingQueue = new TreeSet<>();
+	private final Set<Thread> activeSlots = new HashSet<>();
+	private int maxSlots;
+	private long nextSequence;
+
+	EmulatorSlotScheduler(int maxSlots) {
+		this.maxSlots = maxSlots;
+	}
+
+	/**
+	 * Blocks until the current thread holds a slot.
+	 *
+	 * @param isRunning checks whether the profile's emulator is running, called without the lock
+	 *                  when the thread already holds a slot
+	 */
+	void acquire(DTOProfiles profile, PositionCallback callback, BooleanSupplier isRunning)
+			throws InterruptedException {
+		Thread currentThread = Thread.currentThread();
+
+		if (holdsSlot(currentThread)) {
+			boolean running = isRunning.getAsBoolean();
+			lock.lock();
+			try {
+				if (activeSlots.contains(currentThread)) {
+					if (running) {
+						logger.info("Profile {} already has an active slot, continuing without acquiring a new one.",
+								profile.getName());
+						logSlotHolders();
+						profile.setQueuePosition(0);
+						return;
+					}
+					activeSlots.remove(currentThread);
+					logger.info(
+							"Profile {} had a slot, but emulator was not running, removing from slot holders and placing in queue. ",
+							profile.getName());
+					logSlotHolders();
+					grantFreeSlots();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		logger.info("Profile {} is requesting queue slot.", profile.getName());
+		while (true) {
+			Waiter waiter;
+			lock.lock();
+			try {
+				// If a slot is available and no one is waiting, it is acquired immediately
+				if (activeSlots.size() < maxSlots && waitingQueue.isEmpty()) {
+					logger.info("Profile {} acquired slot immediately.", profile.getName());
+					activeSlots.add(currentThread);
+					logSlotHolders();
+					profile.setQueuePosition(0);
+					return;
+				}
+				waiter = new Waiter(new WaitingThread(currentThread, profile), nextSequence++, lock.newCondition());
+				waitingQueue.add(waiter);
+				updatePositions();
+			} finally {
+				lock.unlock();
+			}
+
+			if (awaitSlot(waiter, profile, callback)) {
+				logger.info("Profile {} acquired slot", profile.getName());
+				profile.setQueuePosition(0);
+				return;
+			}
+			// The queue was reset while waiting, request the slot again
+		}
+	}
+
+	/**
+	 * Releases the slot of the current thread and hands it to the first waiter.
+	 */
+	void release(DTOProfiles profile) {
+		Thread currentThread = Thread.currentThread();
+		lock.lock();
+		try {
+			logger.info("Profile {} is releasing queue slot.", profile.getName());
+			profile.setQueuePosition(Integer.MAX_VALUE);
+			if (activeSlots.remove(currentThread)) {
+				logger.info("Thread {} released its slot, slots available: {}", currentThread.getName(),
+						maxSlots - activeSlots.size());
+			} else {
+				logger.warn("Thread {} tried to release a slot it didn't have", currentThread.getName());
+			}
+			logSlotHolders();
+			grantFreeSlots();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Changes the number of slots, handing out new ones to waiters right away.
+	 */
+	void setMaxSlots(int maxSlots) {
+		lock.lock();
+		try {
+			this.maxSlots = maxSlots;
+			grantFreeSlots();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Forgets every slot holder and waiter. Waiting threads wake up and queue again.
+	 */
+	void reset() {
+		lock.lock();
+		try {
+			for (Waiter waiter : waitingQueue) {
+				waiter.dropped = true;
+				waiter.wakeup.signal();
+			}
+			waitingQueue.clear();
+			activeSlots.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean holdsSlot(Thread thread) {
+		lock.lock();
+		try {
+			return activeSlots.contains(thread);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until the waiter is granted a slot, reporting position changes on the way.
+	 *
+	 * @return false if the waiter was dropped by a reset
+	 */
+	private boolean awaitSlot(Waiter waiter, DTOProfiles profile, PositionCallback callback)
+			throws InterruptedException {
+		while (true) {
+			int position;
+			lock.lock();
+			try {
+				while (!waiter.granted && !waiter.dropped && waiter.position == waiter.reportedPosition) {
+					waiter.wakeup.await();
+				}
+				if (waiter.granted) {
+					return true;
+				}
+				if (waiter.dropped) {
+					return false;
+				}
+				position = waiter.position;
+				waiter.reportedPosition = position;
+			} catch (InterruptedException e) {
+				abandon(waiter);
+				throw e;
+			} finally {
+				lock.unlock();
+			}
+			profile.setQueuePosition(position);
+			callback.onPositionUpdate(waiter.waitingThread.getThread(), position);
+		}
+	}
+
+	/**
+	 * Removes an interrupted waiter, passing on a slot it was granted in the meantime.
+	 * Must be called with the lock held.
+	 */
+	private void abandon(Waiter waiter) {
+		if (waiter.granted) {
+			activeSlots.remove(waiter.waitingThread.getThread());
+			grantFreeSlots();
+		} else if (waitingQueue.remove(waiter)) {
+			updatePositions();
+		}
+	}
+
+	/**
+	 * Hands free slots to the head of the queue. Must be called with the lock held.
+	 */
+	private void grantFreeSlots() {
+		boolean granted = false;
+		while (activeSlots.size() < maxSlots && !waitingQueue.isEmpty()) {
+			Waiter head = waitingQueue.pollFirst();
+			head.granted = true;
+			activeSlots.add(head.waitingThread.getThread());
+			head.wakeup.signal();
+			granted = true;
+		}
+		if (granted) {
+			logSlotHolders();
+			updatePositions();
+		}
+	}
+
+	/**
+	 * Recomputes the queue positions and wakes only the waiters whose position changed.
+	 * Must be called with the lock held.
+	 */
+	private void updatePositions() {
+		int position = 1;
+		for (Waiter waiter : waitingQueue) {
+			if (waiter.position != position) {
+				waiter.position = position;
+				waiter.wakeup.signal();
+			}
+			position++;
+		}
+	}
+
+	private void logSlotHolders() {
+		String listOfProfiles = activeSlots.stream()
+				.map(Thread::getName)
+				.map(name -> name.contains("-") ? name.substring(name.indexOf('-') + 1) : name)
+				.toList().toString();
+		logger.info("Current slot holders: {}/{}. {}", activeSlots.size(), maxSlots, listOfProfiles);
+	}
+}
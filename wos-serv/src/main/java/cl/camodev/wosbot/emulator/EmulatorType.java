@@ -1,12 +1,15 @@
 package cl.camodev.wosbot.emulator;
 
+import java.io.File;
+
 import cl.camodev.wosbot.console.enumerable.EnumConfigurationKey;
 
 public enum EmulatorType {
 	// @formatter:off
     MUMU("MuMuPlayer", EnumConfigurationKey.MUMU_PATH_STRING.name(), "MuMuManager.exe","C:\\Program Files\\Netease\\MuMuPlayerGlobal-12.0\\shell\\"),
     MEMU("MEmu Player", EnumConfigurationKey.MEMU_PATH_STRING.name(), "memuc.exe","C:\\Program Files\\Microvirt\\MEmu\\"),
-    LDPLAYER("LDPlayer", EnumConfigurationKey.LDPLAYER_PATH_STRING.name(), "ldconsole.exe","C:\\LDPlayer\\LDPlayer9\\");
+    LDPLAYER("LDPlayer", EnumConfigurationKey.LDPLAYER_PATH_STRING.name(), "ldconsole.exe","C:\\LDPlayer\\LDPlayer9\\"),
+    REPLAY("Replay session", EnumConfigurationKey.REPLAY_SESSION_PATH_STRING.name(), "session.txt","replay" + File.separator);
 	    // @formatter:on
 
 	private final String displayName;
@@ -0,0 +1,62 @@
+package cl.camodev.wosbot.emulator;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Pool of screencap buffers for a single emulator.
+ * <p>
+ * Buffers are sized from the last capture (12 byte header plus width x height x bpp), so a
+ * capture normally streams straight into a buffer of the right size without any growth. Only
+ * a few buffers are kept: the one being filled, the cached frame and one still being read.
+ */
+public final class FrameBufferPool {
+
+	static final int HEADER_SIZE = 12;
+
+	private static final int MAX_POOLED_BUFFERS = 3;
+
+	// Typical 720x1280 RGBA_8888 frame, used until the first header has been seen
+	private static final int DEFAULT_FRAME_SIZE = HEADER_SIZE + 720 * 1280 * 4;
+
+	private final ConcurrentLinkedDeque<byte[]> buffers = new ConcurrentLinkedDeque<>();
+	private volatile int expectedSize = DEFAULT_FRAME_SIZE;
+
+	/**
+	 * Takes a buffer of the expected frame size, allocating one if the pool is empty.
+	 */
+	byte[] acquire() {
+		int size = expectedSize;
+		byte[] buffer;
+		while ((buffer = buffers.pollFirst()) != null) {
+			if (buffer.length == size) {
+				return buffer;
+			}
+			// Left over from before a resolution change, let it be collected
+		}
+		return new byte[size];
+	}
+
+	/**
+	 * Hands a buffer back once no frame is using it anymore.
+	 */
+	void recycle(byte[] buffer) {
+		if (buffer.length == expectedSize && buffers.size() < MAX_POOLED_BUFFERS) {
+			buffers.offerFirst(buffer);
+		}
+	}
+
+	/**
+	 * Records the size of the last complete capture, used to size the next buffers.
+	 */
+	void updateExpectedSize(int width, int height, int bpp) {
+		int size = HEADER_SIZE + width * height * (bpp / 8);
+		if (size != expectedSize) {
+			expectedSize = size;
+			buffers.clear();
+		}
+	}
+
+	int getExpectedSize() {
+		return expectedSize;
+	}
+}
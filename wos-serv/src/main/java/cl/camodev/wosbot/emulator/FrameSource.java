@@ -0,0 +1,33 @@
+package cl.camodev.wosbot.emulator;
+
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * Supplies screen frames of a single emulator.
+ * <p>
+ * Timestamps are {@link System#nanoTime()} values taken when a capture starts, so a frame
+ * "after" a timestamp shows the screen as it was at that moment or later. Every frame returned
+ * is owned by the caller, who should call {@link DTORawImage#release()} once done with it.
+ */
+public interface FrameSource extends AutoCloseable {
+
+	/**
+	 * Returns the most recent frame available, capturing one if there is none yet.
+	 */
+	DTORawImage latestFrame();
+
+	/**
+	 * Returns the first frame whose capture started at or after the given time, waiting for it if
+	 * needed. Typically called with the time of the last input, so a search right after a tap
+	 * sees the screen after the tap.
+	 *
+	 * @param timestamp {@link System#nanoTime()} value the frame must not be older than
+	 */
+	DTORawImage awaitFrameAfter(long timestamp);
+
+	/**
+	 * Stops the source and drops the frames it holds.
+	 */
+	@Override
+	void close();
+}
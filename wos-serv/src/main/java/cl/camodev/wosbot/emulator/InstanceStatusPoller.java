@@ -0,0 +1,143 @@
+package cl.camodev.wosbot.emulator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Polls the running status of every instance of an emulator type in the background.
+ * <p>
+ * One console call lists all instances per interval and the result is published as a snapshot
+ * that every {@code isRunning} check reads, instead of starting a console process per instance
+ * and check. Polling starts with the first query and pauses while nobody asks. When there is no
+ * recent snapshot, or the instance was launched or closed after the snapshot was taken, the
+ * status is unknown and the caller queries the instance directly.
+ */
+final class InstanceStatusPoller {
+
+	private static final Logger logger = LoggerFactory.getLogger(InstanceStatusPoller.class);
+
+	static final long POLL_INTERVAL_MS = 2000;
+	private static final long MAX_SNAPSHOT_AGE_MS = 3 * POLL_INTERVAL_MS;
+	private static final long IDLE_TIMEOUT_MS = 60000;
+
+	/**
+	 * Lists the running status of all instances, keyed by emulator number.
+	 * Returns null if the emulator type has no command for it.
+	 */
+	@FunctionalInterface
+	interface StatusLister {
+		Map<String, Boolean> listStatuses() throws IOException, InterruptedException;
+	}
+
+	private record Snapshot(Map<String, Boolean> statuses, long startedAt, long completedAt) {
+	}
+
+	private final StatusLister lister;
+	private final String name;
+	private final Map<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+	private volatile Snapshot snapshot;
+	private volatile long lastQueryAt;
+	private volatile boolean unsupported;
+	private boolean failing;
+	private ScheduledExecutorService executor;
+
+	InstanceStatusPoller(String name, StatusLister lister) {
+		this.name = name;
+		this.lister = lister;
+	}
+
+	/**
+	 * Returns the status of an instance from the latest snapshot.
+	 *
+	 * @return the status, or null if it is unknown and must be queried directly
+	 */
+	Boolean getStatus(String emulatorNumber) {
+		if (unsupported) {
+			return null;
+		}
+		long now = System.nanoTime();
+		lastQueryAt = now;
+		ensureStarted();
+
+		Snapshot current = snapshot;
+		if (current == null || now - current.completedAt() > TimeUnit.MILLISECONDS.toNanos(MAX_SNAPSHOT_AGE_MS)) {
+			return null;
+		}
+		Long invalidated = invalidatedAt.get(emulatorNumber);
+		if (invalidated != null && invalidated - current.startedAt() >= 0) {
+			return null;
+		}
+		// Instances missing from the list do not exist, so they are not running
+		return current.statuses().getOrDefault(emulatorNumber, false);
+	}
+
+	/**
+	 * Ignores the current snapshot for an instance, e.g. after launching or closing it.
+	 */
+	void invalidate(String emulatorNumber) {
+		invalidatedAt.put(emulatorNumber, System.nanoTime());
+	}
+
+	/**
+	 * Stops polling. The next query starts it again.
+	 */
+	synchronized void stop() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+		snapshot = null;
+	}
+
+	private synchronized void ensureStarted() {
+		if (executor != null || unsupported) {
+			return;
+		}
+		executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "status-poller-" + name);
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(this::poll, 0, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+		logger.debug("Started instance status polling for {}", name);
+	}
+
+	private void poll() {
+		long startedAt = System.nanoTime();
+		if (startedAt - lastQueryAt > TimeUnit.MILLISECONDS.toNanos(IDLE_TIMEOUT_MS)) {
+			// Nobody asked for a while, don't spawn console processes for nothing
+			return;
+		}
+		try {
+			Map<String, Boolean> statuses = lister.listStatuses();
+			if (statuses == null) {
+				unsupported = true;
+				stop();
+				return;
+			}
+			snapshot = new Snapshot(Map.copyOf(statuses), startedAt, System.nanoTime());
+			if (failing) {
+				failing = false;
+				logger.info("Instance status polling for {} recovered", name);
+			}
+			logger.trace("Instance statuses for {}: {}", name, statuses);
+		} catch (IOException e) {
+			if (!failing) {
+				failing = true;
+				logger.warn("Instance status polling for {} failed, checking instances one by one: {}", name,
+						e.getMessage());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			logger.error("Unexpected error while polling instance statuses for {}", name, e);
+		}
+	}
+}
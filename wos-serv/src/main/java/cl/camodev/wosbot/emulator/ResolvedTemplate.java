@@ -0,0 +1,10 @@
+package cl.camodev.wosbot.emulator;
+
+/**
+ * A template resolved for the configured game version.
+ *
+ * @param path      resource path to search with, the region-specific variant when one exists
+ * @param available whether the resource exists; searches for a missing template are skipped
+ */
+public record ResolvedTemplate(String path, boolean available) {
+}
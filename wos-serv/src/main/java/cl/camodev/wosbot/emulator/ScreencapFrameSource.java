@@ -0,0 +1,35 @@
+package cl.camodev.wosbot.emulator;
+
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * Frame source that runs {@code screencap} on demand.
+ * <p>
+ * A capture is shared by consecutive reads while it is younger than the emulator's freshness
+ * window and was taken after the requested time; otherwise a new one is taken.
+ */
+final class ScreencapFrameSource implements FrameSource {
+
+	private final Emulator emulator;
+	private final String emulatorNumber;
+
+	ScreencapFrameSource(Emulator emulator, String emulatorNumber) {
+		this.emulator = emulator;
+		this.emulatorNumber = emulatorNumber;
+	}
+
+	@Override
+	public DTORawImage latestFrame() {
+		return emulator.getFrameCapturedAfter(emulatorNumber, emulator.getLastInputTime(emulatorNumber));
+	}
+
+	@Override
+	public DTORawImage awaitFrameAfter(long timestamp) {
+		return emulator.getFrameCapturedAfter(emulatorNumber, timestamp);
+	}
+
+	@Override
+	public void close() {
+		// Nothing is held between captures
+	}
+}
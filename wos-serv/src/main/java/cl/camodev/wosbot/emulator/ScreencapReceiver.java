@@ -0,0 +1,84 @@
+package cl.camodev.wosbot.emulator;
+
+import java.util.Arrays;
+
+import com.android.ddmlib.IShellOutputReceiver;
+
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * Receives raw {@code screencap} output for a single capture.
+ * <p>
+ * The output is streamed into a buffer taken from the {@link FrameBufferPool}, growing it only if
+ * the frame turns out to be larger than expected, and the pixels are wrapped behind the 12 byte
+ * header without copying them. Releasing the frame hands the buffer back to the pool.
+ */
+public final class ScreencapReceiver implements IShellOutputReceiver {
+
+	private final FrameBufferPool pool;
+	private byte[] buffer;
+	private int length;
+
+	public ScreencapReceiver(FrameBufferPool pool) {
+		this.pool = pool;
+		this.buffer = pool.acquire();
+	}
+
+	@Override
+	public void addOutput(byte[] data, int offset, int count) {
+		if (length + count > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(length + count, buffer.length * 2));
+		}
+		System.arraycopy(data, offset, buffer, length, count);
+		length += count;
+	}
+
+	@Override
+	public void flush() {
+		// Data is written straight into the buffer
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return false;
+	}
+
+	/**
+	 * Parses the header of the received output and wraps the pixels as a frame.
+	 * Format: width(4) height(4) format(4) [pixel data...], little endian.
+	 *
+	 * @return Frame backed by the pooled buffer
+	 * @throws RuntimeException if the output is shorter than its header says
+	 */
+	public DTORawImage toFrame() {
+		if (length < FrameBufferPool.HEADER_SIZE) {
+			throw new RuntimeException("Invalid screencap data: too small");
+		}
+		int width = readIntLE(0);
+		int height = readIntLE(4);
+		int format = readIntLE(8);
+
+		// Determine bpp based on format (usually RGBA_8888 = 1)
+		int bpp = (format == 1) ? 32 : 16; // RGBA_8888 or RGB_565
+
+		int pixelBytes = width * height * (bpp / 8);
+		if (length < FrameBufferPool.HEADER_SIZE + pixelBytes) {
+			throw new RuntimeException("Invalid screencap data: expected " + pixelBytes + " pixel bytes, got "
+					+ (length - FrameBufferPool.HEADER_SIZE));
+		}
+		pool.updateExpectedSize(width, height, bpp);
+		return new DTORawImage(buffer, FrameBufferPool.HEADER_SIZE, width, height, bpp, pool::recycle);
+	}
+
+	/**
+	 * Hands the buffer back to the pool after a capture that produced no frame.
+	 */
+	public void discard() {
+		pool.recycle(buffer);
+	}
+
+	private int readIntLE(int offset) {
+		return (buffer[offset] & 0xFF) | ((buffer[offset + 1] & 0xFF) << 8) | ((buffer[offset + 2] & 0xFF) << 16)
+				| ((buffer[offset + 3] & 0xFF) << 24);
+	}
+}
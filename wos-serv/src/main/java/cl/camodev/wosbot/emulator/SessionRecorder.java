@@ -0,0 +1,229 @@
+package cl.camodev.wosbot.emulator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * Records the frames and inputs of one emulator as a replay session.
+ * <p>
+ * A session directory holds the captured frames in {@code frames/} as raw screencap files (12 byte
+ * header followed by the pixels), an {@code inputs.log} with the time of every input, and a
+ * {@code session.txt} script describing a state machine over the frames:
+ *
+ * <pre>
+ * frame &lt;state&gt; &lt;frame file&gt;             state showing a frame; the first one is the initial state
+ * tap &lt;state&gt; [x1 y1 x2 y2] &lt;next&gt;        tap, optionally inside an area
+ * swipe|back|text|clear|home &lt;state&gt; &lt;next&gt;
+ * any &lt;state&gt; &lt;next&gt;                     any input
+ * shown &lt;state&gt; &lt;count&gt; &lt;next&gt;           next read after the frame was served count times
+ * </pre>
+ *
+ * The recorder is fed every frame handed to the bot, whether it was captured for that read or
+ * served from the frame cache, so the counts match a replay that serves one frame per read.
+ * It writes a linear script: every distinct frame becomes a state, reached from the previous one
+ * with {@code any} when inputs were sent in between and with {@code shown} otherwise. Identical
+ * consecutive reads without input are folded into one state. The script can be
+ * edited by hand afterwards, e.g. to branch on tap areas.
+ * <p>
+ * Frames are written on a single background thread, in the order they were recorded.
+ */
+public final class SessionRecorder implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(SessionRecorder.class);
+
+	public static final String SCRIPT_FILE = "session.txt";
+	public static final String FRAMES_DIR = "frames";
+	public static final String INPUT_LOG_FILE = "inputs.log";
+
+	/** Android PixelFormat codes written in the raw header. */
+	private static final int FORMAT_RGBA_8888 = 1;
+	private static final int FORMAT_RGB_565 = 4;
+
+	private final Path directory;
+	private final long startedAt = System.nanoTime();
+	private final ExecutorService writer;
+	private final BufferedWriter script;
+	private final BufferedWriter inputLog;
+
+	// Only touched by the writer thread
+	private int stateCount;
+	private int frameCount;
+	private String currentState;
+	private String currentFrameFile;
+	private long currentFrameChecksum;
+	private int shownCount;
+	private String chainState;
+
+	public SessionRecorder(Path directory) throws IOException {
+		this.directory = directory;
+		Files.createDirectories(directory.resolve(FRAMES_DIR));
+		this.script = Files.newBufferedWriter(directory.resolve(SCRIPT_FILE));
+		this.inputLog = Files.newBufferedWriter(directory.resolve(INPUT_LOG_FILE));
+		this.writer = Executors.newSingleThreadExecutor(r -> {
+			Thread thread = new Thread(r, "session-recorder-" + directory.getFileName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		script.write("# Recorded session, see SessionRecorder for the syntax");
+		script.newLine();
+		logger.info("Recording session to {}", directory.toAbsolutePath());
+	}
+
+	/**
+	 * Queues a frame read by the bot. The frame is retained until it has been written.
+	 */
+	public void recordFrame(DTORawImage frame) {
+		if (!frame.retain()) {
+			return;
+		}
+		long elapsedMs = elapsedMs();
+		submit(() -> {
+			try {
+				writeFrame(frame, elapsedMs);
+			} finally {
+				frame.release();
+			}
+		});
+	}
+
+	/**
+	 * Queues an input, in the script syntax without the state, e.g. {@code tap 120 640}.
+	 */
+	public void recordInput(String input) {
+		long elapsedMs = elapsedMs();
+		submit(() -> writeInput(input, elapsedMs));
+	}
+
+	/**
+	 * Writes the pending frames and inputs and closes the session files.
+	 */
+	@Override
+	public void close() {
+		submit(this::finishScript);
+		writer.shutdown();
+		try {
+			if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+				logger.warn("Session recorder for {} did not finish writing in time", directory);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		try {
+			script.close();
+			inputLog.close();
+		} catch (IOException e) {
+			logger.warn("Could not close session files in {}: {}", directory, e.getMessage());
+		}
+		logger.info("Session recording to {} stopped: {} states, {} frames", directory, stateCount, frameCount);
+	}
+
+	private interface IOTask {
+		void run() throws IOException;
+	}
+
+	private void submit(IOTask task) {
+		if (writer.isShutdown()) {
+			return;
+		}
+		writer.execute(() -> {
+			try {
+				task.run();
+			} catch (IOException e) {
+				logger.warn("Session recording to {} failed: {}", directory, e.getMessage());
+			}
+		});
+	}
+
+	private void writeFrame(DTORawImage frame, long elapsedMs) throws IOException {
+		CRC32 crc = new CRC32();
+		crc.update(frame.getData(), frame.getOffset(), frame.getLength());
+		long checksum = crc.getValue();
+		boolean sameFrame = currentState != null && checksum == currentFrameChecksum;
+
+		if (sameFrame && chainState == null) {
+			shownCount++;
+			return;
+		}
+
+		String frameFile = sameFrame ? currentFrameFile : saveFrame(frame);
+		String state = nextStateName();
+		writeScriptLine("frame " + state + " " + frameFile);
+		if (chainState != null) {
+			writeScriptLine("any " + chainState + " " + state);
+		} else if (currentState != null) {
+			writeScriptLine("shown " + currentState + " " + shownCount + " " + state);
+		}
+
+		currentState = state;
+		currentFrameFile = frameFile;
+		currentFrameChecksum = checksum;
+		shownCount = 1;
+		chainState = null;
+		logger.debug("Recorded state {} at {} ms", state, elapsedMs);
+	}
+
+	private void writeInput(String input, long elapsedMs) throws IOException {
+		inputLog.write(elapsedMs + " " + input);
+		inputLog.newLine();
+		inputLog.flush();
+
+		if (currentState == null) {
+			return;
+		}
+		if (chainState == null) {
+			chainState = currentState;
+		} else {
+			// Several inputs without a capture in between: one intermediate state per input
+			String state = nextStateName();
+			writeScriptLine("frame " + state + " " + currentFrameFile);
+			writeScriptLine("any " + chainState + " " + state);
+			chainState = state;
+		}
+	}
+
+	private void finishScript() throws IOException {
+		script.flush();
+		inputLog.flush();
+	}
+
+	private String saveFrame(DTORawImage frame) throws IOException {
+		String frameFile = FRAMES_DIR + "/" + String.format("%06d.raw", ++frameCount);
+		ByteBuffer header = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(frame.getWidth());
+		header.putInt(frame.getHeight());
+		header.putInt(frame.getBpp() == 16 ? FORMAT_RGB_565 : FORMAT_RGBA_8888);
+		try (OutputStream out = Files.newOutputStream(directory.resolve(frameFile))) {
+			out.write(header.array());
+			out.write(frame.getData(), frame.getOffset(), frame.getLength());
+		}
+		return frameFile;
+	}
+
+	private void writeScriptLine(String line) throws IOException {
+		script.write(line);
+		script.newLine();
+		script.flush();
+	}
+
+	private String nextStateName() {
+		return "s" + (++stateCount);
+	}
+
+	private long elapsedMs() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+	}
+}
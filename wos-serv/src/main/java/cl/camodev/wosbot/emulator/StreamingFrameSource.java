@@ -0,0 +1,167 @@
+package cl.camodev.wosbot.emulator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * Frame source that keeps capturing in the background.
+ * <p>
+ * A producer thread captures frames back to back and publishes each one as the latest frame, so
+ * there are two buffers in play: the published frame and the one being filled. A read right after
+ * a tap therefore only waits for the capture already in flight to be superseded by the next one,
+ * instead of paying a full capture round trip on its own. The producer pauses when no frame has
+ * been requested for a while, and reads fall back to a direct capture if no frame arrives in time.
+ */
+final class StreamingFrameSource implements FrameSource {
+
+	private static final Logger logger = LoggerFactory.getLogger(StreamingFrameSource.class);
+
+	private static final long AWAIT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+	private static final long MAX_FRAME_AGE_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final long IDLE_AFTER_NANOS = TimeUnit.SECONDS.toNanos(2);
+	private static final long ERROR_BACKOFF_MS = 1000;
+
+	private record Frame(DTORawImage image, long capturedAt) {
+	}
+
+	private final Emulator emulator;
+	private final String emulatorNumber;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition frameAvailable = lock.newCondition();
+	private final Condition frameRequested = lock.newCondition();
+	private final Thread producer;
+
+	// Guarded by lock
+	private Frame latest;
+	private long lastRequestAt;
+	private boolean running = true;
+
+	StreamingFrameSource(Emulator emulator, String emulatorNumber) {
+		this.emulator = emulator;
+		this.emulatorNumber = emulatorNumber;
+		this.lastRequestAt = System.nanoTime();
+		this.producer = new Thread(this::produce, "frame-stream-" + emulatorNumber);
+		producer.setDaemon(true);
+		producer.start();
+	}
+
+	@Override
+	public DTORawImage latestFrame() {
+		return awaitFrameAfter(System.nanoTime() - MAX_FRAME_AGE_NANOS);
+	}
+
+	@Override
+	public DTORawImage awaitFrameAfter(long timestamp) {
+		// A frame left over from before the producer went idle is never good enough
+		long now = System.nanoTime();
+		long notBefore = timestamp - (now - MAX_FRAME_AGE_NANOS) > 0 ? timestamp : now - MAX_FRAME_AGE_NANOS;
+		long deadline = now + AWAIT_TIMEOUT_NANOS;
+
+		lock.lock();
+		try {
+			lastRequestAt = now;
+			frameRequested.signal();
+			while (running) {
+				// The source holds a reference on the latest frame, so retain() cannot fail here
+				if (latest != null && latest.capturedAt() - notBefore >= 0 && latest.image().retain()) {
+					return latest.image();
+				}
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					break;
+				}
+				frameAvailable.awaitNanos(remaining);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			lock.unlock();
+		}
+
+		logger.debug("No streamed frame available for emulator {}, capturing directly", emulatorNumber);
+		return emulator.getFrameCapturedAfter(emulatorNumber, notBefore);
+	}
+
+	@Override
+	public void close() {
+		Frame dropped;
+		lock.lock();
+		try {
+			running = false;
+			dropped = latest;
+			latest = null;
+			frameRequested.signalAll();
+			frameAvailable.signalAll();
+		} finally {
+			lock.unlock();
+		}
+		if (dropped != null) {
+			dropped.image().release();
+		}
+	}
+
+	private void produce() {
+		logger.debug("Frame streaming started for emulator {}", emulatorNumber);
+		while (awaitDemand()) {
+			long capturedAt = System.nanoTime();
+			DTORawImage image;
+			try {
+				image = emulator.captureAndCache(emulatorNumber);
+			} catch (RuntimeException e) {
+				logger.warn("Frame streaming capture failed for emulator {}: {}", emulatorNumber, e.getMessage());
+				try {
+					Thread.sleep(ERROR_BACKOFF_MS);
+				} catch (InterruptedException ie) {
+					break;
+				}
+				continue;
+			}
+			publish(new Frame(image, capturedAt));
+		}
+		logger.debug("Frame streaming stopped for emulator {}", emulatorNumber);
+	}
+
+	/**
+	 * Blocks while nobody has asked for a frame recently.
+	 *
+	 * @return false once the source is closed
+	 */
+	private boolean awaitDemand() {
+		lock.lock();
+		try {
+			while (running && System.nanoTime() - lastRequestAt > IDLE_AFTER_NANOS) {
+				frameRequested.await();
+			}
+			return running;
+		} catch (InterruptedException e) {
+			return false;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void publish(Frame frame) {
+		Frame previous;
+		lock.lock();
+		try {
+			if (!running) {
+				previous = frame;
+			} else {
+				previous = latest;
+				latest = frame;
+				frameAvailable.signalAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+		if (previous != null) {
+			previous.image().release();
+		}
+	}
+}
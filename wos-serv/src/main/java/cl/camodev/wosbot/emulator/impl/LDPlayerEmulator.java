@@ -4,6 +4,8 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.Map;
 
 import cl.camodev.wosbot.emulator.Emulator;
 import org.slf4j.Logger;
@@ -28,6 +30,7 @@ public class LDPlayerEmulator extends Emulator {
     public void launchEmulator(String emulatorNumber) {
         String[] command = { consolePath + File.separator + "ldconsole.exe", "launch", "--index", emulatorNumber };
         executeCommand(command);
+        invalidateRunningStatusCache(emulatorNumber);
         logger.info("LDPlayer launched at index {}", emulatorNumber);
     }
 
@@ -35,11 +38,16 @@ public class LDPlayerEmulator extends Emulator {
     public void closeEmulator(String emulatorNumber) {
         String[] command = { consolePath + File.separator + "ldconsole.exe", "quit", "--index", emulatorNumber };
         executeCommand(command);
+        invalidateRunningStatusCache(emulatorNumber);
         logger.info("LDPlayer closed at index {}", emulatorNumber);
     }
 
     @Override
     public boolean isRunning(String emulatorNumber) {
+        Boolean polled = getPolledRunningStatus(emulatorNumber);
+        if (polled != null) {
+            return polled;
+        }
         try {
             String[] command = { consolePath + File.separator + "ldconsole.exe", "isrunning", "--index", emulatorNumber };
             ProcessBuilder pb = new ProcessBuilder(command);
@@ -58,6 +66,29 @@ public class LDPlayerEmulator extends Emulator {
         return false;
     }
 
+    @Override
+    protected Map<String, Boolean> listInstanceStatuses() throws IOException, InterruptedException {
+        // One line per instance: index,title,top window,bind window,android started,pid,vbox pid,...
+        // The player runs while it has a process, which is what "isrunning" reports as well
+        String[] command = { consolePath + File.separator + "ldconsole.exe", "list2" };
+        Map<String, Boolean> statuses = new HashMap<>();
+        for (String line : readConsoleOutput(command)) {
+            String[] fields = line.trim().split(",");
+            if (fields.length >= 6 && fields[0].matches("\\d+")) {
+                statuses.put(fields[0], parsePid(fields[5]) > 0);
+            }
+        }
+        return statuses;
+    }
+
+    private static int parsePid(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     private void executeCommand(String[] command) {
         try {
             ProcessBuilder pb = new ProcessBuilder(command);
@@ -4,6 +4,8 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.Map;
 
 import cl.camodev.wosbot.emulator.Emulator;
 import org.slf4j.Logger;
@@ -27,6 +29,7 @@ public class MEmuEmulator extends Emulator {
 	public void launchEmulator(String emulatorNumber) {
 		String[] command = { consolePath + File.separator + "memuc", "start", "-i", emulatorNumber };
 		executeCommand(command);
+		invalidateRunningStatusCache(emulatorNumber);
 		logger.info("MEmu launched at index " + emulatorNumber);
 	}
 
@@ -34,11 +37,16 @@ public class MEmuEmulator extends Emulator {
 	public void closeEmulator(String emulatorNumber) {
 		String[] command = { consolePath + File.separator + "memuc", "stop", "-i", emulatorNumber };
 		executeCommand(command);
+		invalidateRunningStatusCache(emulatorNumber);
 		logger.info("MEmu closed at index " + emulatorNumber);
 	}
 
 	@Override
 	public boolean isRunning(String emulatorNumber) {
+		Boolean polled = getPolledRunningStatus(emulatorNumber);
+		if (polled != null) {
+			return polled;
+		}
 		try {
 			String[] command = { consolePath + File.separator + "memuc", "isvmrunning", "-i", emulatorNumber };
 			ProcessBuilder pb = new ProcessBuilder(command);
@@ -61,6 +69,20 @@ public class MEmuEmulator extends Emulator {
 		return false;
 	}
 
+	@Override
+	protected Map<String, Boolean> listInstanceStatuses() throws IOException, InterruptedException {
+		// One line per instance: index,title,window handle,running (1/0),pid
+		String[] command = { consolePath + File.separator + "memuc", "listvms" };
+		Map<String, Boolean> statuses = new HashMap<>();
+		for (String line : readConsoleOutput(command)) {
+			String[] fields = line.trim().split(",");
+			if (fields.length >= 4 && fields[0].matches("\\d+")) {
+				statuses.put(fields[0], fields[3].trim().equals("1"));
+			}
+		}
+		return statuses;
+	}
+
 	private void executeCommand(String[] command) {
 		try {
 			ProcessBuilder pb = new ProcessBuilder(command);
@@ -4,6 +4,10 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import cl.camodev.wosbot.emulator.Emulator;
 import org.slf4j.Logger;
@@ -12,6 +16,11 @@ import org.slf4j.LoggerFactory;
 public class MuMuEmulator extends Emulator {
 	private static final Logger logger = LoggerFactory.getLogger(MuMuEmulator.class);
 
+	// "info -v all" prints a JSON object per instance, none of them nested
+	private static final Pattern INSTANCE_OBJECT = Pattern.compile("\\{[^{}]*\\}");
+	private static final Pattern INSTANCE_INDEX = Pattern.compile("\"index\"\\s*:\\s*\"?(\\d+)\"?");
+	private static final Pattern STARTED_STATE = Pattern.compile("\"player_state\"\\s*:\\s*\"start_finished\"");
+
 	public MuMuEmulator(String consolePath) {
 		super(consolePath);
 	}
@@ -27,6 +36,7 @@ public class MuMuEmulator extends Emulator {
 	public void launchEmulator(String emulatorNumber) {
 		String[] command = { consolePath + File.separator + "MuMuManager.exe", "api", "-v", emulatorNumber, "launch_player" };
 		executeCommand(command);
+		invalidateRunningStatusCache(emulatorNumber);
         logger.info("MuMu launched at index {}", emulatorNumber);
 	}
 
@@ -34,11 +44,16 @@ public class MuMuEmulator extends Emulator {
 	public void closeEmulator(String emulatorNumber) {
 		String[] command = { consolePath + File.separator + "MuMuManager.exe", "api", "-v", emulatorNumber, "shutdown_player" };
 		executeCommand(command);
+		invalidateRunningStatusCache(emulatorNumber);
         logger.info("MuMu closed at index {}", emulatorNumber);
 	}
 
 	@Override
 	public boolean isRunning(String emulatorNumber) {
+		Boolean polled = getPolledRunningStatus(emulatorNumber);
+		if (polled != null) {
+			return polled;
+		}
 		try {
 			String[] command = { consolePath + File.separator + "MuMuManager.exe", "api", "-v", emulatorNumber, "player_state" };
 			ProcessBuilder pb = new ProcessBuilder(command);
@@ -61,6 +76,21 @@ public class MuMuEmulator extends Emulator {
 		return false;
 	}
 
+	@Override
+	protected Map<String, Boolean> listInstanceStatuses() throws IOException, InterruptedException {
+		String[] command = { consolePath + File.separator + "MuMuManager.exe", "info", "-v", "all" };
+		String output = String.join("\n", readConsoleOutput(command));
+		Map<String, Boolean> statuses = new HashMap<>();
+		Matcher instance = INSTANCE_OBJECT.matcher(output);
+		while (instance.find()) {
+			Matcher index = INSTANCE_INDEX.matcher(instance.group());
+			if (index.find()) {
+				statuses.put(index.group(1), STARTED_STATE.matcher(instance.group()).find());
+			}
+		}
+		return statuses;
+	}
+
 	private void executeCommand(String[] command) {
 		try {
 			ProcessBuilder pb = new ProcessBuilder(command);
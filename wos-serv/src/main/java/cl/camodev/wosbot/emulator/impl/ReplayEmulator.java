@@ -0,0 +1,169 @@
+package cl.camodev.wosbot.emulator.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cl.camodev.wosbot.emulator.Emulator;
+import cl.camodev.wosbot.emulator.SessionRecorder;
+import cl.camodev.wosbot.ex.ADBConnectionException;
+import cl.camodev.wosbot.ot.DTOPoint;
+import cl.camodev.wosbot.ot.DTORawImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Emulator that plays back sessions recorded by {@link SessionRecorder}, without ADB.
+ * <p>
+ * The console path is the session directory. An emulator number uses the subdirectory of the same
+ * name when it holds a session script, and the directory itself otherwise. Screenshots serve the
+ * frame of the current script state and inputs advance the state machine; taps land on the center
+ * of the requested area so runs are deterministic, and device-side tap delays are skipped.
+ * Frames are always read on demand and never shared between reads, so the script advances by
+ * the number of reads and not by their timing.
+ * Every input is logged as a step with the time spent since the previous one.
+ */
+public class ReplayEmulator extends Emulator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayEmulator.class);
+
+    private final Map<String, ReplaySession> sessions = new ConcurrentHashMap<>();
+
+    public ReplayEmulator(String sessionPath) {
+        super(sessionPath);
+        setFrameCacheWindowMs(0);
+    }
+
+    @Override
+    public void setFrameCacheWindowMs(long windowMs) {
+        // Reuse within a time window would make the served frames depend on wall-clock timing
+        super.setFrameCacheWindowMs(0);
+    }
+
+    @Override
+    public void setFrameStreaming(boolean enabled) {
+        // Background capture would advance the script on its own
+        super.setFrameStreaming(false);
+    }
+
+    @Override
+    protected void initializeBridge() {
+        logger.info("Replay emulator using sessions from {}, ADB is not started", consolePath);
+    }
+
+    @Override
+    protected String getDeviceSerial(String emulatorNumber) {
+        return "replay-" + emulatorNumber;
+    }
+
+    @Override
+    public void launchEmulator(String emulatorNumber) {
+        getSession(emulatorNumber);
+        logger.info("Replay emulator {} launched", emulatorNumber);
+    }
+
+    @Override
+    public void closeEmulator(String emulatorNumber) {
+        ReplaySession session = sessions.remove(emulatorNumber);
+        if (session != null) {
+            session.logSummary();
+        }
+        logger.info("Replay emulator {} closed", emulatorNumber);
+    }
+
+    @Override
+    public boolean isRunning(String emulatorNumber) {
+        return Files.isRegularFile(resolveSessionDirectory(emulatorNumber).resolve(SessionRecorder.SCRIPT_FILE));
+    }
+
+    @Override
+    public boolean awaitDeviceOnline(String emulatorNumber, long timeoutMs) {
+        return isRunning(emulatorNumber);
+    }
+
+    @Override
+    protected DTORawImage captureFrame(String emulatorNumber) {
+        return getSession(emulatorNumber).nextFrame();
+    }
+
+    @Override
+    protected boolean tapWithDdmlib(String emulatorNumber, DTOPoint point1, DTOPoint point2, int tapCount, int delayMs) {
+        int x = (point1.getX() + point2.getX()) / 2;
+        int y = (point1.getY() + point2.getY()) / 2;
+        ReplaySession session = getSession(emulatorNumber);
+        for (int i = 0; i < tapCount; i++) {
+            session.onInput("tap", x, y);
+        }
+        invalidateFrameCache(emulatorNumber);
+        return true;
+    }
+
+    @Override
+    public void swipe(String emulatorNumber, DTOPoint point, DTOPoint point2) {
+        getSession(emulatorNumber).onInput("swipe", point.getX(), point.getY(), point2.getX(), point2.getY());
+        invalidateFrameCache(emulatorNumber);
+    }
+
+    @Override
+    public void pressBackButton(String emulatorNumber) {
+        getSession(emulatorNumber).onInput("back");
+        invalidateFrameCache(emulatorNumber);
+    }
+
+    @Override
+    public void writeText(String emulatorNumber, String text) {
+        getSession(emulatorNumber).onInput("text");
+        invalidateFrameCache(emulatorNumber);
+    }
+
+    @Override
+    public void clearText(String emulatorNumber, int count) {
+        getSession(emulatorNumber).onInput("clear", count);
+        invalidateFrameCache(emulatorNumber);
+    }
+
+    @Override
+    public void sendGameToBackground(String emulatorNumber) {
+        getSession(emulatorNumber).onInput("home");
+        invalidateFrameCache(emulatorNumber);
+    }
+
+    @Override
+    public void launchApp(String emulatorNumber, String packageName) {
+        logger.info("Replay emulator {}: launch {}", emulatorNumber, packageName);
+    }
+
+    @Override
+    public boolean isAppInstalled(String emulatorNumber, String packageName) {
+        return true;
+    }
+
+    @Override
+    public boolean isPackageRunning(String emulatorNumber, String packageName) {
+        return true;
+    }
+
+    @Override
+    public void restartAdb() {
+        // No ADB to restart
+    }
+
+    private ReplaySession getSession(String emulatorNumber) {
+        return sessions.computeIfAbsent(emulatorNumber, k -> {
+            try {
+                return ReplaySession.load(k, resolveSessionDirectory(k));
+            } catch (IOException e) {
+                throw new ADBConnectionException("Cannot load replay session for emulator " + k + ": " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private Path resolveSessionDirectory(String emulatorNumber) {
+        Path root = Paths.get(consolePath);
+        Path perEmulator = root.resolve(emulatorNumber);
+        return Files.isRegularFile(perEmulator.resolve(SessionRecorder.SCRIPT_FILE)) ? perEmulator : root;
+    }
+}
@@ -0,0 +1,228 @@
+package cl.camodev.wosbot.emulator.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cl.camodev.wosbot.emulator.SessionRecorder;
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * State machine of a recorded session, as described in {@link SessionRecorder}.
+ * <p>
+ * Captures serve the frame of the current state; inputs move to the target of the first
+ * transition of the current state that matches them, in script order. An input with no matching
+ * transition leaves the state unchanged. Every input is logged as a step together with the time
+ * elapsed since the previous one.
+ */
+final class ReplaySession {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplaySession.class);
+
+    private static final int HEADER_SIZE = 12;
+
+    private record Transition(String kind, int[] area, int count, String target) {
+
+        boolean matches(String inputKind, int[] args) {
+            if (kind.equals("any")) {
+                return true;
+            }
+            if (!kind.equals(inputKind)) {
+                return false;
+            }
+            return area == null || (args.length >= 2 && args[0] >= area[0] && args[0] <= area[2]
+                    && args[1] >= area[1] && args[1] <= area[3]);
+        }
+    }
+
+    private static final class State {
+        private final String name;
+        private String frameFile;
+        private final List<Transition> transitions = new ArrayList<>();
+
+        private State(String name) {
+            this.name = name;
+        }
+    }
+
+    private final String name;
+    private final Path directory;
+    private final Map<String, State> states;
+    private final Map<String, byte[]> frames = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long startedAt = System.nanoTime();
+
+    // Guarded by lock
+    private State current;
+    private int served;
+    private int steps;
+    private long lastStepAt = startedAt;
+
+    private ReplaySession(String name, Path directory, Map<String, State> states, State initial) {
+        this.name = name;
+        this.directory = directory;
+        this.states = states;
+        this.current = initial;
+    }
+
+    /**
+     * Parses the session script of a directory.
+     *
+     * @throws IOException if the script cannot be read or is invalid
+     */
+    static ReplaySession load(String name, Path directory) throws IOException {
+        Map<String, State> states = new LinkedHashMap<>();
+        State initial = null;
+        int lineNumber = 0;
+
+        for (String line : Files.readAllLines(directory.resolve(SessionRecorder.SCRIPT_FILE))) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] parts = line.split("\\s+");
+            try {
+                String kind = parts[0];
+                State state = states.computeIfAbsent(parts[1], State::new);
+                String target = parts[parts.length - 1];
+                switch (kind) {
+                    case "frame" -> {
+                        state.frameFile = target;
+                        if (initial == null) {
+                            initial = state;
+                        }
+                    }
+                    case "shown" -> state.transitions.add(new Transition(kind, null, Integer.parseInt(parts[2]), target));
+                    case "tap" -> {
+                        int[] area = parts.length == 7
+                                ? new int[] { Integer.parseInt(parts[2]), Integer.parseInt(parts[3]),
+                                        Integer.parseInt(parts[4]), Integer.parseInt(parts[5]) }
+                                : null;
+                        state.transitions.add(new Transition(kind, area, 0, target));
+                    }
+                    case "swipe", "back", "text", "clear", "home", "any" ->
+                        state.transitions.add(new Transition(kind, null, 0, target));
+                    default -> throw new IOException("unknown keyword '" + kind + "'");
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("Invalid session script line " + lineNumber + ": " + line, e);
+            }
+        }
+
+        if (initial == null) {
+            throw new IOException("Session script in " + directory + " defines no frame");
+        }
+        for (State state : states.values()) {
+            if (state.frameFile == null) {
+                throw new IOException("State " + state.name + " has no frame in " + directory);
+            }
+            for (Transition transition : state.transitions) {
+                if (!states.containsKey(transition.target())) {
+                    throw new IOException("State " + state.name + " goes to unknown state " + transition.target());
+                }
+            }
+        }
+        logger.info("Replay session {} loaded from {}: {} states", name, directory, states.size());
+        return new ReplaySession(name, directory, states, initial);
+    }
+
+    /**
+     * Returns the frame of the current state, first following a {@code shown} transition
+     * if the frame has been served often enough.
+     */
+    DTORawImage nextFrame() {
+        State state;
+        lock.lock();
+        try {
+            for (Transition transition : current.transitions) {
+                if (transition.kind().equals("shown") && served >= transition.count()) {
+                    current = states.get(transition.target());
+                    served = 0;
+                    break;
+                }
+            }
+            served++;
+            state = current;
+        } finally {
+            lock.unlock();
+        }
+
+        byte[] data = frames.computeIfAbsent(state.frameFile, this::readFrame);
+        int width = readInt(data, 0);
+        int height = readInt(data, 4);
+        int bpp = readInt(data, 8) == 1 ? 32 : 16;
+        // Replay frames are shared and never recycled
+        return new DTORawImage(data, HEADER_SIZE, width, height, bpp, null);
+    }
+
+    /**
+     * Applies an input to the state machine and logs it as a step.
+     */
+    void onInput(String kind, int... args) {
+        lock.lock();
+        try {
+            State from = current;
+            for (Transition transition : from.transitions) {
+                if (!transition.kind().equals("shown") && transition.matches(kind, args)) {
+                    current = states.get(transition.target());
+                    served = 0;
+                    break;
+                }
+            }
+            long now = System.nanoTime();
+            steps++;
+            logger.info("Replay {} step {}: {}{} in {} -> {} (+{} ms)", name, steps, kind,
+                    args.length > 0 ? " " + Arrays.toString(args) : "", from.name, current.name,
+                    TimeUnit.NANOSECONDS.toMillis(now - lastStepAt));
+            lastStepAt = now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Logs the number of steps and the wall time since the session was loaded.
+     */
+    void logSummary() {
+        lock.lock();
+        try {
+            logger.info("Replay {} finished in state {}: {} steps in {} ms", name, current.name, steps,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private byte[] readFrame(String frameFile) {
+        try {
+            byte[] data = Files.readAllBytes(directory.resolve(frameFile));
+            if (data.length < HEADER_SIZE) {
+                throw new IOException("frame is too small");
+            }
+            int bytesPerPixel = readInt(data, 8) == 1 ? 4 : 2;
+            if (data.length < HEADER_SIZE + readInt(data, 0) * readInt(data, 4) * bytesPerPixel) {
+                throw new IOException("frame is truncated");
+            }
+            return data;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read replay frame " + frameFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static int readInt(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) | ((data[offset + 2] & 0xFF) << 16)
+                | ((data[offset + 3] & 0xFF) << 24);
+    }
+}
@@ -0,0 +1,138 @@
+package cl.camodev.wosbot.serv.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cl.camodev.wosbot.almac.repo.IDailyTaskRepository;
+import cl.camodev.wosbot.ot.DTODailyTaskStatus;
+
+/**
+ * Last and next execution times of the daily tasks, with write-behind persistence.
+ * <p>
+ * The statuses of a profile are read from the database once and served from memory afterwards.
+ * Updates are applied to memory right away and queued for writing. The queue keeps only the
+ * latest update per profile and task, and a background thread writes it in one transaction per
+ * interval, so the task threads never wait for the database.
+ */
+final class DailyTaskStatusStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(DailyTaskStatusStore.class);
+
+	private static final long FLUSH_INTERVAL_MS = 5000;
+
+	private record TaskKey(Long profileId, Integer taskId) {
+	}
+
+	private final IDailyTaskRepository repository;
+	private final Map<Long, Map<Integer, DTODailyTaskStatus>> statuses = new ConcurrentHashMap<>();
+	private final Map<TaskKey, DTODailyTaskStatus> pendingWrites = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService executor;
+	private boolean failing;
+
+	DailyTaskStatusStore(IDailyTaskRepository repository) {
+		this.repository = repository;
+		this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "daily-task-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Returns a copy of the statuses of a profile, keyed by task id.
+	 */
+	Map<Integer, DTODailyTaskStatus> getStatuses(Long profileId) {
+		Map<Integer, DTODailyTaskStatus> copy = new HashMap<>();
+		loadProfile(profileId).forEach((taskId, status) -> copy.put(taskId, copyOf(status)));
+		return copy;
+	}
+
+	/**
+	 * Returns a copy of the status of a task, or null if it never ran.
+	 */
+	DTODailyTaskStatus getStatus(Long profileId, Integer taskId) {
+		DTODailyTaskStatus status = loadProfile(profileId).get(taskId);
+		return status != null ? copyOf(status) : null;
+	}
+
+	void update(Long profileId, Integer taskId, LocalDateTime lastExecution, LocalDateTime nextSchedule) {
+		DTODailyTaskStatus status = new DTODailyTaskStatus(profileId, taskId, lastExecution, nextSchedule);
+		// Queued first, so a profile being loaded concurrently picks it up either way
+		pendingWrites.put(new TaskKey(profileId, taskId), status);
+		statuses.computeIfPresent(profileId, (id, profileStatuses) -> {
+			profileStatuses.put(taskId, status);
+			return profileStatuses;
+		});
+	}
+
+	/**
+	 * Writes the queued updates in a single transaction. Updates that fail to be written stay
+	 * queued unless a newer one replaced them in the meantime.
+	 */
+	synchronized void flush() {
+		if (pendingWrites.isEmpty()) {
+			return;
+		}
+		Map<TaskKey, DTODailyTaskStatus> batch = new HashMap<>(pendingWrites);
+		try {
+			if (!repository.saveDailyTaskStatuses(batch.values())) {
+				throw new IllegalStateException("transaction was rolled back");
+			}
+		} catch (RuntimeException e) {
+			if (!failing) {
+				failing = true;
+				logger.warn("Failed to write {} daily task statuses, retrying later: {}", batch.size(), e.getMessage());
+			}
+			return;
+		}
+		batch.forEach(pendingWrites::remove);
+		if (failing) {
+			failing = false;
+			logger.info("Writing daily task statuses recovered");
+		}
+		logger.debug("Wrote {} daily task statuses", batch.size());
+	}
+
+	/**
+	 * Stops the background writer and writes what is still queued.
+	 */
+	void shutdown() {
+		executor.shutdown();
+		try {
+			executor.awaitTermination(FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flush();
+	}
+
+	private Map<Integer, DTODailyTaskStatus> loadProfile(Long profileId) {
+		return statuses.computeIfAbsent(profileId, id -> {
+			Map<Integer, DTODailyTaskStatus> loaded = new ConcurrentHashMap<>(repository.findDailyTasksStatusByProfile(id));
+			// Updates not written yet are newer than what the database returned
+			List<DTODailyTaskStatus> pending = new ArrayList<>(pendingWrites.values());
+			for (DTODailyTaskStatus status : pending) {
+				if (id.equals(status.getIdProfile())) {
+					loaded.put(status.getIdTpDailyTask(), status);
+				}
+			}
+			return loaded;
+		});
+	}
+
+	private static DTODailyTaskStatus copyOf(DTODailyTaskStatus status) {
+		return new DTODailyTaskStatus(status.getIdProfile(), status.getIdTpDailyTask(), status.getLastExecution(),
+				status.getNextSchedule());
+	}
+}
@@ -25,6 +25,10 @@ public class ServConfig {
 	private IConfigRepository iConfigRepository = ConfigRepository.getRepository();
 	private IProfileRepository iProfileRepository = ProfileRepository.getRepository();
 
+	private final Object cacheLock = new Object();
+
+	private HashMap<String, String> globalConfigCache;
+
 	private ServConfig() {
 
 	}
@@ -37,17 +41,31 @@ public class ServConfig {
 	}
 
 	public HashMap<String, String> getGlobalConfig() {
-		List<Config> configs = iConfigRepository.getGlobalConfigs();
+		synchronized (cacheLock) {
+			if (globalConfigCache == null) {
+				List<Config> configs = iConfigRepository.getGlobalConfigs();
 
-		if (configs == null || configs.isEmpty()) {
-			return null;
+				if (configs == null || configs.isEmpty()) {
+					return null;
+				}
+
+				globalConfigCache = new HashMap<>();
+				for (Config config : configs) {
+					globalConfigCache.put(config.getKey(), config.getValue());
+				}
+			}
+			return new HashMap<>(globalConfigCache);
 		}
+	}
 
-		HashMap<String, String> globalConfig = new HashMap<>();
-		for (Config config : configs) {
-			globalConfig.put(config.getKey(), config.getValue());
+	/**
+	 * Drops the cached global configuration so the next read goes to the database.
+	 * Must be called by anything that writes global configs.
+	 */
+	public void invalidateGlobalConfig() {
+		synchronized (cacheLock) {
+			globalConfigCache = null;
 		}
-		return globalConfig;
 	}
 
 	/**
@@ -78,6 +96,7 @@ public class ServConfig {
 
 				if (saved) {
 					logger.info("Configuration {} updated to: {}", key.name(), value);
+					ServProfiles.getServices().cacheProfileConfig(profile.getId(), key, value);
 					// Notify UI that profile data has changed
 					ServProfiles.getServices().notifyProfileDataChange(profile);
 				} else {
@@ -109,6 +128,7 @@ public class ServConfig {
 
 				if (created) {
 					logger.info("Configuration {} created with value: {}", key.name(), value);
+					ServProfiles.getServices().cacheProfileConfig(profile.getId(), key, value);
 					// Notify UI that profile data has changed
 					ServProfiles.getServices().notifyProfileDataChange(profile);
 				} else {
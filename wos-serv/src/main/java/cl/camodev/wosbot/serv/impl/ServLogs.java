@@ -1,14 +1,31 @@
 package cl.camodev.wosbot.serv.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import cl.camodev.wosbot.console.enumerable.EnumTpMessageSeverity;
 import cl.camodev.wosbot.console.list.ILogListener;
 import cl.camodev.wosbot.ot.DTOLogMessage;
 
 public class ServLogs {
 
+	// The console only shows the latest messages, older ones are dropped when it falls behind
+	private static final int MAX_PENDING_LOGS = 1000;
+
 	private static ServLogs instance;
 
-	private ILogListener iLogListener;
+	private volatile ILogListener iLogListener;
+
+	private volatile boolean debugEnabled = true;
+
+	private final ConcurrentLinkedQueue<DTOLogMessage> pendingLogs = new ConcurrentLinkedQueue<>();
+
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	private final AtomicBoolean deliveryRequested = new AtomicBoolean();
 
 	private ServLogs() {
 
@@ -25,13 +42,44 @@ public class ServLogs {
 		this.iLogListener = listener;
 	}
 
+	/**
+	 * Enables or disables DEBUG messages. Disabled messages are discarded before being queued.
+	 */
+	public void setDebugEnabled(boolean debugEnabled) {
+		this.debugEnabled = debugEnabled;
+	}
+
 	public void appendLog(EnumTpMessageSeverity severity, String task, String profile, String message) {
+		ILogListener listener = iLogListener;
+		if (listener == null || (severity == EnumTpMessageSeverity.DEBUG && !debugEnabled)) {
+			return;
+		}
 
 		DTOLogMessage logMessage = new DTOLogMessage(severity, message, task, profile);
 //		ServDiscord.getServices().sendLog(logMessage);
 
-		if (iLogListener != null) {
-			iLogListener.onLogReceived(logMessage);
+		pendingLogs.offer(logMessage);
+		if (pendingCount.incrementAndGet() > MAX_PENDING_LOGS && pendingLogs.poll() != null) {
+			pendingCount.decrementAndGet();
+		}
+
+		// Only the first message since the last drain notifies the listener
+		if (deliveryRequested.compareAndSet(false, true)) {
+			listener.onLogsAvailable();
+		}
+	}
+
+	/**
+	 * Takes every queued message, oldest first. Messages queued afterwards notify the listener again.
+	 */
+	public List<DTOLogMessage> drainLogs() {
+		deliveryRequested.set(false);
+		List<DTOLogMessage> logs = new ArrayList<>();
+		DTOLogMessage logMessage;
+		while ((logMessage = pendingLogs.poll()) != null) {
+			pendingCount.decrementAndGet();
+			logs.add(logMessage);
 		}
+		return logs;
 	}
 }
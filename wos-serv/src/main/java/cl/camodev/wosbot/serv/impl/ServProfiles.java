@@ -6,13 +6,13 @@ import java.util.List;
 import java.util.stream.Collectors;
 import cl.camodev.wosbot.almac.entity.Config;
 import cl.camodev.wosbot.almac.entity.Profile;
-import cl.camodev.wosbot.almac.entity.TpConfig;
 import cl.camodev.wosbot.almac.repo.ConfigRepository;
 import cl.camodev.wosbot.almac.repo.IConfigRepository;
 import cl.camodev.wosbot.almac.repo.IProfileRepository;
 import cl.camodev.wosbot.almac.repo.ProfileRepository;
 import cl.camodev.wosbot.console.enumerable.EnumConfigurationKey;
 import cl.camodev.wosbot.console.enumerable.TpConfigEnum;
+import cl.camodev.wosbot.ot.DTOConfig;
 import cl.camodev.wosbot.ot.DTOProfileStatus;
 import cl.camodev.wosbot.ot.DTOProfiles;
 import cl.camodev.wosbot.serv.IProfileDataChangeListener;
@@ -36,6 +36,14 @@ public class ServProfiles implements IServProfile {
 
 	private List<IProfileDataChangeListener> dataChangeListeners;
 
+	private final Object cacheLock = new Object();
+
+	/**
+	 * Profiles with their configs as last read from or written to the database.
+	 * Callers always receive copies, so tasks and views can modify them freely.
+	 */
+	private List<DTOProfiles> profileCache;
+
 	private ServProfiles() {
 		iProfileRepository = ProfileRepository.getRepository();
 		iConfigRepository = ConfigRepository.getRepository();
@@ -50,7 +58,70 @@ public class ServProfiles implements IServProfile {
 
 	@Override
 	public List<DTOProfiles> getProfiles() {
-		return iProfileRepository.getProfiles();
+		synchronized (cacheLock) {
+			if (profileCache == null) {
+				profileCache = iProfileRepository.getProfiles();
+			}
+			return profileCache.stream().map(ServProfiles::copyOf).collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Gets a single profile with its configurations from the cache.
+	 *
+	 * @param id The profile ID
+	 * @return A copy of the profile, or null if it doesn't exist
+	 */
+	public DTOProfiles getProfile(Long id) {
+		if (id == null) {
+			return null;
+		}
+		synchronized (cacheLock) {
+			if (profileCache == null) {
+				profileCache = iProfileRepository.getProfiles();
+			}
+			return profileCache.stream().filter(p -> id.equals(p.getId())).findFirst().map(ServProfiles::copyOf).orElse(null);
+		}
+	}
+
+	/**
+	 * Drops the cached profiles so the next read goes to the database.
+	 */
+	public void invalidateProfileCache() {
+		synchronized (cacheLock) {
+			profileCache = null;
+		}
+	}
+
+	/**
+	 * Replaces the cached copy of a profile after it was persisted.
+	 */
+	private void cacheProfile(DTOProfiles profile) {
+		synchronized (cacheLock) {
+			if (profileCache == null) {
+				return;
+			}
+			DTOProfiles copy = copyOf(profile);
+			profileCache.replaceAll(p -> p.getId().equals(copy.getId()) ? copy : p);
+		}
+	}
+
+	/**
+	 * Updates a single cached configuration value after it was persisted.
+	 */
+	void cacheProfileConfig(Long profileId, EnumConfigurationKey key, String value) {
+		synchronized (cacheLock) {
+			if (profileCache == null) {
+				return;
+			}
+			profileCache.stream().filter(p -> p.getId().equals(profileId)).findFirst().ifPresent(p -> p.setConfig(key, value));
+		}
+	}
+
+	private static DTOProfiles copyOf(DTOProfiles profile) {
+		DTOProfiles copy = new DTOProfiles(profile.getId(), profile.getName(), profile.getEmulatorNumber(), profile.getEnabled(), profile.getPriority(), profile.getReconnectionTime());
+		copy.setConfigs(profile.getConfigs().stream().map(c -> new DTOConfig(c.getProfileId(), c.getConfigurationName(), c.getValue())).collect(Collectors.toCollection(ArrayList::new)));
+		return copy;
 	}
 
 	public HashMap<EnumConfigurationKey, String> getGlobalSettings() {
@@ -83,6 +154,7 @@ public class ServProfiles implements IServProfile {
 
 			boolean success = iProfileRepository.addProfile(newProfile);
 			if (success) {
+				invalidateProfileCache();
 				notifyProfileDataChange(null);
 			}
 			return success;
@@ -100,42 +172,18 @@ public class ServProfiles implements IServProfile {
 				return false;
 			}
 
-			// Get the existing profile
-			Profile existingProfile = iProfileRepository.getProfileById(profileDTO.getId());
-
-			if (existingProfile == null) {
-				return false;
-			}
-
-			// Update the profile fields
-			existingProfile.setName(profileDTO.getName());
-			existingProfile.setEmulatorNumber(profileDTO.getEmulatorNumber());
-			existingProfile.setEnabled(profileDTO.getEnabled());
-			existingProfile.setPriority(profileDTO.getPriority());
-			existingProfile.setReconnectionTime(profileDTO.getReconnectionTime());
-
-			List<Config> existingConfigs = iConfigRepository.getProfileConfigs(existingProfile.getId());
-			for (Config config : existingConfigs) {
-				iConfigRepository.deleteConfig(config);
-			}
-
-			TpConfig tpConfig = iConfigRepository.getTpConfig(TpConfigEnum.PROFILE_CONFIG);
-
-			if (tpConfig == null) {
-				return false;
-			}
-
-			List<Config> newConfigs = profileDTO.getConfigs().stream().map(dtoConfig -> new Config(existingProfile, tpConfig, dtoConfig.getConfigurationName(), dtoConfig.getValue())).collect(Collectors.toList());
-
-			newConfigs.forEach(config -> iConfigRepository.addConfig(config));
-
-			boolean success = iProfileRepository.saveProfile(existingProfile);
+			// Profile fields and changed configs are written in one transaction
+			boolean success = iProfileRepository.saveProfileWithConfigs(profileDTO, TpConfigEnum.PROFILE_CONFIG);
 			if (success) {
+				cacheProfile(profileDTO);
 				notifyProfileDataChange(profileDTO);
+			} else {
+				invalidateProfileCache();
 			}
 			return success;
 
 		} catch (Exception e) {
+			invalidateProfileCache();
 			logger.error("Error occurred while saving profile: {}", e.getMessage());
 			return false;
 		}
@@ -160,6 +208,7 @@ public class ServProfiles implements IServProfile {
 			}
 
 			boolean success = iProfileRepository.deleteProfile(existingProfile);
+			invalidateProfileCache();
 			if (success) {
 				notifyProfileDataChange(profile);
 			}
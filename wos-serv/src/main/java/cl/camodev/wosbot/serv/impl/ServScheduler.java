@@ -7,16 +7,11 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import cl.camodev.wosbot.almac.entity.Config;
-import cl.camodev.wosbot.almac.entity.DailyTask;
-import cl.camodev.wosbot.almac.entity.Profile;
 import cl.camodev.wosbot.almac.entity.TpConfig;
-import cl.camodev.wosbot.almac.entity.TpDailyTask;
 import cl.camodev.wosbot.almac.repo.ConfigRepository;
 import cl.camodev.wosbot.almac.repo.DailyTaskRepository;
 import cl.camodev.wosbot.almac.repo.IConfigRepository;
 import cl.camodev.wosbot.almac.repo.IDailyTaskRepository;
-import cl.camodev.wosbot.almac.repo.IProfileRepository;
-import cl.camodev.wosbot.almac.repo.ProfileRepository;
 import cl.camodev.wosbot.console.enumerable.EnumConfigurationKey;
 import cl.camodev.wosbot.console.enumerable.EnumTpMessageSeverity;
 import cl.camodev.wosbot.console.enumerable.TpConfigEnum;
@@ -44,10 +39,10 @@ public class ServScheduler {
 
 	private IDailyTaskRepository iDailyTaskRepository = DailyTaskRepository.getRepository();
 
-	private IProfileRepository iProfileRepository = ProfileRepository.getRepository();
-
 	private IConfigRepository iConfigRepository = ConfigRepository.getRepository();
 
+	private final DailyTaskStatusStore dailyTaskStatusStore = new DailyTaskStatusStore(iDailyTaskRepository);
+
 	private ServScheduler() {
 
 	}
@@ -103,7 +98,7 @@ public class ServScheduler {
 						.collect(Collectors.groupingBy(TpDailyTaskEnum::getConfigKey, () -> new EnumMap<>(EnumConfigurationKey.class), Collectors.mapping(t -> (Supplier<DelayedTask>) () -> DelayedTaskRegistry.create(t, profile), Collectors.toList())));
 
 				// obtain current task schedules
-				Map<Integer, DTODailyTaskStatus> taskSchedules = iDailyTaskRepository.findDailyTasksStatusByProfile(profile.getId());
+				Map<Integer, DTODailyTaskStatus> taskSchedules = dailyTaskStatusStore.getStatuses(profile.getId());
 
 				// Enqueue tasks based on profile configuration
 				taskMappings.forEach((configKey, suppliers) -> {
@@ -240,28 +235,35 @@ public class ServScheduler {
                 queueStateListeners.forEach(listener -> listener.onQueueStateChange(state));
         }
 
+	/**
+	 * Records the execution of a task. The change is visible right away and written to the
+	 * database in the background.
+	 */
 	public void updateDailyTaskStatus(DTOProfiles profile, TpDailyTaskEnum task, LocalDateTime nextSchedule) {
+		dailyTaskStatusStore.update(profile.getId(), task.getId(), LocalDateTime.now(), nextSchedule);
+	}
 
-		DailyTask dailyTask = iDailyTaskRepository.findByProfileIdAndTaskName(profile.getId(), task);
-
-		if (dailyTask == null) {
-			// Create new task if it doesn't exist
-			dailyTask = new DailyTask();
-
-			Profile profileEntity = iProfileRepository.getProfileById(profile.getId());
-			TpDailyTask tpDailyTaskEntity = iDailyTaskRepository.findTpDailyTaskById(task.getId());
-			dailyTask.setProfile(profileEntity);
-			dailyTask.setTask(tpDailyTaskEntity);
-			dailyTask.setLastExecution(LocalDateTime.now());
-			dailyTask.setNextSchedule(nextSchedule);
-			iDailyTaskRepository.addDailyTask(dailyTask);
-		}
+	/**
+	 * Returns the last and next execution of every task of a profile that ran at least once,
+	 * keyed by task id.
+	 */
+	public Map<Integer, DTODailyTaskStatus> getDailyTaskStatuses(Long profileId) {
+		return dailyTaskStatusStore.getStatuses(profileId);
+	}
 
-		dailyTask.setLastExecution(LocalDateTime.now());
-		dailyTask.setNextSchedule(nextSchedule);
+	/**
+	 * Returns the last and next execution of a task, or null if it never ran.
+	 */
+	public DTODailyTaskStatus getDailyTaskStatus(Long profileId, TpDailyTaskEnum task) {
+		return dailyTaskStatusStore.getStatus(profileId, task.getId());
+	}
 
-		// Save the entity (whether new or existing)
-		iDailyTaskRepository.saveDailyTask(dailyTask);
+	/**
+	 * Stops writing task status changes in the background and writes the pending ones.
+	 * Called on shutdown.
+	 */
+	public void closeDailyTaskWriter() {
+		dailyTaskStatusStore.shutdown();
 	}
 
 	/**
@@ -324,6 +326,7 @@ public class ServScheduler {
 			config.setValue(filePath);
 			iConfigRepository.saveConfig(config);
 		}
+		ServConfig.getServices().invalidateGlobalConfig();
 	}
 
 	public TaskQueueManager getQueueManager() {
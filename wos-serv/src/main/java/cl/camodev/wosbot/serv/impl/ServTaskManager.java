@@ -1,12 +1,10 @@
 package cl.camodev.wosbot.serv.impl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
-import cl.camodev.wosbot.almac.repo.DailyTaskRepository;
 import cl.camodev.wosbot.ot.DTODailyTaskStatus;
 import cl.camodev.wosbot.ot.DTOTaskState;
 import cl.camodev.wosbot.taskmanager.ITaskStatusChangeListener;
@@ -17,7 +15,8 @@ public class ServTaskManager {
 
 	private static final ServTaskManager INSTANCE = new ServTaskManager();
 
-	private ConcurrentHashMap<Long, HashMap<Integer, DTOTaskState>> map = new ConcurrentHashMap<>();
+	// Read by the UI thread while the task threads update it
+	private ConcurrentHashMap<Long, Map<Integer, DTOTaskState>> map = new ConcurrentHashMap<>();
 
 	private ServTaskManager() {
 		// Private constructor to prevent instantiation
@@ -28,12 +27,12 @@ public class ServTaskManager {
 	}
 
 	public void setTaskState(Long profileId, DTOTaskState taskState) {
-		map.computeIfAbsent(profileId, k -> new HashMap<>()).put(taskState.getTaskId(), taskState);
+		map.computeIfAbsent(profileId, k -> new ConcurrentHashMap<>()).put(taskState.getTaskId(), taskState);
 		notifyListeners(profileId, taskState.getTaskId(), taskState);
 	}
 
 	public DTOTaskState getTaskState(Long profileId, int taskNameId) {
-		HashMap<Integer, DTOTaskState> tasks = map.get(profileId);
+		Map<Integer, DTOTaskState> tasks = map.get(profileId);
 		if (tasks != null) {
 			return tasks.get(taskNameId);
 		}
@@ -54,7 +53,7 @@ public class ServTaskManager {
 	}
 
 	public List<DTODailyTaskStatus> getDailyTaskStatusPersistence(Long profileId) {
-		Map<Integer, DTODailyTaskStatus> taskSchedules = DailyTaskRepository.getRepository().findDailyTasksStatusByProfile(profileId);
+		Map<Integer, DTODailyTaskStatus> taskSchedules = ServScheduler.getServices().getDailyTaskStatuses(profileId);
 		if (taskSchedules != null && !taskSchedules.isEmpty()) {
 			return new ArrayList<>(taskSchedules.values());
 		}
@@ -1,10 +1,12 @@
 package cl.camodev.wosbot.serv.ocr;
 
+import cl.camodev.wosbot.ot.DTOArea;
 import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOTesseractSettings;
 import cl.camodev.wosbot.emulator.EmulatorManager;
 import cl.camodev.utiles.ocr.TextRecognitionProvider;
 import java.io.IOException;
+import java.util.Map;
 import net.sourceforge.tess4j.TesseractException;
 
 /**
@@ -40,4 +42,12 @@ public class BotTextRecognitionProvider implements TextRecognitionProvider {
         }
     }
 
+    /**
+     * Reads all the regions from a single screenshot.
+     */
+    @Override
+    public Map<DTOArea, String> ocrRegions(Map<DTOArea, DTOTesseractSettings> regions) throws IOException {
+        return emulatorManager.ocrRegions(emulatorNumber, regions);
+    }
+
 }
\ No newline at end of file
@@ -3,12 +3,12 @@ package cl.camodev.wosbot.serv.task;
 import cl.camodev.utiles.number.NumberConverters;
 import cl.camodev.utiles.number.NumberValidators;
 import cl.camodev.utiles.ocr.TextRecognitionRetrier;
-import cl.camodev.wosbot.almac.repo.ProfileRepository;
 import cl.camodev.wosbot.console.enumerable.EnumTpMessageSeverity;
 import cl.camodev.wosbot.console.enumerable.TpDailyTaskEnum;
 import cl.camodev.wosbot.emulator.EmulatorManager;
 import cl.camodev.wosbot.ex.HomeNotFoundException;
 import cl.camodev.wosbot.logging.ProfileLogger;
+import cl.camodev.wosbot.ot.DTOArea;
 import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOProfiles;
 import cl.camodev.wosbot.ot.DTOTesseractSettings;
@@ -25,8 +25,9 @@ import cl.camodev.wosbot.serv.task.impl.InitializeTask;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
@@ -231,13 +232,12 @@ public abstract class DelayedTask implements Runnable, Delayed {
     protected abstract void execute();
 
     /**
-     * Refreshes the profile from the database to ensure current configurations.
+     * Refreshes the profile from the profile cache to ensure current configurations.
      */
     private void refreshProfileFromDatabase() {
         try {
             if (profile != null && profile.getId() != null) {
-                DTOProfiles updated = ProfileRepository.getRepository()
-                        .getProfileWithConfigsById(profile.getId());
+                DTOProfiles updated = ServProfiles.getServices().getProfile(profile.getId());
                 if (updated != null) {
                     this.profile = updated;
                 }
@@ -293,6 +293,28 @@ public abstract class DelayedTask implements Runnable, Delayed {
         return result;
     }
 
+    /**
+     * Reads integer values from several screen regions using a single screenshot
+     * per attempt.
+     * 
+     * @param areas    OCR regions
+     * @param settings Tesseract OCR settings
+     * @return Parsed integer value for each region, or null for regions that
+     *         could not be read
+     */
+    protected Map<DTOArea, Integer> readNumberValues(List<DTOArea> areas, DTOTesseractSettings settings) {
+        Map<DTOArea, Integer> results = integerHelper.executeAll(
+                areas,
+                5, // Max retry attempts
+                200L, // Delay between retries
+                settings,
+                text -> NumberValidators.matchesPattern(text, CommonOCRSettings.NUMBER_PATTERN),
+                text -> NumberConverters.regexToInt(text, CommonOCRSettings.NUMBER_PATTERN));
+
+        logDebug("Number values read: " + results.values());
+        return results;
+    }
+
     /**
      * Reads a string value from a screen region using OCR.
      * 
@@ -458,9 +480,8 @@ public abstract class DelayedTask implements Runnable, Delayed {
 
     @Override
     public long getDelay(TimeUnit unit) {
-        long diff = scheduledTime.toEpochSecond(ZoneOffset.UTC) -
-                LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
-        return unit.convert(diff, TimeUnit.SECONDS);
+        long diff = Duration.between(LocalDateTime.now(), scheduledTime).toNanos();
+        return unit.convert(diff, TimeUnit.NANOSECONDS);
     }
 
     @Override
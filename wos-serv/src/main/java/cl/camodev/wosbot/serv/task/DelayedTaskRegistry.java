@@ -3,7 +3,7 @@ package cl.camodev.wosbot.serv.task;
 import cl.camodev.wosbot.console.enumerable.TpDailyTaskEnum;
 import cl.camodev.wosbot.ot.DTOProfiles;
 import cl.camodev.wosbot.serv.task.impl.*;
-import cl.camodev.wosbot.almac.repo.ProfileRepository;
+import cl.camodev.wosbot.serv.impl.ServProfiles;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -88,10 +88,10 @@ public class DelayedTaskRegistry {
      * Updates the profile from the database to get the latest configurations.
      */
     public static DelayedTask create(TpDailyTaskEnum type, DTOProfiles profile) {
-        // Update profile from database to get latest configurations
+        // Update profile from the profile cache to get latest configurations
         DTOProfiles updatedProfile = profile;
         if (profile != null && profile.getId() != null) {
-            DTOProfiles refreshed = ProfileRepository.getRepository().getProfileWithConfigsById(profile.getId());
+            DTOProfiles refreshed = ServProfiles.getServices().getProfile(profile.getId());
             if (refreshed != null) {
                 updatedProfile = refreshed;
             }
@@ -3,9 +3,12 @@ package cl.camodev.wosbot.serv.task;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import cl.camodev.utiles.UtilTime;
 import cl.camodev.wosbot.console.enumerable.EnumConfigurationKey;
@@ -39,9 +42,16 @@ import org.slf4j.LoggerFactory;
 public class TaskQueue {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskQueue.class);
-    private static final long IDLE_WAIT_TIME = 999; // milliseconds to wait between task checking cycles
+    private static final DateTimeFormatter STATUS_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
 
     private final PriorityBlockingQueue<DelayedTask> taskQueue = new PriorityBlockingQueue<>();
+
+    // The scheduler thread parks on this condition until its next deadline or
+    // until the queue is changed, paused or resumed
+    private final ReentrantLock schedulerLock = new ReentrantLock();
+    private final Condition schedulerSignal = schedulerLock.newCondition();
+    private boolean wakeupPending = false;
+    private volatile String lastStatus;
     protected final EmulatorManager emuManager = EmulatorManager.getInstance();
 
     // State flags
@@ -60,6 +70,7 @@ public class TaskQueue {
      */
     public void addTask(DelayedTask task) {
         taskQueue.offer(task);
+        wakeScheduler();
     }
 
     /**
@@ -80,6 +91,7 @@ public class TaskQueue {
         boolean removed = taskQueue.removeIf(task -> task.equals(prototype));
 
         if (removed) {
+            wakeScheduler();
             logInfoWithTask(prototype, "Removed task " + taskEnum.getName() + " from queue");
         } else {
             logInfo("Task " + taskEnum.getName() + " was not found in queue");
@@ -130,10 +142,10 @@ public class TaskQueue {
         while (taskQueueStatus.isRunning()) {
             taskQueueStatus.loopStarted();
 
-            profile = ServProfiles.getServices().getProfiles().stream()
-                    .filter(p -> p.getId().equals(profile.getId()))
-                    .findFirst()
-                    .orElse(profile);
+            DTOProfiles cachedProfile = ServProfiles.getServices().getProfile(profile.getId());
+            if (cachedProfile != null) {
+                profile = cachedProfile;
+            }
 
             if (taskQueueStatus.isPaused()) {
                 handlePausedState();
@@ -143,10 +155,10 @@ public class TaskQueue {
                 acquireEmulatorSlot();
             }
 
-            DelayedTask task = taskQueue.peek();
+            DelayedTask task = nextTask();
 
-            if (task != null && task.getDelay(TimeUnit.SECONDS) <= 0) {
-                taskQueue.poll();
+            if (task != null && task.getDelay(TimeUnit.MILLISECONDS) <= 0) {
+                taskQueue.remove(task);
                 taskQueueStatus.getLoopState().setExecutedTask(executeTask(task));
             } else if (task != null) {
                 taskQueueStatus.setDelayUntil(task.getScheduled());
@@ -155,21 +167,86 @@ public class TaskQueue {
             runBackgroundChecks();
             handleIdleTime();
 
-            // Waits for the next task to be ready, displaying status information
+            // Parks until the next task is due, displaying status information
             if (!taskQueueStatus.getLoopState().isExecutedTask() && !taskQueueStatus.isPaused()) {
-                String nextTaskName = taskQueue.isEmpty() ? "None" : taskQueue.peek().getTaskName();
-                String timeFormatted = formatTimeUntil(taskQueueStatus.getDelayUntil());
-                updateProfileStatus("Idling for " + timeFormatted + "\nNext task: " + nextTaskName);
-
-                // Sleep for remaining time to maintain consistent 1-second intervals
-                taskQueueStatus.getLoopState().endLoop();
-                long sleepTime = Math.max(0, IDLE_WAIT_TIME - taskQueueStatus.getLoopState().getDuration());
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+                DelayedTask nextTask = nextTask();
+                if (nextTask == null) {
+                    updateProfileStatus("Idling\nNext task: None");
+                } else {
+                    updateProfileStatus("Idling until " + STATUS_TIME_FORMAT.format(nextTask.getScheduled())
+                            + "\nNext task: " + nextTask.getTaskName());
+                }
+
+                awaitUntil(nextWakeup(nextTask));
+            }
+        }
+    }
+
+    /**
+     * Gets the task that should run next, evaluating the ordering at the current
+     * time since readiness changes while tasks sit in the queue.
+     */
+    private DelayedTask nextTask() {
+        return taskQueue.stream().min(Comparator.naturalOrder()).orElse(null);
+    }
+
+    /**
+     * Computes when the scheduler has to wake up on its own: the next task, the
+     * end of the idle window and the next background checks, whichever is first.
+     */
+    private LocalDateTime nextWakeup(DelayedTask nextTask) {
+        LocalDateTime wakeup = LocalDateTime.MAX;
+
+        if (nextTask != null) {
+            wakeup = nextTask.getScheduled();
+        }
+
+        if (taskQueueStatus.isIdleTimeExceeded()) {
+            // Re-acquire the emulator one minute before the next task
+            LocalDateTime reacquireAt = taskQueueStatus.getDelayUntil().minusMinutes(1);
+            if (reacquireAt.isBefore(wakeup)) {
+                wakeup = reacquireAt;
+            }
+        } else if (taskQueueStatus.getNextBackgroundChecks().isBefore(wakeup)) {
+            wakeup = taskQueueStatus.getNextBackgroundChecks();
+        }
+
+        return wakeup;
+    }
+
+    /**
+     * Parks the scheduler thread until the given time or until
+     * {@link #wakeScheduler()} is called, whichever comes first.
+     */
+    private void awaitUntil(LocalDateTime wakeup) {
+        schedulerLock.lock();
+        try {
+            while (!wakeupPending && taskQueueStatus.isRunning()) {
+                long waitNanos = LocalDateTime.MAX.equals(wakeup) ? Long.MAX_VALUE
+                        : Duration.between(LocalDateTime.now(), wakeup).toNanos();
+                if (waitNanos <= 0) {
+                    break;
                 }
+                schedulerSignal.awaitNanos(waitNanos);
             }
+            wakeupPending = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            schedulerLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes the scheduler thread so it re-evaluates the queue immediately.
+     */
+    private void wakeScheduler() {
+        schedulerLock.lock();
+        try {
+            wakeupPending = true;
+            schedulerSignal.signalAll();
+        } finally {
+            schedulerLock.unlock();
         }
     }
 
@@ -190,6 +267,7 @@ public class TaskQueue {
         LocalDateTime scheduledBefore = task.getScheduled();
         DTOTaskState taskState = createInitialTaskState(task);
         boolean executionSuccessful;
+        long startNanos = System.nanoTime();
 
         try {
             logInfoWithTask(task, "Starting task execution: " + task.getTaskName());
@@ -212,6 +290,9 @@ public class TaskQueue {
             handleTaskExecutionException(task, e);
             executionSuccessful = false;
         } finally {
+            logInfoWithTask(task, "Task execution took "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms");
+
             // Always handle task rescheduling, regardless of success or failure
             handleTaskRescheduling(task, scheduledBefore);
             finalizeTaskState(task, taskState);
@@ -453,26 +534,9 @@ public class TaskQueue {
             }
             return;
         }
-        try {
-            updateProfileStatus("PAUSED");
-            if (LocalDateTime.now().getSecond() % 10 == 0)
-                logInfo("Profile is paused");
-            Thread.sleep(1000); // Wait while paused
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
-    /**
-     * Formats the duration until the target time as HH:mm:ss
-     */
-    private String formatTimeUntil(LocalDateTime targetTime) {
-        Duration timeUntilNext = Duration.between(LocalDateTime.now(), targetTime);
-
-        long hours = timeUntilNext.toHours();
-        long minutes = timeUntilNext.toMinutesPart();
-        long seconds = timeUntilNext.toSecondsPart();
-        return String.format("%02d:%02d:%02d", hours, minutes, seconds);
+        updateProfileStatus("PAUSED");
+        // Wait while paused, resume() wakes the scheduler early
+        awaitUntil(taskQueueStatus.getDelayUntil());
     }
 
     /**
@@ -650,6 +714,11 @@ public class TaskQueue {
     }
 
     private void updateProfileStatus(String status) {
+        // Skip repeated statuses so an idle queue doesn't churn the UI
+        if (status.equals(lastStatus)) {
+            return;
+        }
+        lastStatus = status;
         ServProfiles.getServices().notifyProfileStatusChange(new DTOProfileStatus(profile.getId(), status));
     }
 
@@ -682,6 +751,7 @@ public class TaskQueue {
      */
     public void pause() {
         taskQueueStatus.pause();
+        wakeScheduler();
         updateProfileStatus("PAUSE REQUESTED");
         logInfo("TaskQueue paused");
     }
@@ -691,6 +761,7 @@ public class TaskQueue {
      */
     public void resume() {
         taskQueueStatus.setPaused(false);
+        wakeScheduler();
         updateProfileStatus("RESUMING");
         logInfo("TaskQueue resumed");
     }
@@ -732,6 +803,8 @@ public class TaskQueue {
             logInfoWithTask(prototype, "Enqueued new immediate " + taskEnum);
         }
 
+        wakeScheduler();
+
         // Update task state
         DTOTaskState taskState = new DTOTaskState();
         taskState.setProfileId(profile.getId());
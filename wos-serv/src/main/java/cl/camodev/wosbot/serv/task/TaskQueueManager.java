@@ -11,6 +11,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import cl.camodev.wosbot.console.enumerable.EnumConfigurationKey;
 import cl.camodev.wosbot.console.enumerable.EnumTpMessageSeverity;
 import cl.camodev.wosbot.console.enumerable.TpDailyTaskEnum;
+import cl.camodev.wosbot.emulator.EmulatorManager;
 import cl.camodev.wosbot.ot.DTOProfiles;
 import cl.camodev.wosbot.ot.DTOQueueProfileState;
 import cl.camodev.wosbot.ot.DTOTaskState;
@@ -29,6 +30,7 @@ public class TaskQueueManager {
                 if (!taskQueues.containsKey(profile.getId())) {
                         taskQueues.put(profile.getId(), new TaskQueue(profile));
                         queuePausedStates.put(profile.getId(), Boolean.FALSE);
+                        EmulatorManager.getInstance().registerProfile(profile);
                 }
         }
 
@@ -109,6 +111,7 @@ public class TaskQueueManager {
                 });
                 taskQueues.clear();
                 queuePausedStates.clear();
+                EmulatorManager.getInstance().clearProfiles();
         }
 
         public void pauseQueues() {
@@ -9,11 +9,15 @@ import cl.camodev.wosbot.logging.ProfileLogger;
 import cl.camodev.wosbot.ot.DTOImageSearchResult;
 import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOProfiles;
+import cl.camodev.wosbot.ot.DTOTemplateMatch;
 import cl.camodev.wosbot.serv.impl.ServLogs;
 import cl.camodev.wosbot.serv.task.EnumStartLocation;
 import cl.camodev.wosbot.serv.task.constants.ButtonConstants;
 import cl.camodev.wosbot.serv.task.constants.SearchConfigConstants;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Helper class for game navigation operations.
  * 
@@ -313,31 +317,23 @@ public class NavigationHelper {
      * @return The current screen state
      */
     private ScreenState detectCurrentScreen() {
-        DTOImageSearchResult home = templateSearchHelper.searchTemplate(
-                EnumTemplates.GAME_HOME_FURNACE,
-                SearchConfigConstants.DEFAULT_SINGLE);
-
-        DTOImageSearchResult world = templateSearchHelper.searchTemplate(
-                EnumTemplates.GAME_HOME_WORLD,
+        // One screenshot for all three markers, ordered by precedence
+        Optional<DTOTemplateMatch> match = templateSearchHelper.searchAny(
+                List.of(EnumTemplates.GAME_HOME_RECONNECT,
+                        EnumTemplates.GAME_HOME_FURNACE,
+                        EnumTemplates.GAME_HOME_WORLD),
                 SearchConfigConstants.DEFAULT_SINGLE);
 
-        DTOImageSearchResult reconnect = templateSearchHelper.searchTemplate(
-                EnumTemplates.GAME_HOME_RECONNECT,
-                SearchConfigConstants.DEFAULT_SINGLE);
-
-        if (reconnect.isFound()) {
-            return ScreenState.RECONNECT;
-        }
-
-        if (home.isFound()) {
-            return ScreenState.HOME;
+        if (match.isEmpty()) {
+            return ScreenState.UNKNOWN;
         }
 
-        if (world.isFound()) {
-            return ScreenState.WORLD;
-        }
-
-        return ScreenState.UNKNOWN;
+        return switch (match.get().template()) {
+            case GAME_HOME_RECONNECT -> ScreenState.RECONNECT;
+            case GAME_HOME_FURNACE -> ScreenState.HOME;
+            case GAME_HOME_WORLD -> ScreenState.WORLD;
+            default -> ScreenState.UNKNOWN;
+        };
     }
 
     /**
@@ -8,8 +8,11 @@ import cl.camodev.wosbot.ot.DTOArea;
 import cl.camodev.wosbot.ot.DTOImageSearchResult;
 import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOProfiles;
+import cl.camodev.wosbot.ot.DTOTemplateMatch;
 import cl.camodev.wosbot.serv.impl.ServLogs;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Helper class for template searching operations.
@@ -18,6 +21,7 @@ import java.util.List;
  * Provides template search functionality including:
  * <ul>
  * <li>Single and multiple template matching</li>
+ * <li>Batch matching of several templates on one screenshot</li>
  * <li>Grayscale and color template matching</li>
  * <li>Configurable retry logic with delays</li>
  * <li>Search area specification</li>
@@ -199,6 +203,95 @@ public class TemplateSearchHelper {
         return results;
     }
 
+    /**
+     * Searches for several templates on the same screenshot.
+     * Each attempt captures one frame and matches every template against it.
+     * Returns immediately once at least one template is found.
+     * 
+     * @param templates The templates to search for
+     * @param config    The search configuration (maxAttempts, delay, threshold,
+     *                  area, coordinates)
+     * @return The results of the last attempt, keyed by template in list order
+     */
+    public Map<EnumTemplates, DTOImageSearchResult> searchAll(List<EnumTemplates> templates, SearchConfig config) {
+        return searchBatch(templates, config, false);
+    }
+
+    /**
+     * Grayscale version of {@link #searchAll(List, SearchConfig)}.
+     * 
+     * @param templates The templates to search for
+     * @param config    The search configuration (maxAttempts, delay, threshold,
+     *                  area, coordinates)
+     * @return The results of the last attempt, keyed by template in list order
+     */
+    public Map<EnumTemplates, DTOImageSearchResult> searchAllGrayscale(List<EnumTemplates> templates,
+            SearchConfig config) {
+        return searchBatch(templates, config, true);
+    }
+
+    /**
+     * Searches for several templates on the same screenshot and returns the first
+     * one found, following the order of the given list.
+     * 
+     * @param templates The templates to search for, in priority order
+     * @param config    The search configuration (maxAttempts, delay, threshold,
+     *                  area, coordinates)
+     * @return The first template found and its result, or empty if none was found
+     */
+    public Optional<DTOTemplateMatch> searchAny(List<EnumTemplates> templates, SearchConfig config) {
+        return firstFound(searchAll(templates, config));
+    }
+
+    /**
+     * Grayscale version of {@link #searchAny(List, SearchConfig)}.
+     * 
+     * @param templates The templates to search for, in priority order
+     * @param config    The search configuration (maxAttempts, delay, threshold,
+     *                  area, coordinates)
+     * @return The first template found and its result, or empty if none was found
+     */
+    public Optional<DTOTemplateMatch> searchAnyGrayscale(List<EnumTemplates> templates, SearchConfig config) {
+        return firstFound(searchAllGrayscale(templates, config));
+    }
+
+    private Map<EnumTemplates, DTOImageSearchResult> searchBatch(List<EnumTemplates> templates, SearchConfig config,
+            boolean grayscale) {
+        Map<EnumTemplates, DTOImageSearchResult> results = Map.of();
+        int attempts = 0;
+
+        while (attempts < config.getMaxAttempts()) {
+            attempts++;
+
+            results = executeBatchSearch(emulatorNumber, templates, config, grayscale);
+
+            // If any template found, return immediately
+            Optional<EnumTemplates> found = results.entrySet().stream()
+                    .filter(entry -> entry.getValue().isFound())
+                    .map(Map.Entry::getKey)
+                    .findFirst();
+            if (found.isPresent()) {
+                logDebug("Batch search found " + found.get().name() + " at attempt " + attempts);
+                return results;
+            }
+
+            // If not the last attempt, wait for the delay
+            if (attempts < config.getMaxAttempts()) {
+                sleep(config.getDelayBetweenAttempts());
+            }
+        }
+
+        logDebug("Batch search of " + templates.size() + " templates found nothing after " + attempts + " attempts");
+        return results;
+    }
+
+    private Optional<DTOTemplateMatch> firstFound(Map<EnumTemplates, DTOImageSearchResult> results) {
+        return results.entrySet().stream()
+                .filter(entry -> entry.getValue().isFound())
+                .map(entry -> new DTOTemplateMatch(entry.getKey(), entry.getValue()))
+                .findFirst();
+    }
+
     /**
      * Executes a single template search based on the provided configuration.
      * Supports searching within a specified area, between custom coordinates, or on
@@ -319,6 +412,33 @@ public class TemplateSearchHelper {
         return results;
     }
 
+    /**
+     * Executes a batch template search based on the provided configuration.
+     * Supports searching within a specified area, between custom coordinates, or on
+     * the entire screen.
+     * 
+     * @param emulatorNumber The emulator identifier
+     * @param templates      The templates to search for
+     * @param config         The search configuration
+     * @param grayscale      Whether to match in grayscale
+     * @return The results keyed by template in list order
+     */
+    private Map<EnumTemplates, DTOImageSearchResult> executeBatchSearch(String emulatorNumber,
+            List<EnumTemplates> templates, SearchConfig config, boolean grayscale) {
+
+        if (config.hasArea() || config.hasCoordinates()) {
+            DTOArea area = config.hasArea() ? config.getArea()
+                    : new DTOArea(config.getStartPoint(), config.getEndPoint());
+            return grayscale
+                    ? emuManager.searchAllGrayscale(emulatorNumber, templates, area, config.getThreshold())
+                    : emuManager.searchAll(emulatorNumber, templates, area, config.getThreshold());
+        }
+
+        return grayscale
+                ? emuManager.searchAllGrayscale(emulatorNumber, templates, config.getThreshold())
+                : emuManager.searchAll(emulatorNumber, templates, config.getThreshold());
+    }
+
     /**
      * Sleeps for the specified duration.
      * If interrupted, restores the interrupt status.
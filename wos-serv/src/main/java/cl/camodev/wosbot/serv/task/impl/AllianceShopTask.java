@@ -12,7 +12,9 @@ import cl.camodev.wosbot.serv.task.DelayedTask;
 import cl.camodev.wosbot.serv.task.helper.TemplateSearchHelper.SearchConfig;
 
 import java.awt.*;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import static cl.camodev.wosbot.console.enumerable.EnumTemplates.*;
@@ -551,7 +553,7 @@ public class AllianceShopTask extends DelayedTask {
         }
 
         int itemPrice = priceValidation.getPrice();
-        int quantity = calculatePurchaseQuantity(cardIndex, shopItem, itemPrice);
+        int quantity = calculatePurchaseQuantity(itemPrice, priceValidation.getAvailableQuantity());
 
         if (quantity <= 0) {
             logInfo("Cannot afford any more of item: " + shopItem.getDisplayName());
@@ -658,7 +660,7 @@ public class AllianceShopTask extends DelayedTask {
      * <p>
      * <b>Validation Steps:</b>
      * <ol>
-     * <li>Read item price via OCR</li>
+     * <li>Read item price and available quantity via OCR</li>
      * <li>Compare against base price to calculate discount</li>
      * <li>Check if discount meets minimum threshold (with tolerance)</li>
      * </ol>
@@ -675,7 +677,8 @@ public class AllianceShopTask extends DelayedTask {
      * @return PriceValidationResult with validation outcome and price
      */
     private PriceValidationResult validateItemPrice(int cardIndex, AllianceShopItem shopItem) {
-        Integer itemPrice = readItemPrice(cardIndex, shopItem);
+        CardReading reading = readCardValues(cardIndex, shopItem);
+        Integer itemPrice = reading.price();
 
         if (itemPrice == null) {
             return new PriceValidationResult(PurchaseOutcome.ERROR, 0, 0);
@@ -685,7 +688,7 @@ public class AllianceShopTask extends DelayedTask {
             return new PriceValidationResult(PurchaseOutcome.INSUFFICIENT_DISCOUNT, itemPrice, 0);
         }
 
-        Integer availableQty = readAvailableQuantity(cardIndex, shopItem);
+        Integer availableQty = reading.availableQuantity();
         if (availableQty == null) {
             availableQty = DEFAULT_QUANTITY;
         }
@@ -694,31 +697,48 @@ public class AllianceShopTask extends DelayedTask {
     }
 
     /**
-     * Reads the item price from the specified card using OCR.
+     * Reads the item price and the available quantity from the specified card.
+     * 
+     * <p>
+     * Both regions are read from the same screenshot on every OCR attempt.
      * 
      * @param cardIndex the card position (1-9)
      * @param shopItem  the item being read
-     * @return price as Integer, or null if OCR fails
+     * @return the price and available quantity, each null if OCR fails
      */
-    private Integer readItemPrice(int cardIndex, AllianceShopItem shopItem) {
+    private CardReading readCardValues(int cardIndex, AllianceShopItem shopItem) {
         DTOArea priceArea = getPriceArea(cardIndex);
+        DTOArea quantityArea = getQuantityArea(cardIndex);
 
-        Integer itemPrice = integerHelper.execute(
-                priceArea.topLeft(),
-                priceArea.bottomRight(),
+        Map<DTOArea, DTOTesseractSettings> regions = new LinkedHashMap<>();
+        regions.put(priceArea, DTOTesseractSettings.builder()
+                .setAllowedChars("0123456789")
+                .build());
+        regions.put(quantityArea, DTOTesseractSettings.builder()
+                .setAllowedChars("0123456789")
+                .setTextColor(Color.white)
+                .setRemoveBackground(true)
+                .build());
+
+        Map<DTOArea, Integer> values = integerHelper.executeAll(
+                regions,
                 RETRIES_OCR,
-                1000L, // 1000ms delay for price reading
-                DTOTesseractSettings.builder()
-                        .setAllowedChars("0123456789")
-                        .build(),
+                1000L, // 1000ms delay between card readings
                 text -> NumberValidators.matchesPattern(text, Pattern.compile(".*?(\\d+).*")),
                 text -> NumberConverters.regexToInt(text, Pattern.compile(".*?(\\d+).*")));
 
+        Integer itemPrice = values.get(priceArea);
         if (itemPrice == null) {
             logWarning("Could not read price for item: " + shopItem.getDisplayName());
         }
 
-        return itemPrice;
+        Integer availableQuantity = values.get(quantityArea);
+        if (availableQuantity == null) {
+            logWarning("Could not read available quantity for item: " +
+                    shopItem.getDisplayName() + ". Assuming quantity of " + DEFAULT_QUANTITY + ".");
+        }
+
+        return new CardReading(itemPrice, availableQuantity);
     }
 
     /**
@@ -765,41 +785,6 @@ public class AllianceShopTask extends DelayedTask {
         return true;
     }
 
-    /**
-     * Reads the available quantity for an item using OCR.
-     * 
-     * <p>
-     * The quantity is displayed in white text over the item icon.
-     * If OCR fails, returns null (caller should use {@link #DEFAULT_QUANTITY}).
-     * 
-     * @param cardIndex the card position (1-9)
-     * @param shopItem  the item being read
-     * @return available quantity as Integer, or null if OCR fails
-     */
-    private Integer readAvailableQuantity(int cardIndex, AllianceShopItem shopItem) {
-        DTOArea quantityArea = getQuantityArea(cardIndex);
-
-        Integer availableQuantity = integerHelper.execute(
-                quantityArea.topLeft(),
-                quantityArea.bottomRight(),
-                RETRIES_OCR,
-                1000L, // 1000ms delay for quantity reading
-                DTOTesseractSettings.builder()
-                        .setAllowedChars("0123456789")
-                        .setTextColor(Color.white)
-                        .setRemoveBackground(true)
-                        .build(),
-                text -> NumberValidators.matchesPattern(text, Pattern.compile(".*?(\\d+).*")),
-                text -> NumberConverters.regexToInt(text, Pattern.compile(".*?(\\d+).*")));
-
-        if (availableQuantity == null) {
-            logWarning("Could not read available quantity for item: " +
-                    shopItem.getDisplayName() + ". Assuming quantity of " + DEFAULT_QUANTITY + ".");
-        }
-
-        return availableQuantity;
-    }
-
     /**
      * Calculates the maximum quantity that can be purchased.
      * 
@@ -818,19 +803,11 @@ public class AllianceShopTask extends DelayedTask {
      * <li>Don't exceed available stock</li>
      * </ul>
      * 
-     * @param cardIndex the card position (1-9) - not used currently but kept for
-     *                  future enhancements
-     * @param shopItem  the item being purchased - not used currently but kept for
-     *                  future enhancements
-     * @param itemPrice the price per item
+     * @param itemPrice         the price per item
+     * @param availableQuantity the stock read from the card
      * @return maximum quantity that can be purchased (0 if can't afford any)
      */
-    private int calculatePurchaseQuantity(int cardIndex, AllianceShopItem shopItem, int itemPrice) {
-        Integer availableQuantity = readAvailableQuantity(cardIndex, shopItem);
-        if (availableQuantity == null) {
-            availableQuantity = DEFAULT_QUANTITY;
-        }
-
+    private int calculatePurchaseQuantity(int itemPrice, int availableQuantity) {
         return computeBuyQty(currentCoins, minCoins, itemPrice, availableQuantity);
     }
 
@@ -1291,6 +1268,15 @@ public class AllianceShopTask extends DelayedTask {
         ERROR
     }
 
+    /**
+     * Values read from a shop card.
+     * 
+     * @param price             the item price, or null if not read
+     * @param availableQuantity the available quantity, or null if not read
+     */
+    private record CardReading(Integer price, Integer availableQuantity) {
+    }
+
     /**
      * Represents the result of price validation.
      * 
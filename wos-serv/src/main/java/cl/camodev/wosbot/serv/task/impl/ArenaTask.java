@@ -4,11 +4,15 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import cl.camodev.utiles.UtilTime;
 import cl.camodev.wosbot.console.enumerable.EnumConfigurationKey;
 import cl.camodev.wosbot.console.enumerable.EnumTemplates;
 import cl.camodev.wosbot.console.enumerable.TpDailyTaskEnum;
+import cl.camodev.wosbot.ot.DTOArea;
 import cl.camodev.wosbot.ot.DTOImageSearchResult;
 import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOProfiles;
@@ -606,6 +610,7 @@ public class ArenaTask extends DelayedTask {
         int baseY = firstRun ? OPPONENT_BASE_Y_FIRST_RUN : OPPONENT_BASE_Y_NORMAL;
         boolean allSameState = true;
         int startIndex = currentOpponentPosition;
+        int[] opponentStates = playerState != 0 && !firstRun ? readOpponentStates() : new int[MAX_OPPONENTS];
 
         for (int i = 0; i < MAX_OPPONENTS; i++) {
             if (attempts <= 0) {
@@ -615,12 +620,11 @@ public class ArenaTask extends DelayedTask {
             int opponentIndex = (startIndex + i) % MAX_OPPONENTS;
 
             int opponentY = baseY + (opponentIndex * OPPONENT_Y_SPACING);
-            int opponentStateY = OPPONENT_STATE_TOP_LEFT.getY() + (opponentIndex * OPPONENT_Y_SPACING);
 
             // If player state is 0 (unconfigured), skip state verification
             if (playerState != 0) {
                 // Check opponent's state
-                int opponentState = firstRun ? 0 : getOpponentState(opponentStateY);
+                int opponentState = opponentStates[opponentIndex];
                 logInfo(String.format("Opponent %d state: %d (our state: %d)", opponentIndex + 1, opponentState,
                         playerState));
                 sleepTask(300);
@@ -739,20 +743,20 @@ public class ArenaTask extends DelayedTask {
     private boolean challengeNextOpponent() {
         int baseY = firstRun ? OPPONENT_BASE_Y_FIRST_RUN : OPPONENT_BASE_Y_NORMAL;
         int checkedOpponents = 0; // Track how many opponents we've checked
+        int[] opponentStates = playerState != 0 && !firstRun ? readOpponentStates() : new int[MAX_OPPONENTS];
 
         logInfo(String.format("Cycling mode: starting from opponent %d", currentOpponentPosition + 1));
 
         // Try up to MAX_OPPONENTS times to find a suitable opponent
         while (checkedOpponents < MAX_OPPONENTS) {
             int opponentY = baseY + (currentOpponentPosition * OPPONENT_Y_SPACING);
-            int opponentStateY = OPPONENT_STATE_TOP_LEFT.getY() + (currentOpponentPosition * OPPONENT_Y_SPACING);
 
             // Check if this opponent is from a different state (or skip check if
             // playerState is 0)
             boolean shouldChallenge = false;
 
             if (playerState != 0) {
-                int opponentState = firstRun ? 0 : getOpponentState(opponentStateY);
+                int opponentState = opponentStates[currentOpponentPosition];
                 logInfo(String.format("Opponent %d state: %d (our state: %d)",
                         currentOpponentPosition + 1, opponentState, playerState));
                 sleepTask(300);
@@ -882,36 +886,40 @@ public class ArenaTask extends DelayedTask {
     }
 
     /**
-     * Reads the state number of a specific opponent.
-     * Adjusts reading coordinates based on the opponent's position in the list.
+     * Reads the state number of every opponent in the list from a single
+     * screenshot.
      * 
-     * @param opponentY the Y-coordinate of the opponent's row
-     * @return the opponent's state number, or 0 if reading fails
+     * @return the state number of each opponent by list position, or 0 for
+     *         opponents whose state could not be read
      */
-    private int getOpponentState(int opponentY) {
+    private int[] readOpponentStates() {
         DTOTesseractSettings settings = DTOTesseractSettings.builder()
                 .setTextColor(Color.white)
                 .setRemoveBackground(true)
                 .setAllowedChars("0123456789")
                 .build();
 
-        // Calculate state coordinates relative to opponent's position
-        DTOPoint stateTopLeft = new DTOPoint(
-                OPPONENT_STATE_TOP_LEFT.getX(),
-                opponentY);
-
-        DTOPoint stateBottomRight = new DTOPoint(
-                OPPONENT_STATE_BOTTOM_RIGHT.getX(),
-                opponentY + 35); // Height of state region
+        // State regions follow the opponent rows
+        List<DTOArea> stateAreas = new ArrayList<>();
+        for (int i = 0; i < MAX_OPPONENTS; i++) {
+            int stateY = OPPONENT_STATE_TOP_LEFT.getY() + (i * OPPONENT_Y_SPACING);
+            stateAreas.add(new DTOArea(
+                    new DTOPoint(OPPONENT_STATE_TOP_LEFT.getX(), stateY),
+                    new DTOPoint(OPPONENT_STATE_BOTTOM_RIGHT.getX(), stateY + 35))); // Height of state region
+        }
 
-        Integer opponentState = readNumberValue(stateTopLeft, stateBottomRight, settings);
+        Map<DTOArea, Integer> statesByArea = readNumberValues(stateAreas, settings);
 
-        if (opponentState == null) {
-            logError("Failed to read opponent state via OCR");
-            return 0;
+        int[] opponentStates = new int[MAX_OPPONENTS];
+        for (int i = 0; i < MAX_OPPONENTS; i++) {
+            Integer opponentState = statesByArea.get(stateAreas.get(i));
+            if (opponentState == null) {
+                logError("Failed to read state of opponent " + (i + 1) + " via OCR");
+            } else {
+                opponentStates[i] = opponentState;
+            }
         }
-
-        return opponentState;
+        return opponentStates;
     }
 
     /**
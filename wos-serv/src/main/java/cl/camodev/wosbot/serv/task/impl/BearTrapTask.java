@@ -756,7 +756,7 @@ public class BearTrapTask extends DelayedTask {
      * @return number of free march slots, or default fallback value
      */
     private int checkFreeMarches() {
-        emuManager.captureScreenshotViaADB(EMULATOR_NUMBER);
+        emuManager.captureScreenshotViaADB(EMULATOR_NUMBER).release();
 
         Integer used = integerHelper.execute(
                 FREE_MARCHES_OCR_TL,
@@ -11,17 +11,16 @@ import cl.camodev.utiles.UtilTime;
 import cl.camodev.utiles.ocr.TextRecognitionRetrier;
 import cl.camodev.utiles.time.TimeConverters;
 import cl.camodev.utiles.time.TimeValidators;
-import cl.camodev.wosbot.almac.entity.DailyTask;
-import cl.camodev.wosbot.almac.repo.DailyTaskRepository;
-import cl.camodev.wosbot.almac.repo.IDailyTaskRepository;
 import cl.camodev.wosbot.console.enumerable.EnumConfigurationKey;
 import cl.camodev.wosbot.console.enumerable.EnumTemplates;
 import cl.camodev.wosbot.console.enumerable.TpDailyTaskEnum;
+import cl.camodev.wosbot.ot.DTODailyTaskStatus;
 import cl.camodev.wosbot.ot.DTOImageSearchResult;
 import cl.camodev.wosbot.ot.DTOArea;
 import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOProfiles;
 import cl.camodev.wosbot.ot.DTOTesseractSettings;
+import cl.camodev.wosbot.serv.impl.ServScheduler;
 import cl.camodev.wosbot.serv.task.DelayedTask;
 import cl.camodev.wosbot.serv.task.EnumStartLocation;
 import cl.camodev.wosbot.serv.task.helper.TemplateSearchHelper.SearchConfig;
@@ -107,7 +106,6 @@ public class GatherTask extends DelayedTask {
     private static final int GATHER_SPEED_WAIT_BUFFER_MINUTES = 5;
     private static final int LEVEL_BUTTON_TAP_DELAY = 150;
     private static final int HERO_REMOVAL_DELAY = 300;
-    private final IDailyTaskRepository dailyTaskRepository = DailyTaskRepository.getRepository();
 
     // ========== Configuration (loaded in loadConfiguration()) ==========
     private int activeMarchQueues;
@@ -273,7 +271,7 @@ public class GatherTask extends DelayedTask {
      */
     private boolean isIntelAboutToRun() {
         try {
-            DailyTask intel = dailyTaskRepository.findByProfileIdAndTaskName(
+            DTODailyTaskStatus intel = ServScheduler.getServices().getDailyTaskStatus(
                     profile.getId(), TpDailyTaskEnum.INTEL);
 
             if (intel == null) {
@@ -303,7 +301,7 @@ public class GatherTask extends DelayedTask {
      */
     private boolean isGatherSpeedTaskReady() {
         try {
-            DailyTask gatherSpeedTask = dailyTaskRepository.findByProfileIdAndTaskName(
+            DTODailyTaskStatus gatherSpeedTask = ServScheduler.getServices().getDailyTaskStatus(
                     profile.getId(), TpDailyTaskEnum.GATHER_BOOST);
 
             if (gatherSpeedTask == null) {
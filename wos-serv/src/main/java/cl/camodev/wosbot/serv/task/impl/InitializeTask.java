@@ -55,6 +55,11 @@ public class InitializeTask extends DelayedTask {
 	// ========== Home Screen Detection Constants ==========
 	private static final int MAX_HOME_SCREEN_ATTEMPTS = 10;
 
+	// ========== Emulator Start Constants ==========
+	private static final long EMULATOR_START_TIMEOUT_MS = 120000;
+	private static final long EMULATOR_ONLINE_TIMEOUT_MS = 10000;
+	private static final long EMULATOR_POLL_INTERVAL_MS = 2000;
+
 	// ========== Instance State ==========
 	/**
 	 * Tracks whether the emulator has been successfully started.
@@ -114,7 +119,8 @@ public class InitializeTask extends DelayedTask {
 	 * 
 	 * <p>
 	 * This method loops until the emulator is confirmed running.
-	 * If not running, it attempts to launch and waits before checking again.
+	 * If not running, it launches it once and keeps checking until it reports
+	 * running or the start timeout expires, and only then launches it again.
 	 * 
 	 * <p>
 	 * The {@code isStarted} flag prevents redundant checks on subsequent
@@ -130,8 +136,41 @@ public class InitializeTask extends DelayedTask {
 			} else {
 				logInfo("Emulator not found. Attempting to start it...");
 				emuManager.launchEmulator(EMULATOR_NUMBER);
-				logInfo("Waiting 10 seconds before checking again.");
-				sleepTask(10000); // Wait for emulator to start
+				logInfo("Waiting up to " + EMULATOR_START_TIMEOUT_MS / 1000 + " seconds for the emulator to start.");
+				if (awaitEmulatorStarted()) {
+					isStarted = true;
+					logInfo("Emulator is running.");
+				} else {
+					logInfo("Emulator did not start in time. Launching it again.");
+				}
+			}
+		}
+	}
+
+	/**
+	 * Waits for a launched emulator to report running.
+	 * 
+	 * <p>
+	 * The device may come online before the emulator reports running (MuMu
+	 * waits for its start to finish), so the running status is polled at a
+	 * fixed interval until the start timeout expires.
+	 * 
+	 * @return true if the emulator reported running before the timeout
+	 */
+	private boolean awaitEmulatorStarted() {
+		long deadline = System.currentTimeMillis() + EMULATOR_START_TIMEOUT_MS;
+		while (true) {
+			if (emuManager.isRunning(EMULATOR_NUMBER)) {
+				return true;
+			}
+			long remaining = deadline - System.currentTimeMillis();
+			if (remaining <= 0) {
+				return false;
+			}
+			if (emuManager.awaitDeviceOnline(EMULATOR_NUMBER, Math.min(remaining, EMULATOR_ONLINE_TIMEOUT_MS))) {
+				sleepTask(Math.min(remaining, EMULATOR_POLL_INTERVAL_MS));
+			} else if (Thread.currentThread().isInterrupted()) {
+				throw new RuntimeException("Task was interrupted while waiting for the emulator");
 			}
 		}
 	}
@@ -4,6 +4,7 @@ import java.awt.Color;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -12,17 +13,17 @@ import cl.camodev.utiles.UtilTime;
 import cl.camodev.utiles.ocr.TextRecognitionRetrier;
 import cl.camodev.utiles.time.TimeConverters;
 import cl.camodev.utiles.time.TimeValidators;
-import cl.camodev.wosbot.almac.entity.DailyTask;
-import cl.camodev.wosbot.almac.repo.DailyTaskRepository;
-import cl.camodev.wosbot.almac.repo.IDailyTaskRepository;
 import cl.camodev.wosbot.console.enumerable.EnumConfigurationKey;
 import cl.camodev.wosbot.console.enumerable.EnumTemplates;
 import cl.camodev.wosbot.console.enumerable.TpDailyTaskEnum;
+import cl.camodev.wosbot.ot.DTODailyTaskStatus;
 import cl.camodev.wosbot.ot.DTOImageSearchResult;
 import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOProfiles;
 import cl.camodev.wosbot.ot.DTOTaskState;
+import cl.camodev.wosbot.ot.DTOTemplateMatch;
 import cl.camodev.wosbot.ot.DTOTesseractSettings;
+import cl.camodev.wosbot.serv.impl.ServScheduler;
 import cl.camodev.wosbot.serv.impl.ServTaskManager;
 import cl.camodev.wosbot.serv.impl.StaminaService;
 import cl.camodev.wosbot.serv.task.DelayedTask;
@@ -39,8 +40,6 @@ public class IntelligenceTask extends DelayedTask {
 	private static final int SURVIVOR_STAMINA_COST = 12;
 	private static final int JOURNEY_STAMINA_COST = 10;
 
-	private final IDailyTaskRepository iDailyTaskRepository = DailyTaskRepository.getRepository();
-
 	// Runtime state (reset each execution)
 	private boolean marchQueueLimitReached;
 	private boolean beastMarchSent;
@@ -278,25 +277,20 @@ public class IntelligenceTask extends DelayedTask {
 		// Search for regular beasts
 		if (!(useFlag && beastMarchSent)) {
 			logInfo("Searching for beasts using grayscale matching.");
-			EnumTemplates[] beast_screenings;
+			List<EnumTemplates> beastScreenings;
 			if (fcEra) {
 				// In FC era prefer the old FC template, then fallback to new FC 
-				beast_screenings = new EnumTemplates[] {
+				beastScreenings = List.of(
 						EnumTemplates.INTEL_BEAST_GRAYSCALE_FC,
-						EnumTemplates.INTEL_BEAST_GRAYSCALE_FC1,
-				};
+						EnumTemplates.INTEL_BEAST_GRAYSCALE_FC1);
 			} else {
 				// Non-FC default
-				beast_screenings = new EnumTemplates[] {
-						EnumTemplates.INTEL_BEAST_GRAYSCALE
-				};
+				beastScreenings = List.of(EnumTemplates.INTEL_BEAST_GRAYSCALE);
 			}
 
-			for (EnumTemplates beast_screening : beast_screenings) {
-				if (searchAndProcessGrayscale(beast_screening, this::processBeast)) {
-					beastFound = true;
-					break;
-				}
+			// All variants are matched against the same screenshot
+			if (searchAndProcessGrayscale(beastScreenings, this::processBeast)) {
+				beastFound = true;
 			}
 		}
 
@@ -420,6 +414,23 @@ public class IntelligenceTask extends DelayedTask {
 		return false;
 	}
 
+	/**
+	 * Search for several grayscale templates on one screenshot and process the
+	 * first one found, following the order of the list
+	 */
+	private boolean searchAndProcessGrayscale(List<EnumTemplates> templates, Consumer<DTOImageSearchResult> processMethod) {
+		logInfo("Searching for grayscale templates " + templates);
+		Optional<DTOTemplateMatch> match = templateSearchHelper.searchAnyGrayscale(templates, SearchConfigConstants.SINGLE_WITH_RETRIES);
+
+		if (match.isPresent()) {
+			logInfo("Grayscale template found: " + match.get().template());
+			processMethod.accept(match.get().result());
+			return true;
+		}
+		logWarning("Grayscale templates not found: " + templates);
+		return false;
+	}
+
 	private void processJourney(DTOImageSearchResult result) {
 		tapPoint(result.getPoint());
 		sleepTask(2000);
@@ -644,8 +655,8 @@ public class IntelligenceTask extends DelayedTask {
 					activeMarchQueues + "/" + totalMarchesAvailable + ")");
 
 			// Find when the unified GATHER_RESOURCES task is scheduled to complete
-			DailyTask gatherTask = iDailyTaskRepository
-					.findByProfileIdAndTaskName(profile.getId(), TpDailyTaskEnum.GATHER_RESOURCES);
+			DTODailyTaskStatus gatherTask = ServScheduler.getServices()
+					.getDailyTaskStatus(profile.getId(), TpDailyTaskEnum.GATHER_RESOURCES);
 
 			if (gatherTask != null && gatherTask.getNextSchedule() != null) {
 				LocalDateTime nextSchedule = gatherTask.getNextSchedule();
@@ -2,7 +2,6 @@ package cl.camodev.wosbot.serv.task.impl;
 
 import cl.camodev.utiles.number.NumberConverters;
 import cl.camodev.utiles.number.NumberValidators;
-import cl.camodev.utiles.ocr.TextRecognitionRetrier;
 import cl.camodev.utiles.time.TimeConverters;
 import cl.camodev.utiles.time.TimeValidators;
 import cl.camodev.wosbot.console.enumerable.EnumTemplates;
@@ -116,6 +115,12 @@ public class TrainingTask extends DelayedTask {
 
     private static final DTOPoint PROMOTION_CONFIRM_POINT = new DTOPoint(523, 900);
 
+    private static final List<DTOTesseractSettings> QUEUE_OCR_SETTINGS = List.of(
+            WHITE_SETTINGS,
+            WHITE_NUMBERS,
+            ORANGE_SETTINGS,
+            GREEN_TEXT_SETTINGS);
+
     private static final int MAX_QUEUE_STATUS_RETRIES = 3;
     private static final int MAX_TEMPLATE_SEARCH_ATTEMPTS = 3;
     private static final int SOON_READY_THRESHOLD_MINUTES = 3;
@@ -140,7 +145,6 @@ public class TrainingTask extends DelayedTask {
     private boolean isPromotionTraining;
     private LocalDateTime promotionCompletionTime;
     private LocalDateTime appointmentTime;
-    private final TextRecognitionRetrier<LocalDateTime> trainingTimeHelper;
 
     // ===============================
     // CONSTRUCTOR
@@ -154,7 +158,6 @@ public class TrainingTask extends DelayedTask {
      */
     public TrainingTask(DTOProfiles profile, TpDailyTaskEnum tpTask) {
         super(profile, tpTask);
-        this.trainingTimeHelper = new TextRecognitionRetrier<>(provider);
     }
 
     // ===============================
@@ -336,20 +339,16 @@ public class TrainingTask extends DelayedTask {
      */
     private List<QueueInfo> analyzeAllQueues() {
         marchHelper.openLeftMenuCitySection(true);
-        List<QueueInfo> result = new ArrayList<>();
 
-        emuManager.captureScreenshotViaADB(EMULATOR_NUMBER);
+        emuManager.captureScreenshotViaADB(EMULATOR_NUMBER).release();
 
+        List<Integer> queueIndices = new ArrayList<>();
         for (int i = 0; i < queuesToCheck.size(); i++) {
-            DTOArea queueArea = queuesToCheck.get(i);
-            TroopType troopType = enabledTroopTypes.get(i);
-
-            logInfo("Analyzing queue for " + troopType.name());
-            QueueInfo queueInfo = analyzeQueueState(queueArea, troopType);
-            result.add(queueInfo);
+            logInfo("Analyzing queue for " + enabledTroopTypes.get(i).name());
+            queueIndices.add(i);
         }
 
-        result = retryUnknownQueues(result);
+        List<QueueInfo> result = retryUnknownQueues(analyzeQueueStates(queueIndices));
         marchHelper.closeLeftMenu();
         return result;
     }
@@ -380,7 +379,7 @@ public class TrainingTask extends DelayedTask {
             logInfo("Retry attempt " + attempt + "/" + MAX_QUEUE_STATUS_RETRIES);
 
             marchHelper.openLeftMenuCitySection(true);
-            emuManager.captureScreenshotViaADB(EMULATOR_NUMBER);
+            emuManager.captureScreenshotViaADB(EMULATOR_NUMBER).release();
 
             unknownIndices = retryUnknownQueuesOnce(initialResults, unknownIndices);
         }
@@ -418,13 +417,13 @@ public class TrainingTask extends DelayedTask {
 
         List<Integer> stillUnknown = new ArrayList<>();
 
-        for (int queueIndex : unknownIndices) {
-            TroopType troopType = enabledTroopTypes.get(queueIndex);
-            DTOArea queueArea = queuesToCheck.get(queueIndex);
+        unknownIndices.forEach(queueIndex -> logDebug("Retrying queue: " + enabledTroopTypes.get(queueIndex).name()));
+        List<QueueInfo> newInfos = analyzeQueueStates(unknownIndices);
 
-            logDebug("Retrying queue: " + troopType.name());
-
-            QueueInfo newInfo = analyzeQueueState(queueArea, troopType);
+        for (int i = 0; i < unknownIndices.size(); i++) {
+            int queueIndex = unknownIndices.get(i);
+            TroopType troopType = enabledTroopTypes.get(queueIndex);
+            QueueInfo newInfo = newInfos.get(i);
 
             if (newInfo.status() != QueueStatus.UNKNOWN) {
                 logInfo("Queue " + troopType.name() + " resolved to: " + newInfo.status());
@@ -456,77 +455,87 @@ public class TrainingTask extends DelayedTask {
     }
 
     /**
-     * Analyzes the state of a single training queue.
+     * Analyzes the state of several training queues.
      * 
      * <p>
-     * Attempts to read the queue status using multiple OCR configurations
-     * to handle different text colors and formats.
+     * Reads the queue areas with multiple OCR configurations to handle different
+     * text colors and formats. Each configuration reads every queue from a single
+     * screenshot.
+     * 
+     * @param queueIndices Indices of the queues to analyze
+     * @return QueueInfo for each queue, in the same order as the given indices
+     */
+    private List<QueueInfo> analyzeQueueStates(List<Integer> queueIndices) {
+        List<DTOArea> queueAreas = queueIndices.stream().map(queuesToCheck::get).toList();
+
+        List<Map<DTOArea, String>> readings = new ArrayList<>();
+        for (DTOTesseractSettings settings : QUEUE_OCR_SETTINGS) {
+            readings.add(stringHelper.executeAll(
+                    queueAreas,
+                    1,
+                    300L,
+                    settings,
+                    s -> !s.isEmpty(),
+                    s -> s));
+        }
+
+        List<QueueInfo> results = new ArrayList<>();
+        for (int queueIndex : queueIndices) {
+            DTOArea queueArea = queuesToCheck.get(queueIndex);
+            List<String> texts = readings.stream()
+                    .map(reading -> reading.get(queueArea))
+                    .filter(Objects::nonNull)
+                    .toList();
+            results.add(analyzeQueueState(texts, enabledTroopTypes.get(queueIndex)));
+        }
+        return results;
+    }
+
+    /**
+     * Determines the state of a single training queue from the text read with
+     * each OCR configuration.
      * 
-     * @param queueArea Screen area containing the queue status
+     * @param texts     Text read from the queue area, one per OCR configuration
      * @param troopType Type of troop for this queue
      * @return QueueInfo containing the determined status and ready time if
      *         applicable
      */
-    private QueueInfo analyzeQueueState(DTOArea queueArea, TroopType troopType) {
-        DTOTesseractSettings[] settingsToTry = {
-                WHITE_SETTINGS,
-                WHITE_NUMBERS,
-                ORANGE_SETTINGS,
-                GREEN_TEXT_SETTINGS
-        };
-
-        QueueInfo stateInfo = checkForStateKeywords(queueArea, troopType, settingsToTry);
+    private QueueInfo analyzeQueueState(List<String> texts, TroopType troopType) {
+        QueueInfo stateInfo = checkForStateKeywords(texts, troopType);
         if (stateInfo != null) {
             return stateInfo;
         }
 
-        return checkForTrainingTime(queueArea, troopType, settingsToTry);
+        return checkForTrainingTime(texts, troopType);
     }
 
     /**
-     * Checks for state keywords (IDLE, UPGRADING, COMPLETE) in the queue area.
+     * Checks for state keywords (IDLE, UPGRADING, COMPLETE) in the queue text.
      * 
-     * @param queueArea     Screen area to check
-     * @param troopType     Type of troop for logging
-     * @param settingsToTry Array of OCR settings to attempt
+     * @param texts     Text read from the queue area
+     * @param troopType Type of troop for logging
      * @return QueueInfo if a keyword is found, null otherwise
      */
-    private QueueInfo checkForStateKeywords(
-            DTOArea queueArea,
-            TroopType troopType,
-            DTOTesseractSettings[] settingsToTry) {
+    private QueueInfo checkForStateKeywords(List<String> texts, TroopType troopType) {
+        for (String text : texts) {
+            String lowerText = text.trim().toLowerCase();
+            if (lowerText.isEmpty()) {
+                continue;
+            }
 
-        for (DTOTesseractSettings settings : settingsToTry) {
-            try {
-                String text = stringHelper.execute(
-                        queueArea.topLeft(),
-                        queueArea.bottomRight(),
-                        1,
-                        300L,
-                        settings,
-                        s -> !s.isEmpty(),
-                        s -> s);
-
-                if (text != null && !text.trim().isEmpty()) {
-                    String lowerText = text.trim().toLowerCase();
-
-                    if (lowerText.contains("idle")) {
-                        logInfo(troopType + " queue is IDLE");
-                        return new QueueInfo(troopType, QueueStatus.IDLE, null);
-                    }
-
-                    if (lowerText.contains("upgrading") || lowerText.contains("upgrade")) {
-                        logInfo(troopType + " queue is UPGRADING");
-                        return new QueueInfo(troopType, QueueStatus.UPGRADING, null);
-                    }
-
-                    if (lowerText.contains("complete")) {
-                        logInfo(troopType + " queue is COMPLETE");
-                        return new QueueInfo(troopType, QueueStatus.COMPLETE, null);
-                    }
-                }
-            } catch (Exception e) {
-                logWarning("Error extracting queue state text: " + e.getMessage());
+            if (lowerText.contains("idle")) {
+                logInfo(troopType + " queue is IDLE");
+                return new QueueInfo(troopType, QueueStatus.IDLE, null);
+            }
+
+            if (lowerText.contains("upgrading") || lowerText.contains("upgrade")) {
+                logInfo(troopType + " queue is UPGRADING");
+                return new QueueInfo(troopType, QueueStatus.UPGRADING, null);
+            }
+
+            if (lowerText.contains("complete")) {
+                logInfo(troopType + " queue is COMPLETE");
+                return new QueueInfo(troopType, QueueStatus.COMPLETE, null);
             }
         }
 
@@ -534,34 +543,22 @@ public class TrainingTask extends DelayedTask {
     }
 
     /**
-     * Attempts to extract training completion time from the queue area.
+     * Attempts to extract training completion time from the queue text.
      * 
      * <p>
-     * Tries multiple OCR configurations to handle different text formats.
-     * If successful, returns TRAINING status with the completion time.
+     * If any of the texts holds a valid time, returns TRAINING status with the
+     * completion time.
      * 
-     * @param queueArea     Screen area to check
-     * @param troopType     Type of troop for logging
-     * @param settingsToTry Array of OCR settings to attempt
+     * @param texts     Text read from the queue area
+     * @param troopType Type of troop for logging
      * @return QueueInfo with TRAINING status and time, or UNKNOWN if extraction
      *         fails
      */
-    private QueueInfo checkForTrainingTime(
-            DTOArea queueArea,
-            TroopType troopType,
-            DTOTesseractSettings[] settingsToTry) {
-
-        for (DTOTesseractSettings settings : settingsToTry) {
+    private QueueInfo checkForTrainingTime(List<String> texts, TroopType troopType) {
+        for (String text : texts) {
             try {
-                LocalDateTime readyAt = trainingTimeHelper.execute(
-                        queueArea,
-                        3,
-                        10,
-                        settings,
-                        TimeValidators::isValidTime,
-                        text -> LocalDateTime.now().plus(TimeConverters.toDuration(text)));
-
-                if (readyAt != null) {
+                if (TimeValidators.isValidTime(text)) {
+                    LocalDateTime readyAt = LocalDateTime.now().plus(TimeConverters.toDuration(text));
                     logInfo(troopType + " training ready at: " + readyAt.format(DATETIME_FORMATTER));
                     return new QueueInfo(troopType, QueueStatus.TRAINING, readyAt);
                 }
@@ -1131,7 +1128,7 @@ public class TrainingTask extends DelayedTask {
         // Select highest troop level BEFORE reading training data
         selectHighestTroopLevel(troopTypeBeingTrained);
         
-        emuManager.captureScreenshotViaADB(EMULATOR_NUMBER);
+        emuManager.captureScreenshotViaADB(EMULATOR_NUMBER).release();
 
         Duration trainTime = extractMaxTrainingTime();
         Integer maxTroops = extractMaxTroopCount();
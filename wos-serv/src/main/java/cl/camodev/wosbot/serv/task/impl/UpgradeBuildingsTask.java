@@ -154,7 +154,7 @@ public class UpgradeBuildingsTask extends DelayedTask {
 
         try {
             // Capture screenshot once for all OCR operations
-            emuManager.captureScreenshotViaADB(EMULATOR_NUMBER);
+            emuManager.captureScreenshotViaADB(EMULATOR_NUMBER).release();
 
             int queueIndex = 1;
             for (DTOArea queueArea : queues) {
@@ -184,7 +184,7 @@ public class UpgradeBuildingsTask extends DelayedTask {
                         + " queue(s) with UNKNOWN status. Retrying with a new screenshot.");
 
                 // Capture a new screenshot
-                emuManager.captureScreenshotViaADB(EMULATOR_NUMBER);
+                emuManager.captureScreenshotViaADB(EMULATOR_NUMBER).release();
 
                 // Create new results list to replace the old one
                 List<UpgradeBuildingsTask.QueueAnalysisResult> updatedResults = new ArrayList<>();
@@ -0,0 +1,121 @@
+package cl.camodev.wosbot.emulator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs {@link AdbShellSession} against a fake adb whose shell answers each line after a delay
+ * and logs every line it receives. Measures the round trip of a batch over the open shell and
+ * checks that a slow shell never gets a batch twice.
+ */
+@DisabledOnOs(OS.WINDOWS)
+class AdbShellSessionLatencyTest {
+
+	private static final String TAP = "input tap 120 640";
+
+	private static final int ROUND_TRIPS = 50;
+
+	/** Generous bound so a loaded CI machine passes; a fresh adb process per command costs far more. */
+	private static final long MAX_AVERAGE_ROUND_TRIP_MS = 100;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void fastShellCompletesBatch() throws Exception {
+		Path received = dir.resolve("received.log");
+		try (AdbShellSession session = new AdbShellSession(fakeAdb(0, received).toString(), "fake-device")) {
+			session.run(List.of(TAP), 2000);
+
+			assertTrue(session.isAlive());
+			assertEquals(1, countReceived(received, TAP));
+		}
+	}
+
+	@Test
+	void singleCommandRoundTripStaysLow() throws Exception {
+		Path received = dir.resolve("received.log");
+		try (AdbShellSession session = new AdbShellSession(fakeAdb(0, received).toString(), "fake-device")) {
+			// The first batch also pays for the shell starting up
+			session.run(List.of(TAP), 2000);
+
+			long maxNanos = 0;
+			long start = System.nanoTime();
+			for (int i = 0; i < ROUND_TRIPS; i++) {
+				long batchStart = System.nanoTime();
+				session.run(List.of(TAP), 2000);
+				maxNanos = Math.max(maxNanos, System.nanoTime() - batchStart);
+			}
+			long totalNanos = System.nanoTime() - start;
+
+			double averageMs = totalNanos / 1_000_000.0 / ROUND_TRIPS;
+			System.out.printf("AdbShellSession round trip over %d batches: average %.3f ms, max %.3f ms%n",
+					ROUND_TRIPS, averageMs, maxNanos / 1_000_000.0);
+			assertTrue(averageMs < MAX_AVERAGE_ROUND_TRIP_MS,
+					"Average round trip " + averageMs + " ms exceeds " + MAX_AVERAGE_ROUND_TRIP_MS + " ms");
+			assertEquals(ROUND_TRIPS + 1, countReceived(received, TAP));
+		}
+	}
+
+	@Test
+	void slowShellTimesOutAfterSendingBatch() throws Exception {
+		Path received = dir.resolve("received.log");
+		try (AdbShellSession session = new AdbShellSession(fakeAdb(1, received).toString(), "fake-device")) {
+			IOException timeout = assertThrows(IOException.class, () -> session.run(List.of(TAP), 200));
+
+			// The batch reached the shell, so it must not be reported as safe to send again
+			assertFalse(timeout instanceof AdbShellSession.NotSentException);
+			assertFalse(session.isAlive());
+			assertEquals(1, countReceived(received, TAP));
+		}
+	}
+
+	@Test
+	void closedShellDoesNotSendBatch() throws Exception {
+		Path received = dir.resolve("received.log");
+		AdbShellSession session = new AdbShellSession(fakeAdb(0, received).toString(), "fake-device");
+		session.close();
+
+		assertThrows(AdbShellSession.NotSentException.class, () -> session.run(List.of(TAP), 2000));
+		assertEquals(0, countReceived(received, TAP));
+	}
+
+	/**
+	 * Writes a fake adb executable. Its shell logs every line it reads, waits {@code delaySeconds}
+	 * and then answers the {@code echo} marker lines. With no delay it answers using shell builtins
+	 * only, so the measured time is the session's own overhead.
+	 */
+	private Path fakeAdb(int delaySeconds, Path received) throws IOException {
+		Files.createFile(received);
+		Path adb = dir.resolve("adb");
+		String script = "#!/bin/sh\n"
+				+ "while IFS= read -r line; do\n"
+				+ "  printf '%s\\n' \"$line\" >> '" + received + "'\n"
+				+ (delaySeconds > 0 ? "  sleep " + delaySeconds + "\n" : "")
+				+ "  case \"$line\" in echo\\ *) printf '%s\\n' \"${line#echo }\" ;; esac\n"
+				+ "done\n";
+		Files.writeString(adb, script, StandardCharsets.UTF_8);
+		assertTrue(adb.toFile().setExecutable(true));
+		return adb;
+	}
+
+	private static long countReceived(Path received, String command) throws IOException, InterruptedException {
+		// Give the fake shell time to log what is already on its stdin
+		TimeUnit.MILLISECONDS.sleep(300);
+		return Files.readAllLines(received, StandardCharsets.UTF_8).stream().filter(command::equals).count();
+	}
+}
@@ -0,0 +1,128 @@
+package cl.camodev.wosbot.emulator.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs {@link MEmuEmulator} against a stub {@code memuc} script that logs every call, to check that
+ * running status checks are served from one {@code listvms} call per poll interval.
+ */
+@DisabledOnOs(OS.WINDOWS)
+class MEmuEmulatorStatusTest {
+
+	/**
+	 * MEmu emulator that does not start ADB.
+	 */
+	private static final class StubConsoleEmulator extends MEmuEmulator {
+		StubConsoleEmulator(String consolePath) {
+			super(consolePath);
+		}
+
+		@Override
+		protected void initializeBridge() {
+			// Only the console is used
+		}
+
+		List<String> listVms(long timeoutMs) throws IOException, InterruptedException {
+			return readConsoleOutput(new String[] { consolePath + File.separator + "memuc", "listvms" }, timeoutMs);
+		}
+	}
+
+	@TempDir
+	Path dir;
+
+	private StubConsoleEmulator emulator;
+
+	@AfterEach
+	void closeEmulator() {
+		if (emulator != null) {
+			emulator.close();
+		}
+	}
+
+	@Test
+	void listsInstancesWithOneConsoleCall() throws Exception {
+		emulator = new StubConsoleEmulator(stubConsole("").toString());
+
+		Map<String, Boolean> statuses = emulator.listInstanceStatuses();
+
+		assertEquals(Map.of("0", true, "1", false), statuses);
+		assertEquals(List.of("listvms"), calls());
+	}
+
+	@Test
+	void runningChecksReadPolledSnapshot() throws Exception {
+		emulator = new StubConsoleEmulator(stubConsole("").toString());
+
+		// The first check starts the poller, wait for its first snapshot
+		emulator.isRunning("0");
+		Thread.sleep(1000);
+		Files.writeString(dir.resolve("calls.log"), "");
+
+		for (int i = 0; i < 50; i++) {
+			assertTrue(emulator.isRunning("0"));
+			assertFalse(emulator.isRunning("1"));
+		}
+
+		List<String> calls = calls();
+		assertFalse(calls.contains("isvmrunning"), "instances were queried one by one: " + calls);
+		assertTrue(calls.size() <= 1, "expected at most one poll, got " + calls);
+	}
+
+	@Test
+	void hangingConsoleIsKilledAfterTimeout() throws Exception {
+		// Prints part of the list and never exits, so its output never reaches EOF
+		emulator = new StubConsoleEmulator(stubConsole("sleep 30").toString());
+
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+			assertThrows(IOException.class, () -> emulator.listVms(500));
+		});
+	}
+
+	/**
+	 * Writes a stub {@code memuc} that logs its command to {@code calls.log}. Instance 0 is
+	 * running and instance 1 is stopped; {@code listvms} runs {@code listTail} after its output.
+	 */
+	private Path stubConsole(String listTail) throws IOException {
+		Path calls = dir.resolve("calls.log");
+		Files.createFile(calls);
+		String script = "#!/bin/sh\n"
+				+ "echo \"$1\" >> '" + calls + "'\n"
+				+ "case \"$1\" in\n"
+				+ "  listvms)\n"
+				+ "    echo '0,MEmu,0x00010A,1,4120'\n"
+				+ "    echo '1,MEmu_1,0,0,0'\n"
+				+ "    " + (listTail.isEmpty() ? ":" : listTail) + "\n"
+				+ "    ;;\n"
+				+ "  isvmrunning)\n"
+				+ "    if [ \"$3\" = 0 ]; then echo 'Running'; else echo 'Not Running'; fi\n"
+				+ "    ;;\n"
+				+ "esac\n";
+		Path memuc = dir.resolve("memuc");
+		Files.writeString(memuc, script, StandardCharsets.UTF_8);
+		assertTrue(memuc.toFile().setExecutable(true));
+		return dir;
+	}
+
+	private List<String> calls() throws IOException {
+		return Files.readAllLines(dir.resolve("calls.log"), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,127 @@
+package cl.camodev.wosbot.emulator.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import cl.camodev.wosbot.emulator.Emulator;
+import cl.camodev.wosbot.ot.DTOPoint;
+import cl.camodev.wosbot.ot.DTORawImage;
+
+/**
+ * Records a run on a scripted emulator and replays it with {@link ReplayEmulator}, checking that
+ * the replay hands out the same frames for the same sequence of reads and inputs.
+ */
+class SessionReplayRoundTripTest {
+
+	private static final String EMULATOR = "0";
+	private static final DTOPoint TAP = new DTOPoint(10, 10);
+
+	/**
+	 * Emulator without ADB whose screen changes to the next frame on every tap.
+	 */
+	private static final class ScriptedEmulator extends Emulator {
+		private final byte[] screens;
+		private int screen;
+
+		ScriptedEmulator(byte... screens) {
+			super("scripted");
+			this.screens = screens;
+		}
+
+		@Override
+		protected void initializeBridge() {
+			// Frames are scripted
+		}
+
+		@Override
+		protected String getDeviceSerial(String emulatorNumber) {
+			return "scripted-" + emulatorNumber;
+		}
+
+		@Override
+		public void launchEmulator(String emulatorNumber) {
+			// Always running
+		}
+
+		@Override
+		public void closeEmulator(String emulatorNumber) {
+			// Always running
+		}
+
+		@Override
+		public boolean isRunning(String emulatorNumber) {
+			return true;
+		}
+
+		@Override
+		protected DTORawImage captureFrame(String emulatorNumber) {
+			return frame(screens[screen]);
+		}
+
+		@Override
+		protected boolean tapWithDdmlib(String emulatorNumber, DTOPoint point1, DTOPoint point2, int tapCount,
+				int delayMs) {
+			screen++;
+			recordInput(emulatorNumber, "tap " + point1.getX() + " " + point1.getY());
+			invalidateFrameCache(emulatorNumber);
+			return true;
+		}
+	}
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void replayServesRecordedFramesPerRead() {
+		ScriptedEmulator live = new ScriptedEmulator((byte) 1, (byte) 2, (byte) 3);
+		// The default cache window lets back-to-back reads share one capture, they must still count
+		live.setRecordingDirectory(dir);
+		List<Byte> recorded = run(live);
+		live.close();
+
+		ReplayEmulator replay = new ReplayEmulator(dir.toString());
+		List<Byte> replayed = run(replay);
+		replay.close();
+
+		assertEquals(List.of((byte) 1, (byte) 1, (byte) 1, (byte) 2, (byte) 2, (byte) 2, (byte) 3), recorded);
+		assertEquals(recorded, replayed);
+	}
+
+	/**
+	 * Three searches, a tap, two searches and a forced capture, a tap and a last search.
+	 */
+	private static List<Byte> run(Emulator emulator) {
+		List<Byte> seen = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			seen.add(read(emulator.getFrame(EMULATOR)));
+		}
+		emulator.tapAtRandomPoint(EMULATOR, TAP, TAP);
+		seen.add(read(emulator.getFrame(EMULATOR)));
+		seen.add(read(emulator.getFrame(EMULATOR)));
+		seen.add(read(emulator.captureScreenshot(EMULATOR)));
+		emulator.tapAtRandomPoint(EMULATOR, TAP, TAP);
+		seen.add(read(emulator.getFrame(EMULATOR)));
+		return seen;
+	}
+
+	private static byte read(DTORawImage frame) {
+		try {
+			return frame.getData()[frame.getOffset()];
+		} finally {
+			frame.release();
+		}
+	}
+
+	private static DTORawImage frame(byte value) {
+		byte[] pixels = new byte[2 * 2 * 4];
+		Arrays.fill(pixels, value);
+		return new DTORawImage(pixels, 2, 2, 32);
+	}
+}
@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.opencv.core.Core;
 import org.opencv.core.CvType;
@@ -25,19 +27,32 @@ import org.slf4j.*;
 public class ImageSearchUtil {
 	private static final Logger logger = LoggerFactory.getLogger(ImageSearchUtil.class);
 
-	// Cache thread-safe para templates precargados
+	// Decoded templates, shared read-only by every search: callers must not release them
 	private static final ConcurrentHashMap<String, Mat> templateCache = new ConcurrentHashMap<>();
 	
 	// Cache for grayscale templates
 	private static final ConcurrentHashMap<String, Mat> grayscaleTemplateCache = new ConcurrentHashMap<>();
 
+	// Cache for template masks, keyed by mask path
+	private static final ConcurrentHashMap<String, Mat> maskCache = new ConcurrentHashMap<>();
+
+	// Cached in place of resources that do not exist, so they are not looked up again
+	private static final Mat MISSING_RESOURCE = new Mat();
+
+	// Template cache statistics
+	private static final LongAdder cacheHits = new LongAdder();
+	private static final LongAdder cacheMisses = new LongAdder();
+	private static final LongAdder cachedBytes = new LongAdder();
+
 	// Custom thread pool for OpenCV operations
 	private static final ForkJoinPool openCVThreadPool = new ForkJoinPool(
 		Math.min(Runtime.getRuntime().availableProcessors(), 4)
 	);
 
-	// Cache for template byte arrays
-	private static final ConcurrentHashMap<String, byte[]> templateBytesCache = new ConcurrentHashMap<>();
+	// Per-thread scratch buffers reused by the raw frame conversions
+	private static final ThreadLocal<Mat> rawFrameBuffer = ThreadLocal.withInitial(Mat::new);
+	private static final ThreadLocal<Mat> convertedFrameBuffer = ThreadLocal.withInitial(Mat::new);
+	private static final ThreadLocal<byte[]> regionStagingBuffer = ThreadLocal.withInitial(() -> new byte[0]);
 
 	// Cache initialization status
 	private static volatile boolean cacheInitialized = false;
@@ -78,11 +93,7 @@ public class ImageSearchUtil {
 		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
 			openCVThreadPool.shutdown();
 			// Clean cache and release OpenCV memory
-			templateCache.values().forEach(Mat::release);
-			templateCache.clear();
-			grayscaleTemplateCache.values().forEach(Mat::release);
-			grayscaleTemplateCache.clear();
-			templateBytesCache.clear();
+			clearCache();
 		}));
 
 		// Preload all templates from the enum in the background
@@ -130,7 +141,7 @@ public class ImageSearchUtil {
 	 * Always receives raw image data and converts directly to OpenCV Mat.
 	 */
 	public static DTOImageSearchResult searchTemplate(DTORawImage rawImage, String templateResourcePath, DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double thresholdPercentage) {
-		DTOImageSearchResult result = searchTemplateOptimized(rawImage.getData(), rawImage.getWidth(), rawImage.getHeight(),
+		DTOImageSearchResult result = searchTemplateOptimized(rawImage.getData(), rawImage.getOffset(), rawImage.getWidth(), rawImage.getHeight(),
 				rawImage.getBpp(), templateResourcePath, topLeftCorner, bottomRightCorner, thresholdPercentage);
 		return result;
 	}
@@ -139,7 +150,7 @@ public class ImageSearchUtil {
 	 * Performs the search for multiple matches of a template within a raw image.
 	 */
 	public static List<DTOImageSearchResult> searchTemplateMultiple(DTORawImage rawImage, String templateResourcePath, DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double thresholdPercentage, int maxResults) {
-		List<DTOImageSearchResult> results = searchTemplateMultipleOptimizedRaw(rawImage.getData(), rawImage.getWidth(), rawImage.getHeight(),
+		List<DTOImageSearchResult> results = searchTemplateMultipleOptimizedRaw(rawImage.getData(), rawImage.getOffset(), rawImage.getWidth(), rawImage.getHeight(),
 				rawImage.getBpp(), templateResourcePath, topLeftCorner, bottomRightCorner, thresholdPercentage, maxResults);
 		return results;
 	}
@@ -149,7 +160,7 @@ public class ImageSearchUtil {
 	 * Both the template and the image are converted to grayscale before matching.
 	 */
 	public static DTOImageSearchResult searchTemplateGrayscale(DTORawImage rawImage, String templateResourcePath, DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double thresholdPercentage) {
-		DTOImageSearchResult result = searchTemplateGrayscaleOptimizedRaw(rawImage.getData(), rawImage.getWidth(), rawImage.getHeight(),
+		DTOImageSearchResult result = searchTemplateGrayscaleOptimizedRaw(rawImage.getData(), rawImage.getOffset(), rawImage.getWidth(), rawImage.getHeight(),
 				rawImage.getBpp(), templateResourcePath, topLeftCorner, bottomRightCorner, thresholdPercentage);
 		return result;
 	}
@@ -159,11 +170,33 @@ public class ImageSearchUtil {
 	 * Both the template and the image are converted to grayscale before matching.
 	 */
 	public static List<DTOImageSearchResult> searchTemplateGrayscaleMultiple(DTORawImage rawImage, String templateResourcePath, DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double thresholdPercentage, int maxResults) {
-		List<DTOImageSearchResult> results = searchTemplateGrayscaleMultipleOptimizedRaw(rawImage.getData(), rawImage.getWidth(), rawImage.getHeight(),
+		List<DTOImageSearchResult> results = searchTemplateGrayscaleMultipleOptimizedRaw(rawImage.getData(), rawImage.getOffset(), rawImage.getWidth(), rawImage.getHeight(),
 				rawImage.getBpp(), templateResourcePath, topLeftCorner, bottomRightCorner, thresholdPercentage, maxResults);
 		return results;
 	}
 
+	/**
+	 * Matches several templates against the same raw image.
+	 * The ROI is converted only once and the matches run in parallel on the OpenCV thread pool.
+	 *
+	 * @return One result per template, in the same order as the given paths
+	 */
+	public static List<DTOImageSearchResult> searchTemplateBatch(DTORawImage rawImage, List<String> templateResourcePaths, DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double thresholdPercentage) {
+		return searchTemplateBatchOptimizedRaw(rawImage.getData(), rawImage.getOffset(), rawImage.getWidth(), rawImage.getHeight(), rawImage.getBpp(),
+				templateResourcePaths, topLeftCorner, bottomRightCorner, thresholdPercentage, false);
+	}
+
+	/**
+	 * Grayscale version of {@link #searchTemplateBatch}.
+	 * Both the templates and the image are converted to grayscale before matching.
+	 *
+	 * @return One result per template, in the same order as the given paths
+	 */
+	public static List<DTOImageSearchResult> searchTemplateGrayscaleBatch(DTORawImage rawImage, List<String> templateResourcePaths, DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double thresholdPercentage) {
+		return searchTemplateBatchOptimizedRaw(rawImage.getData(), rawImage.getOffset(), rawImage.getWidth(), rawImage.getHeight(), rawImage.getBpp(),
+				templateResourcePaths, topLeftCorner, bottomRightCorner, thresholdPercentage, true);
+	}
+
 	/**
 	 * Search for a template using byte[] (for backward compatibility).
 	 */
@@ -197,164 +230,135 @@ public class ImageSearchUtil {
 	 */
 	public static List<DTOImageSearchResult> searchTemplateMultiple(byte[] rawImageData, int width, int height, int bpp,
 			String templateResourcePath, DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double thresholdPercentage, int maxResults) {
-		return searchTemplateMultipleOptimizedRaw(rawImageData, width, height, bpp, templateResourcePath, topLeftCorner, bottomRightCorner, thresholdPercentage, maxResults);
+		return searchTemplateMultipleOptimizedRaw(rawImageData, 0, width, height, bpp, templateResourcePath, topLeftCorner, bottomRightCorner, thresholdPercentage, maxResults);
 	}
 
 	/**
-	 * Optimized method for loading and caching templates.
+	 * Returns the cached template for the given key, decoding it with the loader on the first
+	 * request. Resources that cannot be loaded are cached as {@link #MISSING_RESOURCE}.
 	 */
-	private static Mat loadTemplateOptimized(String templateResourcePath) {
-		// Try to get from cache first
-		Mat cachedTemplate = templateCache.get(templateResourcePath);
-		if (cachedTemplate != null && !cachedTemplate.empty()) {
-			return cachedTemplate.clone(); // Return a copy for thread safety
+	private static Mat getCachedTemplate(ConcurrentHashMap<String, Mat> cache, String key, Function<String, Mat> loader) {
+		Mat cached = cache.get(key);
+		if (cached != null) {
+			cacheHits.increment();
+			return cached;
 		}
 
-		try {
-			// Load bytes from cache or resource
-			byte[] templateBytes = templateBytesCache.computeIfAbsent(templateResourcePath, path -> {
-				try (InputStream is = ImageSearchUtil.class.getResourceAsStream(path)) {
-					if (is == null) {
-						logger.error(formatLogMessage("Template resource not found: " + path));
-						return null;
-					}
-					return is.readAllBytes();
-				} catch (IOException e) {
-					logger.error(formatLogMessage("Error loading template bytes for: " + path), e);
-					return null;
-				}
-			});
-
-			if (templateBytes == null) {
-				return new Mat(); // Empty Mat
+		return cache.computeIfAbsent(key, path -> {
+			cacheMisses.increment();
+			Mat loaded = loader.apply(path);
+			if (loaded == null || loaded.empty()) {
+				return MISSING_RESOURCE;
 			}
+			cachedBytes.add(loaded.total() * loaded.elemSize());
+			return loaded;
+		});
+	}
 
-			// Decode template
-			MatOfByte templateMatOfByte = new MatOfByte(templateBytes);
-			Mat template = Imgcodecs.imdecode(templateMatOfByte, Imgcodecs.IMREAD_COLOR);
-
-			if (!template.empty()) {
-				// Save to cache (clone to avoid modifications)
-				templateCache.put(templateResourcePath, template.clone());
+	/**
+	 * Reads and decodes an image resource.
+	 *
+	 * @param resourcePath Classpath resource to decode
+	 * @param flags Imgcodecs read flags
+	 * @param required Whether a missing resource is an error
+	 * @return The decoded Mat, or null if the resource does not exist or cannot be read
+	 */
+	private static Mat decodeResource(String resourcePath, int flags, boolean required) {
+		try (InputStream is = ImageSearchUtil.class.getResourceAsStream(resourcePath)) {
+			if (is == null) {
+				if (required) {
+					logger.error(formatLogMessage("Template resource not found: " + resourcePath));
+				} else {
+					// Not all templates have masks
+					logger.debug("Resource not found: {}", resourcePath);
+				}
+				return null;
+			}
+			MatOfByte bytes = new MatOfByte(is.readAllBytes());
+			try {
+				return Imgcodecs.imdecode(bytes, flags);
+			} finally {
+				bytes.release();
 			}
-
-			return template;
-
 		} catch (Exception e) {
-			logger.error(formatLogMessage("Exception loading template: " + templateResourcePath), e);
-			return new Mat();
+			logger.error(formatLogMessage("Error loading resource: " + resourcePath), e);
+			return null;
 		}
 	}
+
+	/**
+	 * Optimized method for loading and caching templates.
+	 * The returned Mat is shared and must not be modified or released.
+	 *
+	 * @return The color template, or an empty Mat if it cannot be loaded
+	 */
+	private static Mat loadTemplateOptimized(String templateResourcePath) {
+		return getCachedTemplate(templateCache, templateResourcePath,
+				path -> decodeResource(path, Imgcodecs.IMREAD_COLOR, true));
+	}
 	
 	/**
 	 * Optimized method for loading and caching grayscale templates.
+	 * The returned Mat is shared and must not be modified or released.
+	 *
+	 * @return The grayscale template, or an empty Mat if it cannot be loaded
 	 */
 	private static Mat loadTemplateGrayscale(String templateResourcePath) {
-		// Try to get from grayscale cache first
-		Mat cachedTemplate = grayscaleTemplateCache.get(templateResourcePath);
-		if (cachedTemplate != null && !cachedTemplate.empty()) {
-			return cachedTemplate.clone(); // Return a copy for thread safety
-		}
-
-		try {
-			// Load the color template first
-			Mat colorTemplate = loadTemplateOptimized(templateResourcePath);
+		return getCachedTemplate(grayscaleTemplateCache, templateResourcePath, path -> {
+			Mat colorTemplate = loadTemplateOptimized(path);
 			if (colorTemplate.empty()) {
-				return new Mat();
+				return null;
 			}
-			
-			// Convert to grayscale
+
 			Mat grayTemplate = new Mat();
 			Imgproc.cvtColor(colorTemplate, grayTemplate, Imgproc.COLOR_BGR2GRAY);
-			
-			// Save to grayscale cache
-			if (!grayTemplate.empty()) {
-				grayscaleTemplateCache.put(templateResourcePath, grayTemplate.clone());
-			}
-			
-			// Release color template as we don't need it anymore
-			colorTemplate.release();
-			
 			return grayTemplate;
-		} catch (Exception e) {
-			logger.error(formatLogMessage("Exception loading grayscale template: " + templateResourcePath), e);
-			return new Mat();
+		});
+	}
+
+	/**
+	 * Derives the mask path for a template.
+	 * Examples:
+	 * - /path/template.png -> /path/template_mask.png
+	 * - /path/template_CH.png -> /path/template_mask.png (same mask for both)
+	 *
+	 * @param templateResourcePath The template resource path
+	 * @return The mask resource path, or null if the template format is not supported
+	 */
+	private static String getMaskPath(String templateResourcePath) {
+		if (templateResourcePath.contains("_CH.png")) {
+			// For region-specific templates, use base mask
+			return templateResourcePath.replace("_CH.png", "_mask.png");
+		} else if (templateResourcePath.endsWith(".png")) {
+			// For global templates
+			return templateResourcePath.replace(".png", "_mask.png");
 		}
+		return null;
 	}
 
 	/**
 	 * Loads a mask for the given template if it exists.
 	 * Masks follow the naming convention: path/template_mask.png
+	 * The returned Mat is shared and must not be modified or released.
 	 * 
 	 * @param templateResourcePath The template resource path
 	 * @return Mat containing the mask, or null if no mask exists
 	 */
 	private static Mat loadTemplateMask(String templateResourcePath) {
-		// Derive mask path from template path
-		// Examples:
-		// - /path/template.png -> /path/template_mask.png
-		// - /path/template_CH.png -> /path/template_mask.png (same mask for both)
-		
-		String maskPath;
-		if (templateResourcePath.contains("_CH.png")) {
-			// For region-specific templates, use base mask
-			maskPath = templateResourcePath.replace("_CH.png", "_mask.png");
-		} else if (templateResourcePath.endsWith(".png")) {
-			// For global templates
-			maskPath = templateResourcePath.replace(".png", "_mask.png");
-		} else {
+		String maskPath = getMaskPath(templateResourcePath);
+		if (maskPath == null) {
 			return null; // Unsupported format
 		}
-		
-		// Try to get from cache first
-		Mat cachedMask = templateCache.get(maskPath);
-		if (cachedMask != null && !cachedMask.empty()) {
-			return cachedMask.clone(); // Return a copy for thread safety
-		}
-		
-		try {
-			// Load bytes from cache or resource
-			byte[] maskBytes = templateBytesCache.computeIfAbsent(maskPath, path -> {
-				try (InputStream is = ImageSearchUtil.class.getResourceAsStream(path)) {
-					if (is == null) {
-						// No mask file found - this is normal, not all templates have masks
-						logger.debug("No mask found for template: {}", templateResourcePath);
-						return null;
-					}
-					logger.debug("Mask found and loaded: {}", maskPath);
-					return is.readAllBytes();
-				} catch (IOException e) {
-					logger.debug("Error loading mask for: {}", path);
-					return null;
-				}
-			});
-			
-			if (maskBytes == null) {
-				return null; // No mask available
-			}
-			
-			// Decode mask (load as grayscale)
-			MatOfByte maskMatOfByte = new MatOfByte(maskBytes);
-			Mat mask = Imgcodecs.imdecode(maskMatOfByte, Imgcodecs.IMREAD_GRAYSCALE);
-			
-			if (!mask.empty()) {
-				// Save to cache (clone to avoid modifications)
-				templateCache.put(maskPath, mask.clone());
-				return mask;
-			}
-			
-			return null;
-			
-		} catch (Exception e) {
-			logger.debug("Exception loading mask for: {}", templateResourcePath);
-			return null;
-		}
+
+		Mat mask = getCachedTemplate(maskCache, maskPath,
+				path -> decodeResource(path, Imgcodecs.IMREAD_GRAYSCALE, false));
+		return mask.empty() ? null : mask;
 	}
 
 	/**
 	 * Optimized version of the searchTemplate method with cache and better memory management.
 	 */
-    public static DTOImageSearchResult searchTemplateOptimized(byte[] rawImageData, int width, int height, int bpp,
+    public static DTOImageSearchResult searchTemplateOptimized(byte[] rawImageData, int dataOffset, int width, int height, int bpp,
                                                                String templateResourcePath, DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double thresholdPercentage) {
 
         long startTime = System.currentTimeMillis();
@@ -363,7 +367,6 @@ public class ImageSearchUtil {
             templateResourcePath, thresholdPercentage, topLeftCorner.getX(), topLeftCorner.getY(),
             bottomRightCorner.getX(), bottomRightCorner.getY());
 
-        Mat imagenPrincipal = null;
         Mat template = null;
         Mat mask = null;
         Mat imagenROI = null;
@@ -373,17 +376,6 @@ public class ImageSearchUtil {
 		String templateName = templatePaths[templatePaths.length - 1];
 
         try {
-            // Convert raw image data directly to OpenCV Mat
-            long conversionStartTime = System.currentTimeMillis();
-            imagenPrincipal = convertRawDataToMat(rawImageData, width, height, bpp);
-            long conversionEndTime = System.currentTimeMillis();
-            logger.debug("Raw data to Mat conversion: {} ms", (conversionEndTime - conversionStartTime));
-
-            if (imagenPrincipal.empty()) {
-                logger.error("Converted image is empty");
-                return new DTOImageSearchResult(false, null, 0.0);
-            }
-
             // Quick ROI validation
             int roiX = topLeftCorner.getX();
             int roiY = topLeftCorner.getY();
@@ -415,20 +407,25 @@ public class ImageSearchUtil {
             }
 
             logger.debug("Template size: {}x{}, Image size: {}x{}",
-                template.cols(), template.rows(), imagenPrincipal.cols(), imagenPrincipal.rows());
+                template.cols(), template.rows(), width, height);
 
             // ROI vs image validation
-            if (roiX + roiWidth > imagenPrincipal.cols() || roiY + roiHeight > imagenPrincipal.rows()) {
+            if (roiX < 0 || roiY < 0 || roiX + roiWidth > width || roiY + roiHeight > height) {
                 logger.error(formatLogMessage("ROI exceeds image dimensions"));
                 return new DTOImageSearchResult(false, null, 0.0);
             }
 
-            // Create ROI
-            long roiStartTime = System.currentTimeMillis();
+            // Convert only the ROI of the raw image data to an OpenCV Mat
+            long conversionStartTime = System.currentTimeMillis();
             Rect roi = new Rect(roiX, roiY, roiWidth, roiHeight);
-            imagenROI = new Mat(imagenPrincipal, roi);
-            long roiEndTime = System.currentTimeMillis();
-            logger.debug("ROI creation: {} ms", (roiEndTime - roiStartTime));
+            imagenROI = convertRawRegionToMat(rawImageData, dataOffset, width, height, bpp, roi, false);
+            long conversionEndTime = System.currentTimeMillis();
+            logger.debug("Raw ROI to Mat conversion: {} ms", (conversionEndTime - conversionStartTime));
+
+            if (imagenROI.empty()) {
+                logger.error("Converted image is empty");
+                return new DTOImageSearchResult(false, null, 0.0);
+            }
 
             // Optimized size check
             int resultCols = imagenROI.cols() - template.cols() + 1;
@@ -497,51 +494,134 @@ public class ImageSearchUtil {
             logger.error(formatLogMessage("Exception during optimized template search"), e);
             return new DTOImageSearchResult(false, null, 0.0);
         } finally {
-            // Explicit release of OpenCV memory
-            if (imagenPrincipal != null) imagenPrincipal.release();
-            if (template != null) template.release();
-            if (mask != null) mask.release();
-            if (imagenROI != null) imagenROI.release();
+            // Explicit release of OpenCV memory (the ROI is a thread-owned conversion buffer)
             if (resultado != null) resultado.release();
         }
     }
 
-    private static Mat convertRawDataToMat(byte[] rawData, int width, int height, int bpp) {
-        // Create Mat with appropriate type based on bpp
-        // RawImage from ddmlib typically uses 16 or 32 bpp
-        Mat mat;
+    /**
+     * Converts raw screencap pixels into a BGR Mat.
+     * <p>
+     * The raw buffer is copied into a 4 or 2 channel Mat with a single bulk put and
+     * the color conversion runs natively through cvtColor, instead of one JNI call
+     * per pixel. Both the source and destination Mats are per-thread buffers that
+     * are reused between calls, so the returned Mat is only valid until the next
+     * conversion on the same thread and must NOT be released by the caller.
+     *
+     * @param rawData Raw pixel data (RGBA_8888 or RGB_565, no header)
+     * @param width   Frame width
+     * @param height  Frame height
+     * @param bpp     Bits per pixel (32 or 16)
+     * @return Thread-owned BGR Mat, or an empty Mat if the data is incomplete
+     */
+    public static Mat convertRawDataToMat(byte[] rawData, int width, int height, int bpp) {
+        return convertRawDataToMat(rawData, 0, width, height, bpp);
+    }
 
-        if (bpp == 16) {
-            // RGB565 format - need to convert to BGR
-            mat = new Mat(height, width, CvType.CV_8UC3);
-            int index = 0;
-            for (int y = 0; y < height; y++) {
-                for (int x = 0; x < width; x++) {
-                    int pixel = ((rawData[index + 1] & 0xFF) << 8) | (rawData[index] & 0xFF);
-                    int r = ((pixel >> 11) & 0x1F) << 3;
-                    int g = ((pixel >> 5) & 0x3F) << 2;
-                    int b = (pixel & 0x1F) << 3;
-                    mat.put(y, x, b, g, r); // OpenCV uses BGR
-                    index += 2;
-                }
-            }
+    /**
+     * Same as {@link #convertRawDataToMat(byte[], int, int, int)} for pixels that start at
+     * {@code offset} inside {@code rawData}, e.g. a pooled screencap buffer that still holds the
+     * 12 byte header.
+     */
+    public static Mat convertRawDataToMat(byte[] rawData, int offset, int width, int height, int bpp) {
+        int bytesPerPixel = (bpp == 16) ? 2 : 4;
+        int expectedLength = width * height * bytesPerPixel;
+        Mat converted = convertedFrameBuffer.get();
+
+        if (rawData == null || width <= 0 || height <= 0 || offset < 0 || rawData.length - offset < expectedLength) {
+            logger.error(formatLogMessage("Raw image data incomplete: expected " + expectedLength + " bytes, got "
+                    + (rawData == null ? 0 : rawData.length - offset)));
+            converted.release();
+            return converted;
+        }
+
+        // Wrap the raw buffer in a single Mat (one JNI copy instead of one per pixel)
+        Mat raw = rawFrameBuffer.get();
+        raw.create(height, width, (bpp == 16) ? CvType.CV_8UC2 : CvType.CV_8UC4);
+        raw.put(0, 0, rawData, offset, expectedLength);
+
+        // RGB_565 stores red in the high bits, which OpenCV names BGR565
+        int conversionCode = (bpp == 16) ? Imgproc.COLOR_BGR5652BGR : Imgproc.COLOR_RGBA2BGR;
+        Imgproc.cvtColor(raw, converted, conversionCode);
+
+        return converted;
+    }
+
+    /**
+     * Converts only a rectangle of a raw screencap into a Mat.
+     * <p>
+     * Just the rows and bytes inside the region are copied, and the color
+     * conversion goes straight to grayscale when requested (RGBA2GRAY /
+     * BGR5652GRAY) instead of BGR followed by BGR2GRAY, so the cost is
+     * proportional to the searched area rather than to the screen size. Like
+     * {@link #convertRawDataToMat}, the returned Mat is a per-thread buffer that
+     * is only valid until the next conversion on the same thread and must NOT be
+     * released by the caller.
+     *
+     * @param rawData   Raw pixel data (RGBA_8888 or RGB_565, no header)
+     * @param width     Frame width
+     * @param height    Frame height
+     * @param bpp       Bits per pixel (32 or 16)
+     * @param region    Rectangle to convert, must lie inside the frame
+     * @param grayscale true for a single channel gray Mat, false for BGR
+     * @return Thread-owned Mat of region size, or an empty Mat if the data is incomplete
+     */
+    public static Mat convertRawRegionToMat(byte[] rawData, int width, int height, int bpp, Rect region,
+            boolean grayscale) {
+        return convertRawRegionToMat(rawData, 0, width, height, bpp, region, grayscale);
+    }
+
+    /**
+     * Same as {@link #convertRawRegionToMat(byte[], int, int, int, Rect, boolean)} for pixels that
+     * start at {@code offset} inside {@code rawData}.
+     */
+    public static Mat convertRawRegionToMat(byte[] rawData, int offset, int width, int height, int bpp, Rect region,
+            boolean grayscale) {
+        int bytesPerPixel = (bpp == 16) ? 2 : 4;
+        Mat converted = convertedFrameBuffer.get();
+
+        if (rawData == null || offset < 0 || rawData.length - offset < width * height * bytesPerPixel
+                || region.x < 0 || region.y < 0
+                || region.width <= 0 || region.height <= 0 || region.x + region.width > width
+                || region.y + region.height > height) {
+            logger.error(formatLogMessage("Invalid raw region " + region + " for " + width + "x" + height + " image"));
+            converted.release();
+            return converted;
+        }
+
+        Mat raw = rawFrameBuffer.get();
+        raw.create(region.height, region.width, (bpp == 16) ? CvType.CV_8UC2 : CvType.CV_8UC4);
+
+        int rowStride = width * bytesPerPixel;
+        int regionRowBytes = region.width * bytesPerPixel;
+        if (region.width == width) {
+            // Full-width region: the rows are contiguous in the raw buffer
+            raw.put(0, 0, rawData, offset + region.y * rowStride, region.height * rowStride);
         } else {
-            // 32 bpp - RGBA format
-            mat = new Mat(height, width, CvType.CV_8UC3);
-            int index = 0;
-            for (int y = 0; y < height; y++) {
-                for (int x = 0; x < width; x++) {
-                    int r = rawData[index] & 0xFF;
-                    int g = rawData[index + 1] & 0xFF;
-                    int b = rawData[index + 2] & 0xFF;
-                    // Skip alpha channel (index + 3)
-                    mat.put(y, x, b, g, r); // OpenCV uses BGR
-                    index += 4;
-                }
+            // Gather the region rows into a reusable staging array, then copy once
+            int regionBytes = regionRowBytes * region.height;
+            byte[] staging = regionStagingBuffer.get();
+            if (staging.length < regionBytes) {
+                staging = new byte[regionBytes];
+                regionStagingBuffer.set(staging);
+            }
+            int srcOffset = offset + region.y * rowStride + region.x * bytesPerPixel;
+            for (int row = 0; row < region.height; row++) {
+                System.arraycopy(rawData, srcOffset, staging, row * regionRowBytes, regionRowBytes);
+                srcOffset += rowStride;
             }
+            raw.put(0, 0, staging, 0, regionBytes);
         }
 
-        return mat;
+        int conversionCode;
+        if (bpp == 16) {
+            conversionCode = grayscale ? Imgproc.COLOR_BGR5652GRAY : Imgproc.COLOR_BGR5652BGR;
+        } else {
+            conversionCode = grayscale ? Imgproc.COLOR_RGBA2GRAY : Imgproc.COLOR_RGBA2BGR;
+        }
+        Imgproc.cvtColor(raw, converted, conversionCode);
+
+        return converted;
     }
 
 	/**
@@ -657,7 +737,6 @@ public class ImageSearchUtil {
 		} finally {
 			// Explicit memory release
 			if (mainImage != null) mainImage.release();
-			if (template != null) template.release();
 			if (imageROI != null) imageROI.release();
 			if (matchResult != null) matchResult.release();
 			if (resultCopy != null) resultCopy.release();
@@ -748,7 +827,6 @@ public class ImageSearchUtil {
 		} finally {
 			// Explicit release of OpenCV memory
 			if (imagenPrincipal != null) imagenPrincipal.release();
-			if (template != null) template.release();
 			if (imagenROI != null) imagenROI.release();
 			if (resultado != null) resultado.release();
 		}
@@ -856,7 +934,6 @@ public class ImageSearchUtil {
 		} finally {
 			// Explicit memory release
 			if (mainImage != null) mainImage.release();
-			if (template != null) template.release();
 			if (imageROI != null) imageROI.release();
 			if (matchResult != null) matchResult.release();
 			if (resultCopy != null) resultCopy.release();
@@ -954,7 +1031,6 @@ public class ImageSearchUtil {
 			// Explicit memory release for all Mat objects
 			if (imagenPrincipal != null) imagenPrincipal.release();
 			if (imagenPrincipalGray != null) imagenPrincipalGray.release();
-			if (template != null) template.release();
 			if (imagenROI != null) imagenROI.release();
 			if (resultado != null) resultado.release();
 		}
@@ -1069,7 +1145,6 @@ public class ImageSearchUtil {
 		} finally {
 			// Explicit memory release
 			if (mainImage != null) mainImage.release();
-			if (template != null) template.release();
 			if (imageROI != null) imageROI.release();
 			if (matchResult != null) matchResult.release();
 			if (resultCopy != null) resultCopy.release();
@@ -1081,23 +1156,14 @@ public class ImageSearchUtil {
 	/**
 	 * Grayscale search for raw image data.
 	 */
-	private static DTOImageSearchResult searchTemplateGrayscaleOptimizedRaw(byte[] rawImageData, int width, int height, int bpp,
+	private static DTOImageSearchResult searchTemplateGrayscaleOptimizedRaw(byte[] rawImageData, int dataOffset, int width, int height, int bpp,
 			String templateResourcePath, DTOPoint topLeftCorner, DTOPoint bottomRightCorner, double thresholdPercentage) {
 
-		Mat imagenPrincipal = null;
-		Mat imagenPrincipalGray = null;
 		Mat template = null;
 		Mat imagenROI = null;
 		Mat resultado = null;
 
 		try {
-			// Convert raw image data directly to OpenCV Mat
-			imagenPrincipal = convertRawDataToMat(rawImageData, width, height, bpp);
-
-			if (imagenPrincipal.empty()) {
-				return new DTOImageSearchResult(false, null, 0.0);
-			}
-
 			// Quick ROI validation
 			int roiX = topLeftCorner.getX();
 			int roiY = topLeftCorner.getY();
@@ -1109,12 +1175,6 @@ public class ImageSearchUtil {
 				return new DTOImageSearchResult(false, null, 0.0);
 			}
 
-			// Convert main image to grayscale
-			imagenPrincipalGray = new Mat();
-			Imgproc.cvtColor(imagenPrincipal, imagenPrincipalGray, Imgproc.COLOR_BGR2GRAY);
-			imagenPrincipal.release();
-			imagenPrincipal = null;
-
 			// Load optimized grayscale template with cache
 			template = loadTemplateGrayscale(templateResourcePath);
 			if (template.empty()) {
@@ -1122,14 +1182,17 @@ public class ImageSearchUtil {
 			}
 
 			// ROI vs image validation
-			if (roiX + roiWidth > imagenPrincipalGray.cols() || roiY + roiHeight > imagenPrincipalGray.rows()) {
+			if (roiX < 0 || roiY < 0 || roiX + roiWidth > width || roiY + roiHeight > height) {
 				logger.error(formatLogMessage("ROI exceeds image dimensions"));
 				return new DTOImageSearchResult(false, null, 0.0);
 			}
 
-			// Create ROI
+			// Convert only the ROI straight to grayscale
 			Rect roi = new Rect(roiX, roiY, roiWidth, roiHeight);
-			imagenROI = new Mat(imagenPrincipalGray, roi);
+			imagenROI = convertRawRegionToMat(rawImageData, dataOffset, width, height, bpp, roi, true);
+			if (imagenROI.empty()) {
+				return new DTOImageSearchResult(false, null, 0.0);
+			}
 
 			// Optimized size check
 			int resultCols = imagenROI.cols() - template.cols() + 1;
@@ -1163,11 +1226,7 @@ public class ImageSearchUtil {
 			logger.error(formatLogMessage("Exception during grayscale template search with raw data"), e);
 			return new DTOImageSearchResult(false, null, 0.0);
 		} finally {
-			// Explicit memory release for all Mat objects
-			if (imagenPrincipal != null) imagenPrincipal.release();
-			if (imagenPrincipalGray != null) imagenPrincipalGray.release();
-			if (template != null) template.release();
-			if (imagenROI != null) imagenROI.release();
+			// Explicit memory release (the ROI is a thread-owned conversion buffer)
 			if (resultado != null) resultado.release();
 		}
 	}
@@ -1175,26 +1234,17 @@ public class ImageSearchUtil {
 	/**
 	 * Grayscale search for multiple matches using raw image data.
 	 */
-	private static List<DTOImageSearchResult> searchTemplateGrayscaleMultipleOptimizedRaw(byte[] rawImageData, int width, int height, int bpp,
+	private static List<DTOImageSearchResult> searchTemplateGrayscaleMultipleOptimizedRaw(byte[] rawImageData, int dataOffset, int width, int height, int bpp,
 			String templateResourcePath, DTOPoint topLeftCorner, DTOPoint bottomRightCorner,
 			double thresholdPercentage, int maxResults) {
 
 		List<DTOImageSearchResult> results = new ArrayList<>();
-		Mat mainImage = null;
-		Mat mainImageGray = null;
 		Mat template = null;
 		Mat imageROI = null;
 		Mat matchResult = null;
 		Mat resultCopy = null;
 
 		try {
-			// Convert raw image data directly to OpenCV Mat
-			mainImage = convertRawDataToMat(rawImageData, width, height, bpp);
-
-			if (mainImage.empty()) {
-				return results;
-			}
-
 			// Quick ROI validation
 			int roiX = topLeftCorner.getX();
 			int roiY = topLeftCorner.getY();
@@ -1205,12 +1255,6 @@ public class ImageSearchUtil {
 				return results;
 			}
 
-			// Convert to grayscale
-			mainImageGray = new Mat();
-			Imgproc.cvtColor(mainImage, mainImageGray, Imgproc.COLOR_BGR2GRAY);
-			mainImage.release();
-			mainImage = null;
-
 			// Load grayscale template with cache
 			template = loadTemplateGrayscale(templateResourcePath);
 			if (template.empty()) {
@@ -1218,13 +1262,16 @@ public class ImageSearchUtil {
 			}
 
 			// Validations
-			if (roiX + roiWidth > mainImageGray.cols() || roiY + roiHeight > mainImageGray.rows()) {
+			if (roiX < 0 || roiY < 0 || roiX + roiWidth > width || roiY + roiHeight > height) {
 				return results;
 			}
 
-			// Create ROI
+			// Convert only the ROI of the raw image data straight to grayscale
 			Rect roi = new Rect(roiX, roiY, roiWidth, roiHeight);
-			imageROI = new Mat(mainImageGray, roi);
+			imageROI = convertRawRegionToMat(rawImageData, dataOffset, width, height, bpp, roi, true);
+			if (imageROI.empty()) {
+				return results;
+			}
 
 			int resultCols = imageROI.cols() - template.cols() + 1;
 			int resultRows = imageROI.rows() - template.rows() + 1;
@@ -1278,10 +1325,7 @@ public class ImageSearchUtil {
 		} catch (Exception e) {
 			logger.error(formatLogMessage("Exception during optimized multiple grayscale template search"), e);
 		} finally {
-			// Explicit memory release
-			if (mainImage != null) mainImage.release();
-			if (template != null) template.release();
-			if (imageROI != null) imageROI.release();
+			// Explicit memory release (the ROI is a thread-owned conversion buffer)
 			if (matchResult != null) matchResult.release();
 			if (resultCopy != null) resultCopy.release();
 		}
@@ -1292,25 +1336,17 @@ public class ImageSearchUtil {
 	/**
 	 * Multiple template search using raw image data.
 	 */
-	private static List<DTOImageSearchResult> searchTemplateMultipleOptimizedRaw(byte[] rawImageData, int width, int height, int bpp,
+	private static List<DTOImageSearchResult> searchTemplateMultipleOptimizedRaw(byte[] rawImageData, int dataOffset, int width, int height, int bpp,
 			String templateResourcePath, DTOPoint topLeftCorner, DTOPoint bottomRightCorner,
 			double thresholdPercentage, int maxResults) {
 
 		List<DTOImageSearchResult> results = new ArrayList<>();
-		Mat mainImage = null;
 		Mat template = null;
 		Mat imageROI = null;
 		Mat matchResult = null;
 		Mat resultCopy = null;
 
 		try {
-			// Convert raw image data directly to OpenCV Mat
-			mainImage = convertRawDataToMat(rawImageData, width, height, bpp);
-
-			if (mainImage.empty()) {
-				return results;
-			}
-
 			// Quick ROI validation
 			int roiX = topLeftCorner.getX();
 			int roiY = topLeftCorner.getY();
@@ -1328,13 +1364,16 @@ public class ImageSearchUtil {
 			}
 
 			// Validations
-			if (roiX + roiWidth > mainImage.cols() || roiY + roiHeight > mainImage.rows()) {
+			if (roiX < 0 || roiY < 0 || roiX + roiWidth > width || roiY + roiHeight > height) {
 				return results;
 			}
 
-			// Create ROI
+			// Convert only the ROI of the raw image data
 			Rect roi = new Rect(roiX, roiY, roiWidth, roiHeight);
-			imageROI = new Mat(mainImage, roi);
+			imageROI = convertRawRegionToMat(rawImageData, dataOffset, width, height, bpp, roi, false);
+			if (imageROI.empty()) {
+				return results;
+			}
 
 			int resultCols = imageROI.cols() - template.cols() + 1;
 			int resultRows = imageROI.rows() - template.rows() + 1;
@@ -1388,10 +1427,7 @@ public class ImageSearchUtil {
 		} catch (Exception e) {
 			logger.error(formatLogMessage("Exception during optimized multiple template search with raw data"), e);
 		} finally {
-			// Explicit memory release
-			if (mainImage != null) mainImage.release();
-			if (template != null) template.release();
-			if (imageROI != null) imageROI.release();
+			// Explicit memory release (the ROI is a thread-owned conversion buffer)
 			if (matchResult != null) matchResult.release();
 			if (resultCopy != null) resultCopy.release();
 		}
@@ -1399,6 +1435,138 @@ public class ImageSearchUtil {
 		return results;
 	}
 
+	/**
+	 * Batch template search using raw image data.
+	 * The ROI is converted once, copied into a Mat owned by this call (the conversion
+	 * buffer is thread-local) and shared read-only by the parallel matches.
+	 */
+	private static List<DTOImageSearchResult> searchTemplateBatchOptimizedRaw(byte[] rawImageData, int dataOffset, int width, int height, int bpp,
+			List<String> templateResourcePaths, DTOPoint topLeftCorner, DTOPoint bottomRightCorner,
+			double thresholdPercentage, boolean grayscale) {
+
+		List<DTOImageSearchResult> results = new ArrayList<>();
+		Mat sharedROI = null;
+
+		try {
+			// Quick ROI validation
+			int roiX = topLeftCorner.getX();
+			int roiY = topLeftCorner.getY();
+			int roiWidth = bottomRightCorner.getX() - topLeftCorner.getX();
+			int roiHeight = bottomRightCorner.getY() - topLeftCorner.getY();
+
+			if (roiWidth <= 0 || roiHeight <= 0 || roiX < 0 || roiY < 0 || roiX + roiWidth > width || roiY + roiHeight > height) {
+				logger.error(formatLogMessage("Invalid ROI dimensions for batch search"));
+				templateResourcePaths.forEach(path -> results.add(new DTOImageSearchResult(false, null, 0.0)));
+				return results;
+			}
+
+			// Convert the ROI once for all templates
+			Rect roi = new Rect(roiX, roiY, roiWidth, roiHeight);
+			Mat converted = convertRawRegionToMat(rawImageData, dataOffset, width, height, bpp, roi, grayscale);
+			if (converted.empty()) {
+				templateResourcePaths.forEach(path -> results.add(new DTOImageSearchResult(false, null, 0.0)));
+				return results;
+			}
+			sharedROI = converted.clone();
+
+			// Fan the matches out over the OpenCV pool
+			final Mat imageROI = sharedROI;
+			String profileName = currentProfileName.get();
+			List<CompletableFuture<DTOImageSearchResult>> futures = new ArrayList<>();
+			for (String templateResourcePath : templateResourcePaths) {
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					setProfileName(profileName);
+					try {
+						return matchTemplateInROI(imageROI, roi, templateResourcePath, thresholdPercentage, grayscale);
+					} finally {
+						clearProfileName();
+					}
+				}, openCVThreadPool));
+			}
+
+			for (CompletableFuture<DTOImageSearchResult> future : futures) {
+				results.add(future.join());
+			}
+
+		} catch (Exception e) {
+			logger.error(formatLogMessage("Exception during batch template search with raw data"), e);
+			while (results.size() < templateResourcePaths.size()) {
+				results.add(new DTOImageSearchResult(false, null, 0.0));
+			}
+		} finally {
+			// Explicit memory release
+			if (sharedROI != null) sharedROI.release();
+		}
+
+		return results;
+	}
+
+	/**
+	 * Matches a single template against an already converted ROI.
+	 * Color templates use their mask when one exists, like searchTemplateOptimized.
+	 */
+	private static DTOImageSearchResult matchTemplateInROI(Mat imageROI, Rect roi, String templateResourcePath,
+			double thresholdPercentage, boolean grayscale) {
+
+		Mat template = null;
+		Mat mask = null;
+		Mat matchResult = null;
+
+		try {
+			template = grayscale ? loadTemplateGrayscale(templateResourcePath) : loadTemplateOptimized(templateResourcePath);
+			if (template.empty()) {
+				logger.error(formatLogMessage("Template is empty: " + templateResourcePath));
+				return new DTOImageSearchResult(false, null, 0.0);
+			}
+
+			int resultCols = imageROI.cols() - template.cols() + 1;
+			int resultRows = imageROI.rows() - template.rows() + 1;
+			if (resultCols <= 0 || resultRows <= 0) {
+				return new DTOImageSearchResult(false, null, 0.0);
+			}
+
+			if (!grayscale) {
+				mask = loadTemplateMask(templateResourcePath);
+			}
+
+			// Template matching
+			matchResult = new Mat(resultRows, resultCols, CvType.CV_32FC1);
+			if (mask != null && !mask.empty()) {
+				Imgproc.matchTemplate(imageROI, template, matchResult, Imgproc.TM_CCORR_NORMED, mask);
+			} else {
+				Imgproc.matchTemplate(imageROI, template, matchResult, Imgproc.TM_CCOEFF_NORMED);
+			}
+
+			Core.MinMaxLocResult mmr = Core.minMaxLoc(matchResult);
+			double normalizedVal = Math.max(-1.0, Math.min(1.0, mmr.maxVal));
+			if (Double.isNaN(normalizedVal) || Double.isInfinite(normalizedVal)) {
+				logger.error(formatLogMessage("Invalid match value (NaN or Infinite) for template: " + templateResourcePath));
+				return new DTOImageSearchResult(false, null, 0.0);
+			}
+
+			double matchPercentage = normalizedVal * 100.0;
+			if (matchPercentage < thresholdPercentage) {
+				logger.debug(formatLogMessage("Batch template " + templateResourcePath + " match percentage " + matchPercentage + " below threshold " + thresholdPercentage));
+				return new DTOImageSearchResult(false, null, matchPercentage);
+			}
+
+			logger.info(formatLogMessage("Batch template " + templateResourcePath + " found with match percentage: " + matchPercentage));
+
+			// Calculate center coordinates
+			double centerX = mmr.maxLoc.x + roi.x + (template.cols() / 2.0);
+			double centerY = mmr.maxLoc.y + roi.y + (template.rows() / 2.0);
+
+			return new DTOImageSearchResult(true, new DTOPoint((int) centerX, (int) centerY), matchPercentage);
+
+		} catch (Exception e) {
+			logger.error(formatLogMessage("Exception matching template " + templateResourcePath), e);
+			return new DTOImageSearchResult(false, null, 0.0);
+		} finally {
+			// Explicit memory release
+			if (matchResult != null) matchResult.release();
+		}
+	}
+
 	/**
 	 * Method for preloading common templates.
 	 */
@@ -1408,13 +1576,14 @@ public class ImageSearchUtil {
 
 	/**
 	 * Method to clear cache manually.
+	 * Must not be called while searches are running, as they share the cached templates.
 	 */
 	public static void clearCache() {
-		templateCache.values().forEach(Mat::release);
-		templateCache.clear();
-		grayscaleTemplateCache.values().forEach(Mat::release);
-		grayscaleTemplateCache.clear();
-		templateBytesCache.clear();
+		for (ConcurrentHashMap<String, Mat> cache : List.of(templateCache, grayscaleTemplateCache, maskCache)) {
+			cache.values().stream().filter(mat -> mat != MISSING_RESOURCE).forEach(Mat::release);
+			cache.clear();
+		}
+		cachedBytes.reset();
 		cacheInitialized = false;
 	}
 
@@ -1470,8 +1639,12 @@ public class ImageSearchUtil {
 	 * Gets cache statistics.
 	 */
 	public static String getCacheStats() {
-		return String.format("Templates in cache: %d/%d, Bytes cache: %d",
-			templateCache.size(), EnumTemplates.values().length, templateBytesCache.size());
+		long missingMasks = maskCache.values().stream().filter(mat -> mat == MISSING_RESOURCE).count();
+		return String.format("Templates in cache: %d/%d, Grayscale: %d, Masks: %d (%d without mask), "
+				+ "Hits: %d, Misses: %d, Decoded bytes: %d",
+			templateCache.size(), EnumTemplates.values().length, grayscaleTemplateCache.size(),
+			maskCache.size() - missingMasks, missingMasks,
+			cacheHits.sum(), cacheMisses.sum(), cachedBytes.sum());
 	}
 
 	public static void loadNativeLibrary(String resourcePath) throws IOException {
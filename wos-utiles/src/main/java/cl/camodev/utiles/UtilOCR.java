@@ -2,19 +2,27 @@ package cl.camodev.utiles;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.imageio.ImageIO;
 
+import cl.camodev.utiles.ocr.TesseractEnginePool;
+import cl.camodev.utiles.ocr.TesseractEnginePool.EngineKey;
+import cl.camodev.utiles.ocr.TesseractEnginePool.TesseractEngine;
+import cl.camodev.wosbot.ot.DTOArea;
 import cl.camodev.wosbot.ot.DTORawImage;
 import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOTesseractSettings;
-import net.sourceforge.tess4j.Tesseract;
 import net.sourceforge.tess4j.TesseractException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +31,14 @@ public class UtilOCR {
 
     private static final Logger log = LoggerFactory.getLogger(UtilOCR.class);
 
+    // Bounded pool for reading several regions of the same frame
+    private static final ForkJoinPool ocrThreadPool = new ForkJoinPool(
+            Math.min(Runtime.getRuntime().availableProcessors(), 4)
+    );
+
+    // Per-thread native buffer holding the processed region handed to Tesseract
+    private static final ThreadLocal<ByteBuffer> regionBuffer = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(0));
+
     /**
      * Performs OCR on a specified region of a DTORawImage using Tesseract.
      * This is the most efficient method as it works directly with raw image data.
@@ -49,17 +65,14 @@ public class UtilOCR {
             throw new IllegalArgumentException("Specified region exceeds image bounds.");
         }
 
-        // Extract the region directly from raw data and upscale
-        BufferedImage processedImage = extractAndUpscaleRegion(rawImage, x, y, width, height, 4);
+        // Extract the region directly from raw data as upscaled grayscale
+        ByteBuffer processedRegion = extractGrayRegion(rawImage, x, y, width, height, 4, false, null);
 
-        Tesseract tesseract = new Tesseract();
-        tesseract.setConfigs(Collections.singletonList("quiet"));
-        tesseract.setDatapath("lib/tesseract");
-        tesseract.setLanguage(language);
-        tesseract.setPageSegMode(7); // single line
-        tesseract.setOcrEngineMode(1); // LSTM only
+        // Single line, LSTM only
+        EngineKey engineKey = new EngineKey(language, 7, 1, "");
 
-        return tesseract.doOCR(processedImage).replace("\n", "").replace("\r", "").trim();
+        return recognize(processedRegion, width * 4, height * 4, engineKey)
+                .replace("\n", "").replace("\r", "").trim();
     }
 
     /**
@@ -96,36 +109,20 @@ public class UtilOCR {
 
         // Extract, upscale and process region directly from raw data in a single pass
         long extractStartTime = System.currentTimeMillis();
-        BufferedImage processedImage = extractAndProcessRegion(
+        ByteBuffer processedRegion = extractGrayRegion(
                 rawImage, x, y, width, height, 4,
                 settings.isRemoveBackground(), settings.getTextColor()
         );
         long extractEndTime = System.currentTimeMillis();
         log.debug("Image extraction and processing took: {} ms", (extractEndTime - extractStartTime));
 
-        // Configure Tesseract
-        long tesseractConfigStartTime = System.currentTimeMillis();
-        Tesseract tesseract = new Tesseract();
-        tesseract.setDatapath("lib/tesseract");
-        tesseract.setLanguage("eng");
-
-        if (settings.hasPageSegMode()) {
-            tesseract.setPageSegMode(settings.getPageSegMode());
-        }
-
-        if (settings.hasOcrEngineMode()) {
-            tesseract.setOcrEngineMode(settings.getOcrEngineMode());
-        }
-
-        if (settings.hasAllowedChars()) {
-            tesseract.setVariable("tessedit_char_whitelist", settings.getAllowedChars());
-        }
-        long tesseractConfigEndTime = System.currentTimeMillis();
-        log.debug("Tesseract configuration took: {} ms", (tesseractConfigEndTime - tesseractConfigStartTime));
+        // Get a warm Tesseract engine for this configuration
+        EngineKey engineKey = EngineKey.of("eng", settings);
 
         // Perform OCR
         long ocrStartTime = System.currentTimeMillis();
-        String result = tesseract.doOCR(processedImage).replace("\n", "").replace("\r", "").trim();
+        String result = recognize(processedRegion, width * 4, height * 4, engineKey)
+                .replace("\n", "").replace("\r", "").trim();
         long ocrEndTime = System.currentTimeMillis();
         log.debug("Tesseract OCR execution took: {} ms", (ocrEndTime - ocrStartTime));
 
@@ -141,8 +138,9 @@ public class UtilOCR {
 
                 String timestamp = String.valueOf(System.currentTimeMillis());
 
-                // Get full image
+                // Get full image and the region exactly as Tesseract received it
                 BufferedImage fullImage = convertRawImageToBufferedImage(rawImage);
+                BufferedImage processedImage = toGrayImage(processedRegion, width * 4, height * 4);
 
                 // Build configuration text
                 StringBuilder configText = new StringBuilder();
@@ -298,8 +296,79 @@ public class UtilOCR {
     }
 
     /**
-     * Extracts a region from DTORawImage and upscales it directly without intermediate conversions.
-     * This is highly optimized for performance.
+     * Performs OCR on several regions of the same DTORawImage. The regions are read
+     * in parallel on a bounded pool, each with its own pooled Tesseract engine.
+     * Regions without settings are read as a single line in the given language.
+     *
+     * @param rawImage Raw image data from screenshot capture
+     * @param regions  Regions to read, with the settings for each one (may be {@code null})
+     * @param language Language code for regions without settings
+     * @return Text recognized for each region, in the same order as {@code regions};
+     *         regions that could not be read map to {@code null}
+     */
+    public static Map<DTOArea, String> ocrFromRegions(DTORawImage rawImage, Map<DTOArea, DTOTesseractSettings> regions,
+            String language) {
+        if (rawImage == null) {
+            throw new IllegalArgumentException("Raw image cannot be null.");
+        }
+
+        Map<DTOArea, CompletableFuture<String>> pending = new LinkedHashMap<>();
+        regions.forEach((area, settings) -> pending.put(area, CompletableFuture.supplyAsync(() -> {
+            try {
+                return settings != null
+                        ? ocrFromRegion(rawImage, area.topLeft(), area.bottomRight(), settings)
+                        : ocrFromRegion(rawImage, area.topLeft(), area.bottomRight(), language);
+            } catch (TesseractException | RuntimeException e) {
+                log.warn("OCR failed for region {}: {}", area, e.getMessage());
+                return null;
+            }
+        }, ocrThreadPool)));
+
+        Map<DTOArea, String> results = new LinkedHashMap<>();
+        pending.forEach((area, future) -> results.put(area, future.join()));
+        return results;
+    }
+
+    /**
+     * Runs OCR on a processed region with a pooled engine for the given configuration.
+     *
+     * @param grayRegion 8-bit grayscale pixels of the processed region
+     * @param width Width of the region in pixels
+     * @param height Height of the region in pixels
+     * @param engineKey Tesseract configuration to use
+     * @return Raw text recognized by Tesseract
+     * @throws TesseractException If an error occurs during OCR processing
+     */
+    private static String recognize(ByteBuffer grayRegion, int width, int height, EngineKey engineKey)
+            throws TesseractException {
+        TesseractEngine engine = TesseractEnginePool.acquire(engineKey);
+        try {
+            return engine.recognize(grayRegion, width, height, 1, width);
+        } finally {
+            TesseractEnginePool.release(engine);
+        }
+    }
+
+    /**
+     * Returns this thread's native region buffer, grown if it cannot hold {@code size} bytes.
+     * Tesseract copies the pixels when the image is set, so the buffer can be reused by the
+     * next OCR on the same thread.
+     */
+    private static ByteBuffer acquireRegionBuffer(int size) {
+        ByteBuffer buffer = regionBuffer.get();
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocateDirect(size);
+            regionBuffer.set(buffer);
+        }
+        buffer.clear().limit(size);
+        return buffer;
+    }
+
+    /**
+     * Extracts a region from DTORawImage, upscales it and converts it to 8-bit grayscale in a
+     * single pass, writing straight into a reusable native buffer that is handed to Tesseract.
+     * When background removal is enabled, pixels close to the text color become black and the
+     * rest white.
      *
      * @param rawImage Raw image data
      * @param x X coordinate of region
@@ -307,56 +376,84 @@ public class UtilOCR {
      * @param width Width of region
      * @param height Height of region
      * @param scaleFactor Scale factor for upscaling
-     * @return Upscaled BufferedImage of the region
+     * @param removeBackground Whether to remove background
+     * @param textColor Expected text color (used when removeBackground is true)
+     * @return Grayscale pixels of the upscaled region, one byte per pixel, top row first
      */
-    private static BufferedImage extractAndUpscaleRegion(DTORawImage rawImage, int x, int y, int width, int height, int scaleFactor) {
+    private static ByteBuffer extractGrayRegion(DTORawImage rawImage, int x, int y,
+                                                int width, int height, int scaleFactor,
+                                                boolean removeBackground, Color textColor) {
         byte[] data = rawImage.getData();
-        int bpp = rawImage.getBpp();
+        int dataOffset = rawImage.getOffset();
+        int bytesPerPixel = rawImage.getBpp() == 16 ? 2 : 4;
         int imageWidth = rawImage.getWidth();
 
-        // Create upscaled image directly
         int newWidth = width * scaleFactor;
         int newHeight = height * scaleFactor;
-        BufferedImage result = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
-        int[] pixels = new int[newWidth * newHeight];
+        ByteBuffer buffer = acquireRegionBuffer(newWidth * newHeight);
 
-        if (bpp == 16) {
-            // RGB565 format
-            for (int dy = 0; dy < newHeight; dy++) {
-                for (int dx = 0; dx < newWidth; dx++) {
-                    // Map back to source pixel
-                    int srcX = x + (dx / scaleFactor);
-                    int srcY = y + (dy / scaleFactor);
-                    int srcOffset = (srcY * imageWidth + srcX) * 2;
+        // Define color threshold for background removal (if enabled)
+        boolean binarize = removeBackground && textColor != null;
+        int targetR = binarize ? textColor.getRed() : 0;
+        int targetG = binarize ? textColor.getGreen() : 0;
+        int targetB = binarize ? textColor.getBlue() : 0;
+        int threshold = 50; // Color similarity threshold
+
+        for (int srcRow = 0; srcRow < height; srcRow++) {
+            int rowStart = srcRow * scaleFactor * newWidth;
+            int srcOffset = dataOffset + ((y + srcRow) * imageWidth + x) * bytesPerPixel;
 
+            for (int srcCol = 0; srcCol < width; srcCol++, srcOffset += bytesPerPixel) {
+                int r, g, b;
+                if (bytesPerPixel == 2) {
+                    // RGB565 format
                     int pixel = ((data[srcOffset + 1] & 0xFF) << 8) | (data[srcOffset] & 0xFF);
-                    int r = ((pixel >> 11) & 0x1F) << 3;
-                    int g = ((pixel >> 5) & 0x3F) << 2;
-                    int b = (pixel & 0x1F) << 3;
+                    r = ((pixel >> 11) & 0x1F) << 3;
+                    g = ((pixel >> 5) & 0x3F) << 2;
+                    b = (pixel & 0x1F) << 3;
+                } else {
+                    // 32 bpp - RGBA format
+                    r = data[srcOffset] & 0xFF;
+                    g = data[srcOffset + 1] & 0xFF;
+                    b = data[srcOffset + 2] & 0xFF;
+                }
 
-                    pixels[dy * newWidth + dx] = (r << 16) | (g << 8) | b;
+                byte gray;
+                if (binarize) {
+                    // If pixel is similar to text color, keep it black; otherwise white
+                    boolean isText = Math.abs(r - targetR) <= threshold
+                            && Math.abs(g - targetG) <= threshold
+                            && Math.abs(b - targetB) <= threshold;
+                    gray = isText ? 0 : (byte) 0xFF;
+                } else {
+                    // Same luminance weights Java2D uses when drawing RGB into a gray image
+                    gray = (byte) ((77 * r + 150 * g + 29 * b + 128) >> 8);
                 }
-            }
-        } else {
-            // 32 bpp - RGBA format
-            for (int dy = 0; dy < newHeight; dy++) {
-                for (int dx = 0; dx < newWidth; dx++) {
-                    // Map back to source pixel
-                    int srcX = x + (dx / scaleFactor);
-                    int srcY = y + (dy / scaleFactor);
-                    int srcOffset = (srcY * imageWidth + srcX) * 4;
-
-                    int r = data[srcOffset] & 0xFF;
-                    int g = data[srcOffset + 1] & 0xFF;
-                    int b = data[srcOffset + 2] & 0xFF;
-
-                    pixels[dy * newWidth + dx] = (r << 16) | (g << 8) | b;
+
+                int dst = rowStart + srcCol * scaleFactor;
+                for (int i = 0; i < scaleFactor; i++) {
+                    buffer.put(dst + i, gray);
                 }
             }
+
+            // The remaining scaled rows are copies of the first one
+            for (int i = 1; i < scaleFactor; i++) {
+                buffer.put(rowStart + i * newWidth, buffer, rowStart, newWidth);
+            }
         }
 
-        result.setRGB(0, 0, newWidth, newHeight, pixels, 0, newWidth);
-        return result;
+        return buffer;
+    }
+
+    /**
+     * Copies a grayscale region into a BufferedImage.
+     * Used only for debug purposes.
+     */
+    private static BufferedImage toGrayImage(ByteBuffer grayRegion, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+        grayRegion.get(0, pixels);
+        return image;
     }
 
     /**
@@ -371,6 +468,7 @@ public class UtilOCR {
         int[] pixels = new int[rawImage.getWidth() * rawImage.getHeight()];
 
         byte[] data = rawImage.getData();
+        int dataOffset = rawImage.getOffset();
         int bpp = rawImage.getBpp();
         int index = 0;
 
@@ -378,7 +476,7 @@ public class UtilOCR {
             // RGB565 format
             for (int y = 0; y < rawImage.getHeight(); y++) {
                 for (int x = 0; x < rawImage.getWidth(); x++) {
-                    int offset = index * 2;
+                    int offset = dataOffset + index * 2;
                     int pixel = ((data[offset + 1] & 0xFF) << 8) | (data[offset] & 0xFF);
                     int r = ((pixel >> 11) & 0x1F) << 3;
                     int g = ((pixel >> 5) & 0x3F) << 2;
@@ -391,7 +489,7 @@ public class UtilOCR {
             // 32 bpp - RGBA format
             for (int y = 0; y < rawImage.getHeight(); y++) {
                 for (int x = 0; x < rawImage.getWidth(); x++) {
-                    int offset = index * 4;
+                    int offset = dataOffset + index * 4;
                     int r = data[offset] & 0xFF;
                     int g = data[offset + 1] & 0xFF;
                     int b = data[offset + 2] & 0xFF;
@@ -405,109 +503,4 @@ public class UtilOCR {
         return image;
     }
 
-    /**
-     * Extracts a region from DTORawImage, upscales it and optionally processes it (background removal)
-     * in a SINGLE PASS directly from raw data without intermediate conversions.
-     * This is the most optimized method for performance.
-     *
-     * @param rawImage Raw image data
-     * @param x X coordinate of region
-     * @param y Y coordinate of region
-     * @param width Width of region
-     * @param height Height of region
-     * @param scaleFactor Scale factor for upscaling
-     * @param removeBackground Whether to remove background
-     * @param textColor Expected text color (used when removeBackground is true)
-     * @return Processed BufferedImage ready for OCR
-     */
-    private static BufferedImage extractAndProcessRegion(DTORawImage rawImage, int x, int y,
-                                                         int width, int height, int scaleFactor,
-                                                         boolean removeBackground, Color textColor) {
-        byte[] data = rawImage.getData();
-        int bpp = rawImage.getBpp();
-        int imageWidth = rawImage.getWidth();
-
-        // Create upscaled image directly
-        int newWidth = width * scaleFactor;
-        int newHeight = height * scaleFactor;
-        BufferedImage result = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
-        int[] pixels = new int[newWidth * newHeight];
-
-        // Define color threshold for background removal (if enabled)
-        int targetR = 0, targetG = 0, targetB = 0;
-        int threshold = 50; // Color similarity threshold
-
-        if (removeBackground && textColor != null) {
-            targetR = textColor.getRed();
-            targetG = textColor.getGreen();
-            targetB = textColor.getBlue();
-        }
-
-        if (bpp == 16) {
-            // RGB565 format - extract, upscale and process in single pass
-            for (int dy = 0; dy < newHeight; dy++) {
-                for (int dx = 0; dx < newWidth; dx++) {
-                    // Map back to source pixel
-                    int srcX = x + (dx / scaleFactor);
-                    int srcY = y + (dy / scaleFactor);
-                    int srcOffset = (srcY * imageWidth + srcX) * 2;
-
-                    int pixel = ((data[srcOffset + 1] & 0xFF) << 8) | (data[srcOffset] & 0xFF);
-                    int r = ((pixel >> 11) & 0x1F) << 3;
-                    int g = ((pixel >> 5) & 0x3F) << 2;
-                    int b = (pixel & 0x1F) << 3;
-
-                    // Apply background removal if enabled
-                    if (removeBackground && textColor != null) {
-                        int diffR = Math.abs(r - targetR);
-                        int diffG = Math.abs(g - targetG);
-                        int diffB = Math.abs(b - targetB);
-
-                        // If pixel is similar to text color, keep it black; otherwise white
-                        if (diffR <= threshold && diffG <= threshold && diffB <= threshold) {
-                            pixels[dy * newWidth + dx] = 0x000000; // Black
-                        } else {
-                            pixels[dy * newWidth + dx] = 0xFFFFFF; // White
-                        }
-                    } else {
-                        pixels[dy * newWidth + dx] = (r << 16) | (g << 8) | b;
-                    }
-                }
-            }
-        } else {
-            // 32 bpp - RGBA format - extract, upscale and process in single pass
-            for (int dy = 0; dy < newHeight; dy++) {
-                for (int dx = 0; dx < newWidth; dx++) {
-                    // Map back to source pixel
-                    int srcX = x + (dx / scaleFactor);
-                    int srcY = y + (dy / scaleFactor);
-                    int srcOffset = (srcY * imageWidth + srcX) * 4;
-
-                    int r = data[srcOffset] & 0xFF;
-                    int g = data[srcOffset + 1] & 0xFF;
-                    int b = data[srcOffset + 2] & 0xFF;
-
-                    // Apply background removal if enabled
-                    if (removeBackground && textColor != null) {
-                        int diffR = Math.abs(r - targetR);
-                        int diffG = Math.abs(g - targetG);
-                        int diffB = Math.abs(b - targetB);
-
-                        // If pixel is similar to text color, keep it black; otherwise white
-                        if (diffR <= threshold && diffG <= threshold && diffB <= threshold) {
-                            pixels[dy * newWidth + dx] = 0x000000; // Black
-                        } else {
-                            pixels[dy * newWidth + dx] = 0xFFFFFF; // White
-                        }
-                    } else {
-                        pixels[dy * newWidth + dx] = (r << 16) | (g << 8) | b;
-                    }
-                }
-            }
-        }
-
-        result.setRGB(0, 0, newWidth, newHeight, pixels, 0, newWidth);
-        return result;
-    }
-
 }
@@ -0,0 +1,177 @@
+package cl.camodev.utiles.ocr;
+
+import cl.camodev.wosbot.ot.DTOTesseractSettings;
+import com.sun.jna.Pointer;
+import com.sun.jna.StringArray;
+import com.sun.jna.ptr.PointerByReference;
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import net.sourceforge.tess4j.ITessAPI.TessBaseAPI;
+import net.sourceforge.tess4j.TessAPI1;
+import net.sourceforge.tess4j.TesseractException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of initialized Tesseract engines, keyed by their configuration.
+ * <p>
+ * Initializing a {@code TessBaseAPI} loads the traineddata file, which dominates the cost of a
+ * short OCR. Engines are therefore kept warm and handed out again to the next read that uses the
+ * same language, page segmentation mode, engine mode and whitelist. Each engine is used by a single
+ * thread at a time; the number of idle engines kept per configuration is bounded.
+ */
+public final class TesseractEnginePool {
+
+    private static final Logger logger = LoggerFactory.getLogger(TesseractEnginePool.class);
+
+    public static final String DATA_PATH = "lib/tesseract";
+
+    /** Value used when the page segmentation mode is left to Tesseract's default. */
+    public static final int DEFAULT_PAGE_SEG_MODE = -1;
+
+    private static final int MAX_IDLE_ENGINES_PER_KEY = 4;
+
+    private static final Map<EngineKey, Deque<TesseractEngine>> idleEngines = new ConcurrentHashMap<>();
+
+    private TesseractEnginePool() {
+    }
+
+    /**
+     * The configuration an engine was initialized with.
+     *
+     * @param language      traineddata language code
+     * @param pageSegMode   page segmentation mode, or {@link #DEFAULT_PAGE_SEG_MODE}
+     * @param ocrEngineMode OCR engine mode
+     * @param allowedChars  character whitelist, or an empty string for none
+     */
+    public record EngineKey(String language, int pageSegMode, int ocrEngineMode, String allowedChars) {
+
+        /**
+         * Builds the key for the given settings, applying the same defaults as tess4j.
+         */
+        public static EngineKey of(String language, DTOTesseractSettings settings) {
+            int pageSegMode = settings.hasPageSegMode() ? settings.getPageSegMode() : DEFAULT_PAGE_SEG_MODE;
+            int ocrEngineMode = settings.hasOcrEngineMode() ? settings.getOcrEngineMode()
+                    : DTOTesseractSettings.OcrEngineMode.DEFAULT.getValue();
+            String allowedChars = settings.hasAllowedChars() ? settings.getAllowedChars() : "";
+            return new EngineKey(language, pageSegMode, ocrEngineMode, allowedChars);
+        }
+    }
+
+    /**
+     * Takes an idle engine for the given configuration, initializing a new one if none is available.
+     * The engine must be handed back with {@link #release(TesseractEngine)}.
+     *
+     * @throws TesseractException if a new engine cannot be initialized
+     */
+    public static TesseractEngine acquire(EngineKey key) throws TesseractException {
+        Deque<TesseractEngine> idle = idleEngines.get(key);
+        if (idle != null) {
+            TesseractEngine engine = idle.pollFirst();
+            if (engine != null) {
+                return engine;
+            }
+        }
+        return new TesseractEngine(key);
+    }
+
+    /**
+     * Returns an engine to the pool, or disposes it if enough engines of its kind are already idle.
+     */
+    public static void release(TesseractEngine engine) {
+        if (engine == null) {
+            return;
+        }
+        Deque<TesseractEngine> idle = idleEngines.computeIfAbsent(engine.getKey(), k -> new ConcurrentLinkedDeque<>());
+        if (idle.size() < MAX_IDLE_ENGINES_PER_KEY) {
+            idle.offerFirst(engine);
+        } else {
+            engine.close();
+        }
+    }
+
+    /**
+     * Disposes every idle engine. Engines currently in use are not affected.
+     */
+    public static void clear() {
+        idleEngines.values().forEach(idle -> {
+            TesseractEngine engine;
+            while ((engine = idle.pollFirst()) != null) {
+                engine.close();
+            }
+        });
+    }
+
+    /**
+     * A single native Tesseract instance. Not thread safe.
+     */
+    public static final class TesseractEngine implements AutoCloseable {
+
+        private final EngineKey key;
+        private final TessBaseAPI handle;
+
+        private TesseractEngine(EngineKey key) throws TesseractException {
+            this.key = key;
+            this.handle = TessAPI1.TessBaseAPICreate();
+
+            StringArray configArray = new StringArray(new String[] { "quiet" });
+            PointerByReference configs = new PointerByReference();
+            configs.setPointer(configArray);
+            int status = TessAPI1.TessBaseAPIInit1(handle, DATA_PATH, key.language(), key.ocrEngineMode(), configs, 1);
+            if (status != 0) {
+                TessAPI1.TessBaseAPIDelete(handle);
+                throw new TesseractException("Could not initialize Tesseract for " + key);
+            }
+
+            if (key.pageSegMode() != DEFAULT_PAGE_SEG_MODE) {
+                TessAPI1.TessBaseAPISetPageSegMode(handle, key.pageSegMode());
+            }
+            if (!key.allowedChars().isEmpty()) {
+                TessAPI1.TessBaseAPISetVariable(handle, "tessedit_char_whitelist", key.allowedChars());
+            }
+            logger.debug("Initialized Tesseract engine {}", key);
+        }
+
+        public EngineKey getKey() {
+            return key;
+        }
+
+        /**
+         * Recognizes the text in an image buffer.
+         *
+         * @param imageData     pixel data, top row first
+         * @param width         image width in pixels
+         * @param height        image height in pixels
+         * @param bytesPerPixel 1 for 8-bit grayscale, 3 for RGB, 4 for RGBA
+         * @param bytesPerLine  row stride in bytes
+         * @return the recognized UTF-8 text
+         * @throws TesseractException if Tesseract returns no text
+         */
+        public String recognize(ByteBuffer imageData, int width, int height, int bytesPerPixel, int bytesPerLine)
+                throws TesseractException {
+            try {
+                TessAPI1.TessBaseAPISetImage(handle, imageData, width, height, bytesPerPixel, bytesPerLine);
+                Pointer text = TessAPI1.TessBaseAPIGetUTF8Text(handle);
+                if (text == null) {
+                    throw new TesseractException("Tesseract returned no text");
+                }
+                try {
+                    return text.getString(0, "UTF-8");
+                } finally {
+                    TessAPI1.TessDeleteText(text);
+                }
+            } finally {
+                TessAPI1.TessBaseAPIClear(handle);
+            }
+        }
+
+        @Override
+        public void close() {
+            TessAPI1.TessBaseAPIEnd(handle);
+            TessAPI1.TessBaseAPIDelete(handle);
+        }
+    }
+}
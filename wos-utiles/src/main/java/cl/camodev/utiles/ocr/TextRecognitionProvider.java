@@ -1,8 +1,12 @@
 package cl.camodev.utiles.ocr;
 
+import cl.camodev.wosbot.ot.DTOArea;
 import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOTesseractSettings;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import net.sourceforge.tess4j.TesseractException;
 
 /**
@@ -24,4 +28,37 @@ public interface TextRecognitionProvider {
      * @throws TesseractException  if the underlying OCR engine fails
      */
     String ocrRegion(DTOPoint p1, DTOPoint p2, DTOTesseractSettings settings) throws IOException, TesseractException;
+
+    /**
+     * Performs OCR on several regions, each with its own settings. The default implementation
+     * reads the regions one by one; implementations backed by a screen capture should read all of
+     * them from the same capture.
+     *
+     * @param regions the regions to read, with optional Tesseract configuration for each one
+     * @return the recognized text for each region, in iteration order of {@code regions};
+     *         regions with no recognized text map to {@code null}
+     * @throws IOException         if an image capture or file I/O error occurs
+     * @throws TesseractException  if the underlying OCR engine fails
+     */
+    default Map<DTOArea, String> ocrRegions(Map<DTOArea, DTOTesseractSettings> regions)
+            throws IOException, TesseractException {
+        Map<DTOArea, String> results = new LinkedHashMap<>();
+        for (Map.Entry<DTOArea, DTOTesseractSettings> region : regions.entrySet()) {
+            DTOArea area = region.getKey();
+            results.put(area, ocrRegion(area.topLeft(), area.bottomRight(), region.getValue()));
+        }
+        return results;
+    }
+
+    /**
+     * Performs OCR on several regions using the same settings.
+     *
+     * @see #ocrRegions(Map)
+     */
+    default Map<DTOArea, String> ocrRegions(List<DTOArea> areas, DTOTesseractSettings settings)
+            throws IOException, TesseractException {
+        Map<DTOArea, DTOTesseractSettings> regions = new LinkedHashMap<>();
+        areas.forEach(area -> regions.put(area, settings));
+        return ocrRegions(regions);
+    }
 }
\ No newline at end of file
@@ -5,6 +5,9 @@ import cl.camodev.wosbot.ot.DTOPoint;
 import cl.camodev.wosbot.ot.DTOTesseractSettings;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -89,4 +92,71 @@ public class TextRecognitionRetrier<T> {
                      Function<String, T> converter) {
         return execute(area.topLeft(), area.bottomRight(), maxRetries, delayMs, settings, successPredicate, converter);
     }
+
+    /**
+     * Reads several regions at once, each with its own settings. Every attempt reads all the
+     * regions that have not succeeded yet through a single {@link TextRecognitionProvider#ocrRegions(Map)}
+     * call, so regions shown on the same screen share one capture.
+     *
+     * @param regions         the regions to read, with the settings for each one
+     * @param maxRetries      maximum number of OCR attempts
+     * @param delayMs         delay in milliseconds between attempts
+     * @param successPredicate predicate to determine whether the recognized text
+     *                        constitutes a successful read
+     * @param converter       function to convert the recognized text into the return type {@code T}
+     * @return the converted value for each region, in iteration order of {@code regions};
+     *         regions that never succeed map to {@code null}
+     */
+    public Map<DTOArea, T> executeAll(Map<DTOArea, DTOTesseractSettings> regions,
+                                      int maxRetries,
+                                      long delayMs,
+                                      Predicate<String> successPredicate,
+                                      Function<String, T> converter) {
+        Map<DTOArea, T> converted = new LinkedHashMap<>();
+        Map<DTOArea, DTOTesseractSettings> pending = new LinkedHashMap<>(regions);
+
+        for (int attempt = 0; attempt < maxRetries && !pending.isEmpty(); attempt++) {
+            logger.debug("Performing OCR on {} regions (attempt {} of {})", pending.size(), attempt + 1, maxRetries);
+            try {
+                Map<DTOArea, String> raw = textRecognitionProvider.ocrRegions(pending);
+                raw.forEach((area, text) -> {
+                    if (text != null && successPredicate.test(text)) {
+                        converted.put(area, converter.apply(text));
+                        pending.remove(area);
+                    }
+                });
+            } catch (IOException | TesseractException | RuntimeException e) {
+                logger.warn("OCR attempt {} threw an exception: {}", attempt + 1, e.getMessage());
+            }
+
+            if (!pending.isEmpty() && attempt < maxRetries - 1) {
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        Map<DTOArea, T> results = new LinkedHashMap<>();
+        regions.keySet().forEach(area -> results.put(area, converted.get(area)));
+        return results;
+    }
+
+    /**
+     * Reads several regions at once using the same settings.
+     *
+     * @see #executeAll(Map, int, long, Predicate, Function)
+     */
+    public Map<DTOArea, T> executeAll(List<DTOArea> areas,
+                                      int maxRetries,
+                                      long delayMs,
+                                      DTOTesseractSettings settings,
+                                      Predicate<String> successPredicate,
+                                      Function<String, T> converter) {
+        Map<DTOArea, DTOTesseractSettings> regions = new LinkedHashMap<>();
+        areas.forEach(area -> regions.put(area, settings));
+        return executeAll(regions, maxRetries, delayMs, successPredicate, converter);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,391 @@
+package cl.camodev.wosbot.logging;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cl.camodev.wosbot.ot.DTOProfiles;
+
+/**
+ * Background writer of the per-profile log files.
+ * <p>
+ * Logging threads only append entries to a bounded ring buffer; a single writer thread drains it
+ * in batches, formats the lines and writes them to the profile files, flushing once per batch.
+ * The ring has many producers and one consumer: producers claim a slot by advancing the tail
+ * with a CAS and publish the entry into it, the writer takes published entries in order and
+ * frees their slots. When the ring is full, {@link ProfileLogger.OverflowPolicy} decides whether
+ * the caller waits or the entry is dropped.
+ * <p>
+ * The writer counts the bytes written to every file and rotates it once it grows past the
+ * size limit, so the file size is never queried while logging.
+ */
+final class ProfileLogWriter {
+
+    private static final Logger mainLogger = LoggerFactory.getLogger(ProfileLogWriter.class);
+
+    private static final int CAPACITY = 8192;
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private static final long MAX_LOG_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int MAX_BACKUP_FILES = 5;
+    private static final String LOG_DIRECTORY = "log";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter FILE_NAME_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final Charset CHARSET = Charset.defaultCharset();
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(CHARSET);
+
+    /**
+     * A log line, or a request to close all files when {@code closed} is set.
+     */
+    private record Entry(DTOProfiles profile, long timestamp, String level, String className, String message,
+            Throwable throwable, CountDownLatch closed) {
+    }
+
+    private static final class LogFile {
+        private final File file;
+        private OutputStream out;
+        private long bytes;
+
+        private LogFile(File file) {
+            this.file = file;
+        }
+    }
+
+    private final AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong droppedEntries = new AtomicLong();
+    private volatile long head;
+    private volatile boolean writerParked;
+    private volatile ProfileLogger.OverflowPolicy overflowPolicy;
+    private final Thread writer;
+
+    // Only touched by the writer thread
+    private final Map<Long, LogFile> files = new HashMap<>();
+
+    ProfileLogWriter(ProfileLogger.OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+        this.writer = new Thread(this::run, "profile-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    void setOverflowPolicy(ProfileLogger.OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Queues a line for the profile's log file.
+     */
+    void append(DTOProfiles profile, String level, String className, String message, Throwable throwable) {
+        Entry entry = new Entry(profile, System.currentTimeMillis(), level, className, message, throwable, null);
+        offer(entry, overflowPolicy == ProfileLogger.OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Writes every queued line and closes the files, waiting at most the given time.
+     * Files are opened again by the next line logged.
+     *
+     * @return true if everything was written in time
+     */
+    boolean closeAll(long timeoutMs) {
+        CountDownLatch closed = new CountDownLatch(1);
+        offer(new Entry(null, 0, null, null, null, null, closed), true);
+        try {
+            return closed.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void offer(Entry entry, boolean block) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head >= CAPACITY) {
+                if (!block || Thread.currentThread() == writer) {
+                    droppedEntries.incrementAndGet();
+                    return;
+                }
+                wakeWriter();
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+                continue;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.set((int) (claimed & MASK), entry);
+                wakeWriter();
+                return;
+            }
+        }
+    }
+
+    private void wakeWriter() {
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                if (drain() == 0) {
+                    writerParked = true;
+                    // Recheck after announcing the park, an entry may have been published meanwhile
+                    if (slots.get((int) (head & MASK)) == null) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    writerParked = false;
+                }
+            } catch (RuntimeException e) {
+                mainLogger.error("Unexpected error while writing profile logs", e);
+            }
+        }
+    }
+
+    /**
+     * Writes every published entry and flushes the files written to.
+     *
+     * @return the number of entries taken from the ring
+     */
+    private int drain() {
+        int drained = 0;
+        Map<Long, LogFile> written = new HashMap<>();
+        long position = head;
+        Entry entry;
+        while ((entry = slots.get((int) (position & MASK))) != null) {
+            slots.set((int) (position & MASK), null);
+            head = ++position;
+            drained++;
+
+            if (entry.closed() != null) {
+                flush(written);
+                written.clear();
+                closeFiles();
+                entry.closed().countDown();
+                continue;
+            }
+            LogFile logFile = write(entry);
+            if (logFile != null) {
+                written.put(entry.profile().getId(), logFile);
+            }
+        }
+        flush(written);
+
+        long dropped = droppedEntries.getAndSet(0);
+        if (dropped > 0) {
+            mainLogger.warn("Profile log buffer was full, {} lines were dropped", dropped);
+        }
+        return drained;
+    }
+
+    private LogFile write(Entry entry) {
+        DTOProfiles profile = entry.profile();
+        try {
+            LogFile logFile = files.get(profile.getId());
+            if (logFile == null) {
+                logFile = open(profile);
+            } else if (logFile.bytes > MAX_LOG_FILE_SIZE) {
+                logFile.out.close();
+                rotateLogFile(logFile.file);
+                files.remove(profile.getId());
+                logFile = open(profile);
+            }
+            writeLine(logFile, formatLogMessage(entry));
+            if (entry.throwable() != null) {
+                StringWriter stackTrace = new StringWriter();
+                entry.throwable().printStackTrace(new PrintWriter(stackTrace));
+                writeText(logFile, stackTrace.toString());
+            }
+            return logFile;
+        } catch (IOException e) {
+            mainLogger.error("Failed to write log file for profile " + profile.getName(), e);
+            LogFile broken = files.remove(profile.getId());
+            if (broken != null) {
+                closeQuietly(broken);
+            }
+            return null;
+        }
+    }
+
+    private LogFile open(DTOProfiles profile) throws IOException {
+        File directory = new File(LOG_DIRECTORY);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Failed to create log directory " + directory.getAbsolutePath());
+        }
+        File file = new File(directory,
+                "profile_" + sanitizeFileName(profile.getName()) + "_" + profile.getId() + ".log");
+        if (file.length() > MAX_LOG_FILE_SIZE) {
+            rotateLogFile(file);
+        }
+
+        LogFile logFile = new LogFile(file);
+        logFile.bytes = file.length();
+        logFile.out = new BufferedOutputStream(new FileOutputStream(file, true), 64 * 1024);
+        files.put(profile.getId(), logFile);
+
+        writeLine(logFile, "==========================================================");
+        writeLine(logFile, "Profile Log Started: " + DATE_FORMAT.format(LocalDateTime.now()));
+        writeLine(logFile, "Profile: " + profile.getName() + " (ID: " + profile.getId() + ")");
+        writeLine(logFile, "Emulator: " + profile.getEmulatorNumber());
+        writeLine(logFile, "==========================================================");
+        return logFile;
+    }
+
+    private static void writeLine(LogFile logFile, String line) throws IOException {
+        byte[] bytes = line.getBytes(CHARSET);
+        logFile.out.write(bytes);
+        logFile.out.write(LINE_SEPARATOR);
+        logFile.bytes += bytes.length + LINE_SEPARATOR.length;
+    }
+
+    private static void writeText(LogFile logFile, String text) throws IOException {
+        byte[] bytes = text.getBytes(CHARSET);
+        logFile.out.write(bytes);
+        logFile.bytes += bytes.length;
+    }
+
+    private void flush(Map<Long, LogFile> written) {
+        for (LogFile logFile : written.values()) {
+            try {
+                logFile.out.flush();
+            } catch (IOException e) {
+                mainLogger.error("Failed to flush log file " + logFile.file.getName(), e);
+            }
+        }
+    }
+
+    private void closeFiles() {
+        for (LogFile logFile : files.values()) {
+            closeQuietly(logFile);
+        }
+        files.clear();
+    }
+
+    private static void closeQuietly(LogFile logFile) {
+        try {
+            logFile.out.close();
+        } catch (IOException e) {
+            mainLogger.warn("Failed to close log file " + logFile.file.getName(), e);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long timestamp) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault());
+    }
+
+    /**
+     * Format a log message with a timestamp and class name
+     */
+    private static String formatLogMessage(Entry entry) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(DATE_FORMAT.format(toLocalDateTime(entry.timestamp())));
+        sb.append(" [").append(entry.level()).append("] ");
+        sb.append(entry.className()).append(" - ");
+        sb.append(entry.message());
+        return sb.toString();
+    }
+
+    /**
+     * Rotate the log file by compressing it and creating a new one
+     *
+     * @param logFile The log file to rotate
+     * @throws IOException If an error occurs during rotation
+     */
+    private static void rotateLogFile(File logFile) throws IOException {
+        String logFileName = logFile.getName();
+        String logBaseName = logFileName.substring(0, logFileName.lastIndexOf('.'));
+        String date = FILE_NAME_DATE_FORMAT.format(LocalDate.now());
+
+        // Find the next available index
+        int index = 0;
+        boolean indexFound = false;
+
+        while (!indexFound && index < MAX_BACKUP_FILES) {
+            File backupFile = new File(logFile.getParent(), logBaseName + "." + date + "." + index + ".gz");
+            if (!backupFile.exists()) {
+                indexFound = true;
+            } else {
+                index++;
+            }
+        }
+
+        // If we've reached max backups, delete oldest one based on name
+        if (!indexFound) {
+            File[] backupFiles = logFile.getParentFile().listFiles((dir, name) ->
+                name.startsWith(logBaseName) && name.endsWith(".gz"));
+
+            if (backupFiles != null && backupFiles.length > 0) {
+                // Sort by name to find oldest (assuming date-based naming)
+                File oldestFile = backupFiles[0];
+                for (File file : backupFiles) {
+                    if (file.getName().compareTo(oldestFile.getName()) < 0) {
+                        oldestFile = file;
+                    }
+                }
+
+                if (!oldestFile.delete()) {
+                    mainLogger.warn("Failed to delete oldest backup file: " + oldestFile.getAbsolutePath());
+                }
+            }
+
+            // Reset index to 0
+            index = 0;
+        }
+
+        // Create backup file with gzip compression
+        File backupFile = new File(logFile.getParent(), logBaseName + "." + date + "." + index + ".gz");
+
+        try (FileInputStream fis = new FileInputStream(logFile);
+             BufferedInputStream bis = new BufferedInputStream(fis);
+             FileOutputStream fos = new FileOutputStream(backupFile);
+             GZIPOutputStream gzos = new GZIPOutputStream(new BufferedOutputStream(fos))) {
+
+            byte[] buffer = new byte[8192];
+            int len;
+            while ((len = bis.read(buffer)) > 0) {
+                gzos.write(buffer, 0, len);
+            }
+        }
+
+        // Clear the original log file
+        new FileOutputStream(logFile, false).close();
+    }
+
+    /**
+     * Sanitize a file name to remove invalid characters
+     *
+     * @param fileName The file name to sanitize
+     * @return The sanitized file name
+     */
+    private static String sanitizeFileName(String fileName) {
+        if (fileName == null) {
+            return "unknown";
+        }
+        return fileName.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+}
@@ -5,35 +5,32 @@ import org.slf4j.LoggerFactory;
 
 import cl.camodev.wosbot.ot.DTOProfiles;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.zip.GZIPOutputStream;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import java.util.Locale;
 
 /**
  * ProfileLogger - A wrapper for SLF4J that creates separate log files for each profile
  * This class adds profile-specific logging capability without modifying the existing logging configuration
+ * Profile file lines are queued and written by a single background thread, see {@link ProfileLogWriter}
  */
 public class ProfileLogger {
     private static final Logger mainLogger = LoggerFactory.getLogger(ProfileLogger.class);
-    private static final Map<Long, PrintWriter> profileLogWriters = new ConcurrentHashMap<>();
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-    private static final SimpleDateFormat fileNameDateFormat = new SimpleDateFormat("yyyy-MM-dd");
-    
-    // Log rotation settings
-    private static final long MAX_LOG_FILE_SIZE = 10 * 1024 * 1024; // 10MB
-    private static final int MAX_BACKUP_FILES = 5;
+
+    /**
+     * What logging threads do when the profile log buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait until the writer has made room, no line is lost. */
+        BLOCK,
+        /** Drop the profile file line; it is still logged through SLF4J. */
+        DROP
+    }
+
+    /** System property selecting the {@link OverflowPolicy}, BLOCK by default. */
+    public static final String OVERFLOW_POLICY_PROPERTY = "wos.profilelog.overflow";
+
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    private static final ProfileLogWriter profileLogWriter = new ProfileLogWriter(readOverflowPolicy());
     
     private final Logger logger;
     private final DTOProfiles profile;
@@ -49,22 +46,6 @@ public class ProfileLogger {
         this.logger = LoggerFactory.getLogger(clazz);
         this.profile = profile;
         this.className = clazz.getSimpleName();
-        
-        // Ensure log directory exists
-        try {
-            Files.createDirectories(Paths.get("log"));
-        } catch (IOException e) {
-            mainLogger.error("Failed to create log directory", e);
-        }
-        
-        // Initialize profile log writer if needed
-        if (profile != null && !profileLogWriters.containsKey(profile.getId())) {
-            try {
-                initializeProfileLogWriter(profile);
-            } catch (IOException e) {
-                mainLogger.error("Failed to initialize log writer for profile " + profile.getName(), e);
-            }
-        }
     }
     
     /**
@@ -77,132 +58,31 @@ public class ProfileLogger {
     }
     
     /**
-     * Initialize a log writer for a profile
+     * Changes what logging threads do when the profile log buffer is full
      * 
-     * @param profile The profile to initialize a log writer for
-     * @throws IOException If the log file cannot be created
+     * @param overflowPolicy The policy to apply from now on
      */
-    private synchronized void initializeProfileLogWriter(DTOProfiles profile) throws IOException {
-        if (profileLogWriters.containsKey(profile.getId())) {
-            return;
-        }
-        
-        String sanitizedProfileName = sanitizeFileName(profile.getName());
-        String logFilePath = "log/profile_" + sanitizedProfileName + "_" + profile.getId() + ".log";
-        
-        File logFile = new File(logFilePath);
-        
-        // Check if log file exists and needs to be rotated
-        if (logFile.exists() && logFile.length() > MAX_LOG_FILE_SIZE) {
-            rotateLogFile(logFile);
-        } else if (!logFile.exists()) {
-            logFile.createNewFile();
-        }
-        
-        PrintWriter writer = new PrintWriter(new FileWriter(logFile, true), true);
-        profileLogWriters.put(profile.getId(), writer);
-        
-        // Write header to log file
-        writer.println("==========================================================");
-        writer.println("Profile Log Started: " + dateFormat.format(new Date()));
-        writer.println("Profile: " + profile.getName() + " (ID: " + profile.getId() + ")");
-        writer.println("Emulator: " + profile.getEmulatorNumber());
-        writer.println("==========================================================");
+    public static void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        profileLogWriter.setOverflowPolicy(overflowPolicy);
     }
     
-    /**
-     * Rotate the log file by compressing it and creating a new one
-     * 
-     * @param logFile The log file to rotate
-     * @throws IOException If an error occurs during rotation
-     */
-    private void rotateLogFile(File logFile) throws IOException {
-        String logFileName = logFile.getName();
-        String logBaseName = logFileName.substring(0, logFileName.lastIndexOf('.'));
-        String date = fileNameDateFormat.format(new Date());
-        
-        // Find the next available index
-        int index = 0;
-        boolean indexFound = false;
-        
-        while (!indexFound && index < MAX_BACKUP_FILES) {
-            File backupFile = new File(logFile.getParent(), logBaseName + "." + date + "." + index + ".gz");
-            if (!backupFile.exists()) {
-                indexFound = true;
-            } else {
-                index++;
-            }
-        }
-        
-        // If we've reached max backups, delete oldest one based on name
-        if (!indexFound) {
-            File[] backupFiles = logFile.getParentFile().listFiles((dir, name) -> 
-                name.startsWith(logBaseName) && name.endsWith(".gz"));
-            
-            if (backupFiles != null && backupFiles.length > 0) {
-                // Sort by name to find oldest (assuming date-based naming)
-                File oldestFile = backupFiles[0];
-                for (File file : backupFiles) {
-                    if (file.getName().compareTo(oldestFile.getName()) < 0) {
-                        oldestFile = file;
-                    }
-                }
-                
-                if (!oldestFile.delete()) {
-                    mainLogger.warn("Failed to delete oldest backup file: " + oldestFile.getAbsolutePath());
-                }
-            }
-            
-            // Reset index to 0
-            index = 0;
-        }
-        
-        // Create backup file with gzip compression
-        File backupFile = new File(logFile.getParent(), logBaseName + "." + date + "." + index + ".gz");
-        
-        try (FileInputStream fis = new FileInputStream(logFile);
-             BufferedInputStream bis = new BufferedInputStream(fis);
-             FileOutputStream fos = new FileOutputStream(backupFile);
-             GZIPOutputStream gzos = new GZIPOutputStream(new BufferedOutputStream(fos))) {
-            
-            byte[] buffer = new byte[8192];
-            int len;
-            while ((len = bis.read(buffer)) > 0) {
-                gzos.write(buffer, 0, len);
-            }
+    private static OverflowPolicy readOverflowPolicy() {
+        String value = System.getProperty(OVERFLOW_POLICY_PROPERTY, OverflowPolicy.BLOCK.name());
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            mainLogger.warn("Invalid profile log overflow policy '{}', using BLOCK", value);
+            return OverflowPolicy.BLOCK;
         }
-        
-        // Clear the original log file
-        new FileWriter(logFile, false).close();
     }
     
     /**
-     * Sanitize a file name to remove invalid characters
-     * 
-     * @param fileName The file name to sanitize
-     * @return The sanitized file name
+     * Queue a line for the profile log file, if a profile is set
      */
-    private static String sanitizeFileName(String fileName) {
-        if (fileName == null) {
-            return "unknown";
+    private void appendToProfileLog(String level, String message, Throwable throwable) {
+        if (profile != null) {
+            profileLogWriter.append(profile, level, className, message, throwable);
         }
-        return fileName.replaceAll("[^a-zA-Z0-9._-]", "_");
-    }
-    
-    /**
-     * Format a log message with a timestamp and class name
-     * 
-     * @param level The log level
-     * @param message The log message
-     * @return The formatted log message
-     */
-    private String formatLogMessage(String level, String message) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(dateFormat.format(new Date()));
-        sb.append(" [").append(level).append("] ");
-        sb.append(className).append(" - ");
-        sb.append(message);
-        return sb.toString();
     }
     
     /**
@@ -215,44 +95,7 @@ public class ProfileLogger {
         logger.info(message);
         
         // Also log to the profile log file if a profile is set
-        if (profile != null) {
-            PrintWriter writer = profileLogWriters.get(profile.getId());
-            if (writer != null) {
-                checkAndRotateLogIfNeeded(profile);
-                writer.println(formatLogMessage("INFO", message));
-            }
-        }
-    }
-    
-    /**
-     * Check if the log file needs rotation and rotate if necessary
-     * 
-     * @param profile The profile to check the log file for
-     */
-    private void checkAndRotateLogIfNeeded(DTOProfiles profile) {
-        if (profile == null) return;
-        
-        String sanitizedProfileName = sanitizeFileName(profile.getName());
-        String logFilePath = "log/profile_" + sanitizedProfileName + "_" + profile.getId() + ".log";
-        File logFile = new File(logFilePath);
-        
-        if (logFile.exists() && logFile.length() > MAX_LOG_FILE_SIZE) {
-            try {
-                // Close the current writer
-                PrintWriter writer = profileLogWriters.remove(profile.getId());
-                if (writer != null) {
-                    writer.close();
-                }
-                
-                // Rotate the log file
-                rotateLogFile(logFile);
-                
-                // Create a new writer
-                initializeProfileLogWriter(profile);
-            } catch (IOException e) {
-                mainLogger.error("Failed to rotate log file for profile " + profile.getName(), e);
-            }
-        }
+        appendToProfileLog("INFO", message, null);
     }
     
     /**
@@ -265,13 +108,7 @@ public class ProfileLogger {
         logger.debug(message);
         
         // Also log to the profile log file if a profile is set
-        if (profile != null) {
-            PrintWriter writer = profileLogWriters.get(profile.getId());
-            if (writer != null) {
-                checkAndRotateLogIfNeeded(profile);
-                writer.println(formatLogMessage("DEBUG", message));
-            }
-        }
+        appendToProfileLog("DEBUG", message, null);
     }
     
     /**
@@ -284,13 +121,7 @@ public class ProfileLogger {
         logger.warn(message);
         
         // Also log to the profile log file if a profile is set
-        if (profile != null) {
-            PrintWriter writer = profileLogWriters.get(profile.getId());
-            if (writer != null) {
-                checkAndRotateLogIfNeeded(profile);
-                writer.println(formatLogMessage("WARN", message));
-            }
-        }
+        appendToProfileLog("WARN", message, null);
     }
     
     /**
@@ -303,13 +134,7 @@ public class ProfileLogger {
         logger.error(message);
         
         // Also log to the profile log file if a profile is set
-        if (profile != null) {
-            PrintWriter writer = profileLogWriters.get(profile.getId());
-            if (writer != null) {
-                checkAndRotateLogIfNeeded(profile);
-                writer.println(formatLogMessage("ERROR", message));
-            }
-        }
+        appendToProfileLog("ERROR", message, null);
     }
     
     /**
@@ -323,24 +148,16 @@ public class ProfileLogger {
         logger.error(message, throwable);
         
         // Also log to the profile log file if a profile is set
-        if (profile != null) {
-            PrintWriter writer = profileLogWriters.get(profile.getId());
-            if (writer != null) {
-                checkAndRotateLogIfNeeded(profile);
-                writer.println(formatLogMessage("ERROR", message));
-                throwable.printStackTrace(writer);
-            }
-        }
+        appendToProfileLog("ERROR", message, throwable);
     }
     
     /**
      * Close all log writers
-     * This should be called when the application is shutting down
+     * Writes the queued lines first; this should be called when the application is shutting down
      */
     public static void closeAllLogWriters() {
-        for (PrintWriter writer : profileLogWriters.values()) {
-            writer.close();
+        if (!profileLogWriter.closeAll(CLOSE_TIMEOUT_MS)) {
+            mainLogger.warn("Profile logs were not fully written within {} ms", CLOSE_TIMEOUT_MS);
         }
-        profileLogWriters.clear();
     }
 }
\ No newline at end of file